@@ -0,0 +1,108 @@
+package org.jhipster.task.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Compares writing posts to a response with Jackson against copying their JSON from {@link PostsJsonCache}, for a
+ * single post as served by {@code GET /api/posts/:id} and for a batch of posts as written by the export.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostsJsonBenchmark {
+
+    private static final int BATCH_SIZE = 20;
+
+    private static final String PARAGRAPH =
+        "Wir freuen uns über deinen Start bei uns. In den ersten Wochen lernst du das Team, die Werkzeuge und unsere " +
+        "Abläufe kennen, und arbeitest gemeinsam mit deiner Mentorin an deinem ersten Projekt.\n";
+
+    @Param({ "1024", "16384", "131072" })
+    private int contentLength;
+
+    private ObjectWriter postsWriter;
+
+    private PostsJsonCache postsJsonCache;
+
+    private List<Posts> batch;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        postsWriter = objectMapper.writerFor(Posts.class);
+        postsJsonCache = new PostsJsonCache(new ConcurrentMapCacheManager(PostsJsonCache.POSTS_JSON_CACHE), objectMapper);
+        String content = PARAGRAPH.repeat(contentLength / PARAGRAPH.length() + 1).substring(0, contentLength);
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= BATCH_SIZE; id++) {
+            Posts posts = new Posts()
+                .id(id)
+                .version(1L)
+                .title("Willkommen bei Frankford IT " + id)
+                .slug("willkommen-frankford-it-" + id)
+                .content(content)
+                .publishedAt(Instant.parse("2025-09-18T08:00:00Z"))
+                .status(PostStatus.PUBLISHED)
+                .authorLogin("sophie");
+            postsJsonCache.toJson(posts);
+            batch.add(posts);
+        }
+    }
+
+    @Benchmark
+    public int singleWithJackson() throws IOException {
+        out.reset();
+        postsWriter.writeValue(out, batch.get(0));
+        return out.size();
+    }
+
+    @Benchmark
+    public int singleFromCache() throws IOException {
+        out.reset();
+        out.write(postsJsonCache.toJson(batch.get(0)));
+        return out.size();
+    }
+
+    @Benchmark
+    public int batchWithJackson() throws IOException {
+        out.reset();
+        for (Posts posts : batch) {
+            postsWriter.writeValue(out, posts);
+            out.write('\n');
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public int batchFromCache() throws IOException {
+        out.reset();
+        for (Posts posts : batch) {
+            out.write(postsJsonCache.toJson(posts));
+            out.write('\n');
+        }
+        return out.size();
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 import org.jhipster.task.config.ApplicationProperties;
 import org.jhipster.task.config.CRLFLogConverter;
+import org.jhipster.task.service.CacheWarmup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
@@ -16,6 +17,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.h2.H2ConsoleAutoConfiguration;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.Environment;
 import tech.jhipster.config.DefaultProfileUtil;
 import tech.jhipster.config.JHipsterConstants;
@@ -68,11 +70,11 @@ public class TaskApp {
     public static void main(String[] args) {
         SpringApplication app = new SpringApplication(TaskApp.class);
         DefaultProfileUtil.addDefaultProfile(app);
-        Environment env = app.run(args).getEnvironment();
-        logApplicationStartup(env);
+        ConfigurableApplicationContext context = app.run(args);
+        logApplicationStartup(context.getEnvironment(), context.getBean(CacheWarmup.class).getResult());
     }
 
-    private static void logApplicationStartup(Environment env) {
+    private static void logApplicationStartup(Environment env, CacheWarmup.Result cacheWarmup) {
         String protocol = Optional.ofNullable(env.getProperty("server.ssl.key-store")).map(key -> "https").orElse("http");
         String applicationName = env.getProperty("spring.application.name");
         String serverPort = env.getProperty("server.port");
@@ -94,6 +96,7 @@ public class TaskApp {
             \tLocal: \t\t{}://localhost:{}{}
             \tExternal: \t{}://{}:{}{}
             \tProfile(s): \t{}
+            \tCache warm-up: \t{}
             ----------------------------------------------------------""",
             applicationName,
             protocol,
@@ -103,7 +106,8 @@ public class TaskApp {
             hostAddress,
             serverPort,
             contextPath,
-            env.getActiveProfiles().length == 0 ? env.getDefaultProfiles() : env.getActiveProfiles()
+            env.getActiveProfiles().length == 0 ? env.getDefaultProfiles() : env.getActiveProfiles(),
+            cacheWarmup == null ? "disabled" : cacheWarmup
         );
     }
 }
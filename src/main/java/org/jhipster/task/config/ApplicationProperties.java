@@ -1,6 +1,12 @@
 package org.jhipster.task.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Properties specific to Task.
@@ -13,12 +19,42 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Posts posts = new Posts();
+
+    private final Cache cache = new Cache();
+
+    private final Datasource datasource = new Datasource();
+
+    private final Async async = new Async();
+
+    private final MailOutbox mailOutbox = new MailOutbox();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Posts getPosts() {
+        return posts;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Datasource getDatasource() {
+        return datasource;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public MailOutbox getMailOutbox() {
+        return mailOutbox;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +69,681 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Posts {
+
+        private final Pagination pagination = new Pagination();
+
+        private final BulkImport bulkImport = new BulkImport();
+
+        private final IdGeneration idGeneration = new IdGeneration();
+
+        private final Search search = new Search();
+
+        private final Latest latest = new Latest();
+
+        public Pagination getPagination() {
+            return pagination;
+        }
+
+        public BulkImport getBulkImport() {
+            return bulkImport;
+        }
+
+        public IdGeneration getIdGeneration() {
+            return idGeneration;
+        }
+
+        public Search getSearch() {
+            return search;
+        }
+
+        public Latest getLatest() {
+            return latest;
+        }
+
+        public static class Pagination {
+
+            private int defaultLimit = 20;
+
+            private int maxLimit = 100;
+
+            public int getDefaultLimit() {
+                return defaultLimit;
+            }
+
+            public void setDefaultLimit(int defaultLimit) {
+                this.defaultLimit = defaultLimit;
+            }
+
+            public int getMaxLimit() {
+                return maxLimit;
+            }
+
+            public void setMaxLimit(int maxLimit) {
+                this.maxLimit = maxLimit;
+            }
+        }
+
+        public static class BulkImport {
+
+            private int chunkSize = 500;
+
+            public int getChunkSize() {
+                return chunkSize;
+            }
+
+            public void setChunkSize(int chunkSize) {
+                this.chunkSize = chunkSize;
+            }
+        }
+
+        public static class IdGeneration {
+
+            private int allocationSize = 50;
+
+            private String optimizer = "pooled-lo";
+
+            public int getAllocationSize() {
+                return allocationSize;
+            }
+
+            public void setAllocationSize(int allocationSize) {
+                this.allocationSize = allocationSize;
+            }
+
+            public String getOptimizer() {
+                return optimizer;
+            }
+
+            public void setOptimizer(String optimizer) {
+                this.optimizer = optimizer;
+            }
+        }
+
+        public static class Search {
+
+            private String directory;
+
+            private Duration commitInterval = Duration.ofSeconds(10);
+
+            public String getDirectory() {
+                return directory;
+            }
+
+            public void setDirectory(String directory) {
+                this.directory = directory;
+            }
+
+            public Duration getCommitInterval() {
+                return commitInterval;
+            }
+
+            public void setCommitInterval(Duration commitInterval) {
+                this.commitInterval = commitInterval;
+            }
+        }
+
+        public static class Latest {
+
+            private int capacity = 100;
+
+            public int getCapacity() {
+                return capacity;
+            }
+
+            public void setCapacity(int capacity) {
+                this.capacity = capacity;
+            }
+        }
+    }
+
+    public static class Cache {
+
+        private String diskPath = "cache";
+
+        private boolean statistics;
+
+        private final Invalidation invalidation = new Invalidation();
+
+        private final Warmup warmup = new Warmup();
+
+        /**
+         * How long a lookup waits for a concurrent lookup of the same key before loading it itself.
+         */
+        private Duration loadTimeout = Duration.ofSeconds(5);
+
+        private final RefreshAhead refreshAhead = new RefreshAhead();
+
+        private final NegativeLookups negativeLookups = new NegativeLookups();
+
+        /**
+         * Tiers and expiry by cache name. Caches not listed keep the entries and time to live of
+         * {@code jhipster.cache.ehcache}.
+         */
+        private final Map<String, Region> regions = new LinkedHashMap<>();
+
+        public String getDiskPath() {
+            return diskPath;
+        }
+
+        public void setDiskPath(String diskPath) {
+            this.diskPath = diskPath;
+        }
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public boolean isStatistics() {
+            return statistics;
+        }
+
+        public void setStatistics(boolean statistics) {
+            this.statistics = statistics;
+        }
+
+        public Invalidation getInvalidation() {
+            return invalidation;
+        }
+
+        public Warmup getWarmup() {
+            return warmup;
+        }
+
+        public Duration getLoadTimeout() {
+            return loadTimeout;
+        }
+
+        public void setLoadTimeout(Duration loadTimeout) {
+            this.loadTimeout = loadTimeout;
+        }
+
+        public RefreshAhead getRefreshAhead() {
+            return refreshAhead;
+        }
+
+        public NegativeLookups getNegativeLookups() {
+            return negativeLookups;
+        }
+
+        /**
+         * The time to live of the entries of a cache.
+         *
+         * @param name the name of the cache.
+         * @param defaultTimeToLive the time to live of the caches not listed in {@link #getRegions()}.
+         * @return the time to live, or {@code null} if the entries expire once they aren't read for a while.
+         */
+        public Duration timeToLive(String name, Duration defaultTimeToLive) {
+            Region region = regions.get(name);
+            if (region == null || (region.getTimeToLive() == null && region.getTimeToIdle() == null)) {
+                return defaultTimeToLive;
+            }
+            return region.getTimeToLive();
+        }
+
+        public static class Invalidation {
+
+            /**
+             * How evictions reach the other instances: {@code jdbc} through the shared database, {@code in-memory} between
+             * the application contexts of a single JVM, or {@code none}.
+             */
+            private String transport = "jdbc";
+
+            private Duration pollInterval = Duration.ofSeconds(1);
+
+            private Duration grace = Duration.ofMinutes(1);
+
+            private Duration retention = Duration.ofHours(1);
+
+            public String getTransport() {
+                return transport;
+            }
+
+            public void setTransport(String transport) {
+                this.transport = transport;
+            }
+
+            public Duration getPollInterval() {
+                return pollInterval;
+            }
+
+            public void setPollInterval(Duration pollInterval) {
+                this.pollInterval = pollInterval;
+            }
+
+            public Duration getGrace() {
+                return grace;
+            }
+
+            public void setGrace(Duration grace) {
+                this.grace = grace;
+            }
+
+            public Duration getRetention() {
+                return retention;
+            }
+
+            public void setRetention(Duration retention) {
+                this.retention = retention;
+            }
+        }
+
+        public static class Warmup {
+
+            private boolean enabled = true;
+
+            private int users = 500;
+
+            private int posts = 200;
+
+            private int batchSize = 100;
+
+            private Duration timeout = Duration.ofMinutes(1);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getUsers() {
+                return users;
+            }
+
+            public void setUsers(int users) {
+                this.users = users;
+            }
+
+            public int getPosts() {
+                return posts;
+            }
+
+            public void setPosts(int posts) {
+                this.posts = posts;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public Duration getTimeout() {
+                return timeout;
+            }
+
+            public void setTimeout(Duration timeout) {
+                this.timeout = timeout;
+            }
+        }
+
+        public static class RefreshAhead {
+
+            /**
+             * Entries read within this time of their expiry are reloaded in the background, zero disables the refreshes.
+             */
+            private Duration window = Duration.ofMinutes(5);
+
+            private int maxTracked = 10_000;
+
+            public Duration getWindow() {
+                return window;
+            }
+
+            public void setWindow(Duration window) {
+                this.window = window;
+            }
+
+            public int getMaxTracked() {
+                return maxTracked;
+            }
+
+            public void setMaxTracked(int maxTracked) {
+                this.maxTracked = maxTracked;
+            }
+        }
+
+        public static class NegativeLookups {
+
+            private boolean enabled = true;
+
+            private double falsePositiveProbability = 0.01;
+
+            /**
+             * Keys each filter is sized for at least, the filters are sized for twice the rows they are built from.
+             */
+            private int minExpectedKeys = 10_000;
+
+            private Duration rebuildInterval = Duration.ofHours(1);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public double getFalsePositiveProbability() {
+                return falsePositiveProbability;
+            }
+
+            public void setFalsePositiveProbability(double falsePositiveProbability) {
+                this.falsePositiveProbability = falsePositiveProbability;
+            }
+
+            public int getMinExpectedKeys() {
+                return minExpectedKeys;
+            }
+
+            public void setMinExpectedKeys(int minExpectedKeys) {
+                this.minExpectedKeys = minExpectedKeys;
+            }
+
+            public Duration getRebuildInterval() {
+                return rebuildInterval;
+            }
+
+            public void setRebuildInterval(Duration rebuildInterval) {
+                this.rebuildInterval = rebuildInterval;
+            }
+        }
+
+        public static class Region {
+
+            private DataSize heap;
+
+            private DataSize offHeap;
+
+            private DataSize disk;
+
+            private Duration timeToLive;
+
+            private Duration timeToIdle;
+
+            public DataSize getHeap() {
+                return heap;
+            }
+
+            public void setHeap(DataSize heap) {
+                this.heap = heap;
+            }
+
+            public DataSize getOffHeap() {
+                return offHeap;
+            }
+
+            public void setOffHeap(DataSize offHeap) {
+                this.offHeap = offHeap;
+            }
+
+            public DataSize getDisk() {
+                return disk;
+            }
+
+            public void setDisk(DataSize disk) {
+                this.disk = disk;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+
+            public Duration getTimeToIdle() {
+                return timeToIdle;
+            }
+
+            public void setTimeToIdle(Duration timeToIdle) {
+                this.timeToIdle = timeToIdle;
+            }
+        }
+    }
+
+    public static class Datasource {
+
+        /**
+         * Read replicas of {@code spring.datasource}, which serve the read-only transactions. None by default.
+         */
+        private List<Replica> replicas = new ArrayList<>();
+
+        /**
+         * Replicas further behind the primary are skipped until they catch up.
+         */
+        private Duration maxLag = Duration.ofSeconds(10);
+
+        /**
+         * How long to wait for a connection to a replica before using the primary, at least 250ms.
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+
+        private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+        /**
+         * How long the read-only transactions of a user go to the primary after their last write, 0 to disable.
+         */
+        private Duration readYourWrites = Duration.ofSeconds(5);
+
+        /**
+         * Query run on a replica to get its lag in seconds, none to consider replicas never behind.
+         */
+        private String lagQuery =
+            "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0" +
+            " else extract(epoch from now() - pg_last_xact_replay_timestamp()) end";
+
+        /**
+         * Connections open at a time when requests run on virtual threads, 0 for the maximum size of the pool.
+         */
+        private int connectionPermits;
+
+        public List<Replica> getReplicas() {
+            return replicas;
+        }
+
+        public void setReplicas(List<Replica> replicas) {
+            this.replicas = replicas;
+        }
+
+        public Duration getMaxLag() {
+            return maxLag;
+        }
+
+        public void setMaxLag(Duration maxLag) {
+            this.maxLag = maxLag;
+        }
+
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+
+        public Duration getHealthCheckInterval() {
+            return healthCheckInterval;
+        }
+
+        public void setHealthCheckInterval(Duration healthCheckInterval) {
+            this.healthCheckInterval = healthCheckInterval;
+        }
+
+        public Duration getReadYourWrites() {
+            return readYourWrites;
+        }
+
+        public void setReadYourWrites(Duration readYourWrites) {
+            this.readYourWrites = readYourWrites;
+        }
+
+        public String getLagQuery() {
+            return lagQuery;
+        }
+
+        public void setLagQuery(String lagQuery) {
+            this.lagQuery = lagQuery;
+        }
+
+        public int getConnectionPermits() {
+            return connectionPermits;
+        }
+
+        public void setConnectionPermits(int connectionPermits) {
+            this.connectionPermits = connectionPermits;
+        }
+
+        public static class Replica {
+
+            private String url;
+
+            /**
+             * The user and password of {@code spring.datasource} when not set.
+             */
+            private String username;
+
+            private String password;
+
+            public String getUrl() {
+                return url;
+            }
+
+            public void setUrl(String url) {
+                this.url = url;
+            }
+
+            public String getUsername() {
+                return username;
+            }
+
+            public void setUsername(String username) {
+                this.username = username;
+            }
+
+            public String getPassword() {
+                return password;
+            }
+
+            public void setPassword(String password) {
+                this.password = password;
+            }
+        }
+    }
+
+    /**
+     * The lanes of the task executor, the {@code spring.task.execution.pool} queue capacity being the one of the
+     * default lane.
+     */
+    public static class Async {
+
+        private int priorityQueueCapacity = 100;
+
+        private InstrumentedTaskExecutor.RejectionPolicy rejectionPolicy = InstrumentedTaskExecutor.RejectionPolicy.CALLER_RUNS;
+
+        public int getPriorityQueueCapacity() {
+            return priorityQueueCapacity;
+        }
+
+        public void setPriorityQueueCapacity(int priorityQueueCapacity) {
+            this.priorityQueueCapacity = priorityQueueCapacity;
+        }
+
+        public InstrumentedTaskExecutor.RejectionPolicy getRejectionPolicy() {
+            return rejectionPolicy;
+        }
+
+        public void setRejectionPolicy(InstrumentedTaskExecutor.RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+    }
+
+    public static class MailOutbox {
+
+        /**
+         * Emails sent per SMTP connection.
+         */
+        private int batchSize = 50;
+
+        private Duration drainInterval = Duration.ofSeconds(10);
+
+        /**
+         * How long an instance has to send the emails it claimed before the others can claim them.
+         */
+        private Duration claimTimeout = Duration.ofMinutes(5);
+
+        private int maxAttempts = 10;
+
+        private Duration initialBackoff = Duration.ofSeconds(30);
+
+        private Duration maxBackoff = Duration.ofHours(1);
+
+        /**
+         * How long the emails given up on are kept, for their error, before they are deleted.
+         */
+        private Duration failedRetention = Duration.ofDays(7);
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getDrainInterval() {
+            return drainInterval;
+        }
+
+        public void setDrainInterval(Duration drainInterval) {
+            this.drainInterval = drainInterval;
+        }
+
+        public Duration getClaimTimeout() {
+            return claimTimeout;
+        }
+
+        public void setClaimTimeout(Duration claimTimeout) {
+            this.claimTimeout = claimTimeout;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Duration getFailedRetention() {
+            return failedRetention;
+        }
+
+        public void setFailedRetention(Duration failedRetention) {
+            this.failedRetention = failedRetention;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
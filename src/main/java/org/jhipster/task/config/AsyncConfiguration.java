@@ -1,18 +1,28 @@
 package org.jhipster.task.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.Executor;
+import org.jhipster.task.config.InstrumentedTaskExecutor.Lane;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import tech.jhipster.async.ExceptionHandlingAsyncTaskExecutor;
 
 @Configuration
@@ -25,20 +35,76 @@ public class AsyncConfiguration implements AsyncConfigurer {
 
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final ApplicationProperties applicationProperties;
+
+    private final Environment env;
+
+    private final MeterRegistry meterRegistry;
+
+    public AsyncConfiguration(
+        TaskExecutionProperties taskExecutionProperties,
+        ApplicationProperties applicationProperties,
+        Environment env,
+        MeterRegistry meterRegistry
+    ) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.applicationProperties = applicationProperties;
+        this.env = env;
+        this.meterRegistry = meterRegistry;
     }
 
+    /**
+     * The executor of the {@code @Async} methods: a virtual thread per task when {@code spring.threads.virtual.enabled}
+     * is set on Java 21 or later, the default lane of the {@code spring.task.execution.pool} otherwise.
+     */
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
+        if (Threading.VIRTUAL.isActive(env)) {
+            LOG.debug("Creating Async Task Executor on virtual threads");
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(taskExecutionProperties.getThreadNamePrefix());
+            executor.setVirtualThreads(true);
+            return new ExceptionHandlingAsyncTaskExecutor(executor);
+        }
+        return new ExceptionHandlingAsyncTaskExecutor(instrumentedTaskExecutor().lane(Lane.DEFAULT));
+    }
+
+    /**
+     * The executor of the tasks which must not wait behind the others, such as sending the account emails: the priority
+     * lane of the {@code spring.task.execution.pool}. On virtual threads, no task waits for a thread and this is the
+     * {@link #getAsyncExecutor() task executor}.
+     */
+    @Bean(name = "priorityTaskExecutor")
+    public Executor priorityTaskExecutor() {
+        if (Threading.VIRTUAL.isActive(env)) {
+            return getAsyncExecutor();
+        }
+        return new ExceptionHandlingAsyncTaskExecutor(instrumentedTaskExecutor().lane(Lane.PRIORITY));
+    }
+
+    @Bean
+    @Lazy
+    public InstrumentedTaskExecutor instrumentedTaskExecutor() {
         LOG.debug("Creating Async Task Executor");
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
-        executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
-        executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
-        executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix());
-        return new ExceptionHandlingAsyncTaskExecutor(executor);
+        TaskExecutionProperties.Pool pool = taskExecutionProperties.getPool();
+        TaskExecutionProperties.Shutdown shutdown = taskExecutionProperties.getShutdown();
+        return new InstrumentedTaskExecutor(
+            taskExecutionProperties.getThreadNamePrefix(),
+            pool.getCoreSize(),
+            pool.getMaxSize(),
+            Map.of(Lane.PRIORITY, applicationProperties.getAsync().getPriorityQueueCapacity(), Lane.DEFAULT, pool.getQueueCapacity()),
+            applicationProperties.getAsync().getRejectionPolicy(),
+            shutdown.isAwaitTermination() && shutdown.getAwaitTerminationPeriod() != null
+                ? shutdown.getAwaitTerminationPeriod()
+                : Duration.ZERO,
+            meterRegistry
+        );
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor asyncTaskNamingAdvisor() {
+        return InstrumentedTaskExecutor.taskNamingAdvisor();
     }
 
     @Override
@@ -1,20 +1,53 @@
 package org.jhipster.task.config;
 
+import java.io.File;
+import java.net.URI;
 import java.time.Duration;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import javax.cache.Caching;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
+import org.ehcache.impl.serialization.PlainJavaSerializer;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.jhipster.task.service.CacheInvalidationTransport;
+import org.jhipster.task.service.InMemoryCacheInvalidationTransport;
+import org.jhipster.task.service.JdbcCacheInvalidationTransport;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.boot.info.GitProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import tech.jhipster.config.JHipsterProperties;
 import tech.jhipster.config.cache.PrefixedKeyGenerator;
 
+/**
+ * Ehcache configuration of the JCache caches, used by Spring's cache abstraction and by the Hibernate second-level cache.
+ * <p>
+ * Caches listed in {@code application.cache.regions} get their own tiers, sized in bytes, and their own expiry. Values
+ * kept off-heap or on disk are stored with Java serialization: the Hibernate regions hold the disassembled state of the
+ * entities, and the Spring caches hold {@link java.io.Serializable} entities and DTOs.
+ * <p>
+ * With {@code application.cache.statistics}, the caches and Hibernate keep statistics, which are exported to Micrometer.
+ * The number of entries in each tier of the caches is exported in any case, see {@link EhcacheTierMetrics}.
+ * <p>
+ * {@code application.cache.invalidation.transport} picks how the evictions of the
+ * {@link org.jhipster.task.service.CacheInvalidationBus} reach the other instances.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfiguration {
@@ -22,9 +55,14 @@ public class CacheConfiguration {
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
     private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private final ApplicationProperties.Cache cacheProperties;
+    private final Duration defaultTimeToLive;
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
         JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
+        cacheProperties = applicationProperties.getCache();
+        defaultTimeToLive = Duration.ofSeconds(ehcache.getTimeToLiveSeconds());
+        cacheProperties.getRegions().forEach((name, region) -> validate(name, region, cacheProperties.getDiskPath()));
 
         jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
             CacheConfigurationBuilder.newCacheConfigurationBuilder(
@@ -32,14 +70,63 @@ public class CacheConfiguration {
                 Object.class,
                 ResourcePoolsBuilder.heap(ehcache.getMaxEntries())
             )
-                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(defaultTimeToLive))
                 .build()
         );
     }
 
+    /**
+     * The JCache manager, created here rather than by Spring Boot so that disk tiers get a directory to live in.
+     */
+    @Bean
+    public javax.cache.CacheManager jCacheCacheManager(
+        ObjectProvider<JCacheManagerCustomizer> customizers,
+        EhcacheStatistics ehcacheStatistics
+    ) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        DefaultConfiguration configuration = hasDiskTier()
+            ? new DefaultConfiguration(
+                provider.getDefaultClassLoader(),
+                ehcacheStatistics.configuration(),
+                new DefaultPersistenceConfiguration(new File(cacheProperties.getDiskPath()))
+            )
+            : new DefaultConfiguration(provider.getDefaultClassLoader(), ehcacheStatistics.configuration());
+        // one manager per application context, as several contexts of one JVM must not share their caches
+        URI uri = URI.create("urn:task:cache:" + UUID.randomUUID());
+        javax.cache.CacheManager cacheManager = provider.getCacheManager(uri, configuration);
+        customizers.orderedStream().forEach(customizer -> customizer.customize(cacheManager));
+        return cacheManager;
+    }
+
     @Bean
     public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
-        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, cacheProperties.isStatistics());
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.cache.invalidation.transport", havingValue = "jdbc", matchIfMissing = true)
+    public CacheInvalidationTransport jdbcCacheInvalidationTransport(JdbcTemplate jdbcTemplate) {
+        ApplicationProperties.Cache.Invalidation invalidation = cacheProperties.getInvalidation();
+        return new JdbcCacheInvalidationTransport(jdbcTemplate, invalidation.getGrace(), invalidation.getRetention());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.cache.invalidation.transport", havingValue = "in-memory")
+    public CacheInvalidationTransport inMemoryCacheInvalidationTransport() {
+        return new InMemoryCacheInvalidationTransport();
+    }
+
+    @Bean
+    public EhcacheStatistics ehcacheStatistics() {
+        return new EhcacheStatistics();
+    }
+
+    @Bean
+    public EhcacheTierMetrics ehcacheTierMetrics(javax.cache.CacheManager cacheManager, EhcacheStatistics ehcacheStatistics) {
+        return new EhcacheTierMetrics(cacheManager, ehcacheStatistics);
     }
 
     @Bean
@@ -51,7 +138,11 @@ public class CacheConfiguration {
             createCache(cm, org.jhipster.task.domain.Authority.class.getName());
             createCache(cm, org.jhipster.task.domain.User.class.getName() + ".authorities");
             createCache(cm, org.jhipster.task.domain.Posts.class.getName());
+            createCache(cm, org.jhipster.task.service.PostsJsonCache.POSTS_JSON_CACHE);
+            createCache(cm, org.jhipster.task.service.PostsFeedCache.PUBLISHED_PAGES_CACHE);
+            createCache(cm, org.jhipster.task.service.PostsFeedCache.DRAFT_PAGES_CACHE);
             // jhipster-needle-ehcache-add-entry
+            checkRegionsExist(cm);
         };
     }
 
@@ -60,8 +151,106 @@ public class CacheConfiguration {
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            ApplicationProperties.Cache.Region region = cacheProperties.getRegions().get(cacheName);
+            cm.createCache(
+                cacheName,
+                region == null
+                    ? jcacheConfiguration
+                    : Eh107Configuration.fromEhcacheCacheConfiguration(tieredConfiguration(region, defaultTimeToLive).build())
+            );
+        }
+        cm.enableStatistics(cacheName, cacheProperties.isStatistics());
+    }
+
+    private void checkRegionsExist(javax.cache.CacheManager cm) {
+        Set<String> unknown = new TreeSet<>(cacheProperties.getRegions().keySet());
+        cm.getCacheNames().forEach(unknown::remove);
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException("application.cache.regions configures caches that don't exist: " + unknown);
+        }
+    }
+
+    private boolean hasDiskTier() {
+        return cacheProperties.getRegions().values().stream().anyMatch(region -> region.getDisk() != null);
+    }
+
+    /**
+     * Check the settings of a cache, so that a mistake fails the startup with the name of the cache and the setting.
+     */
+    static void validate(String name, ApplicationProperties.Cache.Region region, String diskPath) {
+        String prefix = "application.cache.regions." + name;
+        if (region.getHeap() == null) {
+            throw new IllegalStateException(prefix + ".heap must be set");
+        }
+        checkPositive(prefix + ".heap", region.getHeap());
+        checkPositive(prefix + ".off-heap", region.getOffHeap());
+        checkPositive(prefix + ".disk", region.getDisk());
+        DataSize below = region.getHeap();
+        if (region.getOffHeap() != null) {
+            checkLarger(prefix + ".off-heap", region.getOffHeap(), below);
+            below = region.getOffHeap();
+        }
+        if (region.getDisk() != null) {
+            checkLarger(prefix + ".disk", region.getDisk(), below);
+            if (!StringUtils.hasText(diskPath)) {
+                throw new IllegalStateException(prefix + ".disk needs application.cache.disk-path");
+            }
+        }
+        if (region.getTimeToLive() != null && region.getTimeToIdle() != null) {
+            throw new IllegalStateException(prefix + " can't set both time-to-live and time-to-idle");
+        }
+        Duration expiry = region.getTimeToLive() != null ? region.getTimeToLive() : region.getTimeToIdle();
+        if (expiry != null && (expiry.isNegative() || expiry.isZero())) {
+            throw new IllegalStateException(prefix + " must expire entries after a positive duration");
+        }
+    }
+
+    private static void checkPositive(String setting, DataSize size) {
+        if (size != null && size.toMegabytes() < 1) {
+            throw new IllegalStateException(setting + " must be at least 1MB, was " + size);
+        }
+    }
+
+    private static void checkLarger(String setting, DataSize size, DataSize below) {
+        if (size.compareTo(below) <= 0) {
+            throw new IllegalStateException(setting + " must be larger than the tier above it, was " + size + " for " + below);
+        }
+    }
+
+    /**
+     * The Ehcache configuration of a cache listed in {@code application.cache.regions}, already validated.
+     */
+    static CacheConfigurationBuilder<Object, Object> tieredConfiguration(
+        ApplicationProperties.Cache.Region region,
+        Duration defaultTimeToLive
+    ) {
+        ResourcePoolsBuilder pools = ResourcePoolsBuilder.newResourcePoolsBuilder().heap(region.getHeap().toMegabytes(), MemoryUnit.MB);
+        if (region.getOffHeap() != null) {
+            pools = pools.offheap(region.getOffHeap().toMegabytes(), MemoryUnit.MB);
+        }
+        if (region.getDisk() != null) {
+            // not persistent: entries written before a restart may be stale by the time it's done
+            pools = pools.disk(region.getDisk().toMegabytes(), MemoryUnit.MB, false);
+        }
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+            Object.class,
+            Object.class,
+            pools
+        );
+        if (region.getOffHeap() != null || region.getDisk() != null) {
+            ClassLoader classLoader = CacheConfiguration.class.getClassLoader();
+            builder = builder
+                .withKeySerializer(new PlainJavaSerializer<>(classLoader))
+                .withValueSerializer(new PlainJavaSerializer<>(classLoader));
+        }
+        if (region.getTimeToLive() != null) {
+            builder = builder.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getTimeToLive()));
+        } else if (region.getTimeToIdle() != null) {
+            builder = builder.withExpiry(ExpiryPolicyBuilder.timeToIdleExpiration(region.getTimeToIdle()));
+        } else {
+            builder = builder.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(defaultTimeToLive));
         }
+        return builder;
     }
 
     @Autowired(required = false)
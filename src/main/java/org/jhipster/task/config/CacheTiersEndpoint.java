@@ -0,0 +1,64 @@
+package org.jhipster.task.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Actuator endpoint showing the tiers and expiry each cache runs with, next to the cache names listed by
+ * {@code /management/caches}.
+ */
+@Component
+@Endpoint(id = "cachetiers")
+public class CacheTiersEndpoint {
+
+    private final javax.cache.CacheManager cacheManager;
+
+    private final ApplicationProperties.Cache cacheProperties;
+
+    private final Duration defaultTimeToLive;
+
+    public CacheTiersEndpoint(
+        javax.cache.CacheManager cacheManager,
+        ApplicationProperties applicationProperties,
+        JHipsterProperties jHipsterProperties
+    ) {
+        this.cacheManager = cacheManager;
+        this.cacheProperties = applicationProperties.getCache();
+        this.defaultTimeToLive = Duration.ofSeconds(jHipsterProperties.getCache().getEhcache().getTimeToLiveSeconds());
+    }
+
+    @ReadOperation
+    public Map<String, CacheTiers> cacheTiers() {
+        Map<String, CacheTiers> caches = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Eh107Configuration<?, ?> configuration = cacheManager.getCache(name).getConfiguration(Eh107Configuration.class);
+            ResourcePools pools = configuration.unwrap(CacheRuntimeConfiguration.class).getResourcePools();
+            Map<String, String> tiers = new LinkedHashMap<>();
+            pools.getResourceTypeSet().forEach(type -> {
+                SizedResourcePool pool = pools.getPoolForResource(type);
+                tiers.put(type.toString().toLowerCase(), pool.getSize() + " " + pool.getUnit());
+            });
+            ApplicationProperties.Cache.Region region = cacheProperties.getRegions().get(name);
+            if (region != null && region.getTimeToIdle() != null) {
+                caches.put(name, new CacheTiers(tiers, null, region.getTimeToIdle()));
+            } else if (region != null && region.getTimeToLive() != null) {
+                caches.put(name, new CacheTiers(tiers, region.getTimeToLive(), null));
+            } else {
+                caches.put(name, new CacheTiers(tiers, defaultTimeToLive, null));
+            }
+        }
+        return caches;
+    }
+
+    public record CacheTiers(Map<String, String> tiers, Duration timeToLive, Duration timeToIdle) {}
+}
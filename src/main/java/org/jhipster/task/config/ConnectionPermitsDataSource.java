@@ -0,0 +1,110 @@
+package org.jhipster.task.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Lets a bounded number of connections be open at a time, the others waiting in turn for one to close.
+ * <p>
+ * With a thread per request, the worker pool bounds how many threads wait on the connection pool. With a virtual thread
+ * per request nothing does: thousands of threads would wait in the connection pool and fail after its connection
+ * timeout. Here they queue fairly for a permit instead, and fail with a {@link SQLTransientConnectionException} when
+ * none frees up in time.
+ */
+public class ConnectionPermitsDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+
+    private final int maxPermits;
+
+    private final Duration timeout;
+
+    public ConnectionPermitsDataSource(DataSource targetDataSource, int permits, Duration timeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of connections open through this data source.
+     */
+    public int getActiveConnections() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    /**
+     * @return the number of threads waiting for a connection.
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                    "No connection available after " + timeout.toMillis() + " ms, " + permits.getQueueLength() + " threads waiting"
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionPermitsDataSource.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+                }
+        );
+    }
+}
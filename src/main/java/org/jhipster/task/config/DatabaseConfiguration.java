@@ -1,11 +1,27 @@
 package org.jhipster.task.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.id.PooledSequenceGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.h2.H2ConsoleProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -46,6 +62,108 @@ public class DatabaseConfiguration {
         return H2ConfigurationHelper.createServer(port);
     }
 
+    /**
+     * Configure the allocation of the {@link Posts} ids, see {@link PooledSequenceGenerator}.
+     *
+     * @param applicationProperties the application properties.
+     * @return the customizer adding the id generation settings.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer idGenerationHibernatePropertiesCustomizer(ApplicationProperties applicationProperties) {
+        ApplicationProperties.Posts.IdGeneration posts = applicationProperties.getPosts().getIdGeneration();
+        return hibernateProperties -> {
+            hibernateProperties.put(
+                PooledSequenceGenerator.ALLOCATION_SIZE_SETTING.formatted(Posts.SEQUENCE_NAME),
+                posts.getAllocationSize()
+            );
+            hibernateProperties.put(PooledSequenceGenerator.OPTIMIZER_SETTING.formatted(Posts.SEQUENCE_NAME), posts.getOptimizer());
+        };
+    }
+
+    /**
+     * Route the read-only transactions to the replicas of {@code application.datasource.replicas}, see
+     * {@link ReadReplicas}. Without replicas, Spring Boot configures the data source as usual.
+     * <p>
+     * The replica pools have the settings of {@code spring.datasource.hikari}, except for their connection timeout.
+     *
+     * @param dataSourceProperties the properties of the primary.
+     * @param applicationProperties the application properties.
+     * @return the primary and replica pools.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "application.datasource", name = "replicas[0].url")
+    public ReadReplicas readReplicas(DataSourceProperties dataSourceProperties, ApplicationProperties applicationProperties) {
+        ApplicationProperties.Datasource datasource = applicationProperties.getDatasource();
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(env).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        String poolName = Objects.requireNonNullElse(primary.getPoolName(), "Hikari");
+        primary.setPoolName(poolName);
+        List<DataSource> replicas = new ArrayList<>();
+        for (ApplicationProperties.Datasource.Replica replica : datasource.getReplicas()) {
+            HikariConfig config = new HikariConfig();
+            primary.copyStateTo(config);
+            config.setJdbcUrl(replica.getUrl());
+            if (replica.getUsername() != null) {
+                config.setUsername(replica.getUsername());
+                config.setPassword(replica.getPassword());
+            }
+            config.setPoolName(poolName + "-replica-" + (replicas.size() + 1));
+            config.setConnectionTimeout(datasource.getConnectionTimeout().toMillis());
+            config.setReadOnly(true);
+            // a replica that is down mustn't keep the application from starting
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new HikariDataSource(config));
+        }
+        LOG.debug("Routing read-only transactions to {} read replicas", replicas.size());
+        return new ReadReplicas(primary, replicas, datasource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "application.datasource", name = "replicas[0].url")
+    public DataSource dataSource(ReadReplicas readReplicas) {
+        return readReplicas.getDataSource();
+    }
+
+    /**
+     * Put a {@link ConnectionPermitsDataSource} in front of the data source when requests run on virtual threads, with
+     * {@code application.datasource.connection-permits} permits, or as many as the connections of the primary pool.
+     * Threads wait for a permit as long as they would for a connection of the pool.
+     *
+     * @param env the environment, to check whether virtual threads are used.
+     * @return the post-processor wrapping the data source.
+     */
+    @Bean
+    public static BeanPostProcessor connectionPermitsBeanPostProcessor(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!Threading.VIRTUAL.isActive(env) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                if (dataSource instanceof ConnectionPermitsDataSource) {
+                    return bean;
+                }
+                int permits = env.getProperty("application.datasource.connection-permits", Integer.class, 0);
+                Duration timeout = Duration.ofSeconds(30);
+                try {
+                    HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+                    if (permits <= 0) {
+                        // Hikari's default size, until the pool checks its settings
+                        permits = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : 10;
+                    }
+                    timeout = Duration.ofMillis(pool.getConnectionTimeout());
+                } catch (SQLException e) {
+                    LOG.debug("The data source {} isn't a Hikari pool", beanName);
+                }
+                if (permits <= 0) {
+                    return bean;
+                }
+                LOG.debug("Allowing {} connections at a time from the data source {}", permits, beanName);
+                return new ConnectionPermitsDataSource(dataSource, permits, timeout);
+            }
+        };
+    }
+
     private String getValidPortForH2() {
         int port = Integer.parseInt(env.getProperty("server.port"));
         if (port < 10000) {
@@ -0,0 +1,89 @@
+package org.jhipster.task.config;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.ehcache.core.spi.service.ServiceFactory;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.spi.service.Service;
+import org.ehcache.spi.service.ServiceCreationConfiguration;
+import org.ehcache.spi.service.ServiceDependencies;
+import org.ehcache.spi.service.ServiceProvider;
+
+/**
+ * The Ehcache {@link StatisticsService} of a cache manager, which counts the entries of each tier of its caches.
+ * <p>
+ * A cache manager creates its services itself and doesn't expose them: this one is handed to the cache manager through
+ * {@link #configuration()}, and gets the statistics service as a dependency when the cache manager starts.
+ */
+@ServiceDependencies(StatisticsService.class)
+public final class EhcacheStatistics implements Service {
+
+    private volatile StatisticsService statisticsService;
+
+    /**
+     * The configuration to create the cache manager with, so that it starts this service.
+     *
+     * @return the configuration.
+     */
+    public ServiceCreationConfiguration<EhcacheStatistics, Void> configuration() {
+        return new Configuration(this);
+    }
+
+    @Override
+    public void start(ServiceProvider<Service> serviceProvider) {
+        statisticsService = serviceProvider.getService(StatisticsService.class);
+    }
+
+    @Override
+    public void stop() {
+        statisticsService = null;
+    }
+
+    /**
+     * The number of entries of each tier of a cache, by tier name ({@code OnHeap}, {@code OffHeap}, {@code Disk}).
+     *
+     * @param cacheName the name of the cache.
+     * @return the number of entries, empty if the cache manager is stopped or has no such cache.
+     */
+    public Map<String, Long> mappings(String cacheName) {
+        StatisticsService statistics = statisticsService;
+        Map<String, Long> mappings = new TreeMap<>();
+        if (statistics == null) {
+            return mappings;
+        }
+        try {
+            statistics
+                .getCacheStatistics(cacheName)
+                .getTierStatistics()
+                .forEach((tier, tierStatistics) -> mappings.put(tier, tierStatistics.getMappings()));
+        } catch (IllegalArgumentException e) {
+            // the cache was removed
+        }
+        return mappings;
+    }
+
+    private record Configuration(EhcacheStatistics service) implements ServiceCreationConfiguration<EhcacheStatistics, Void> {
+        @Override
+        public Class<EhcacheStatistics> getServiceType() {
+            return EhcacheStatistics.class;
+        }
+    }
+
+    /**
+     * Registered in {@code META-INF/services}, as the cache manager looks its service factories up with a
+     * {@link java.util.ServiceLoader}. Only used by cache managers configured with {@link #configuration()}.
+     */
+    @ServiceFactory.RequiresConfiguration
+    public static class Factory implements ServiceFactory<EhcacheStatistics> {
+
+        @Override
+        public EhcacheStatistics create(ServiceCreationConfiguration<EhcacheStatistics, ?> configuration) {
+            return ((Configuration) configuration).service();
+        }
+
+        @Override
+        public Class<EhcacheStatistics> getServiceType() {
+            return EhcacheStatistics.class;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.jhipster.task.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Number of entries in each tier of the JCache caches, read from the Ehcache statistics of their cache manager.
+ * <p>
+ * Spring Boot already binds the hit, miss, put, eviction and removal counts of the caches with statistics, but not
+ * their size, which JCache doesn't expose. The tier statistics are kept by Ehcache whether the JCache statistics are
+ * enabled or not, so every cache gets its gauges.
+ */
+public class EhcacheTierMetrics implements MeterBinder {
+
+    private final javax.cache.CacheManager cacheManager;
+
+    private final EhcacheStatistics ehcacheStatistics;
+
+    public EhcacheTierMetrics(javax.cache.CacheManager cacheManager, EhcacheStatistics ehcacheStatistics) {
+        this.cacheManager = cacheManager;
+        this.ehcacheStatistics = ehcacheStatistics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String name : cacheManager.getCacheNames()) {
+            for (String tier : ehcacheStatistics.mappings(name).keySet()) {
+                Gauge.builder("cache.tier.size", ehcacheStatistics, statistics -> mappings(statistics, name, tier))
+                    .description("Number of entries in the tier of the cache")
+                    .tag("cache", name)
+                    .tag("tier", tier)
+                    .register(registry);
+            }
+        }
+    }
+
+    private static double mappings(EhcacheStatistics statistics, String cacheName, String tier) {
+        Long mappings = statistics.mappings(cacheName).get(tier);
+        return mappings == null ? Double.NaN : mappings;
+    }
+}
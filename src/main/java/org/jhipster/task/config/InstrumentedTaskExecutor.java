@@ -0,0 +1,516 @@
+package org.jhipster.task.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * A thread pool running its tasks in lanes, the tasks of the {@link Lane#PRIORITY priority} lane before the others,
+ * and measuring how long they wait and run.
+ * <p>
+ * Each lane has its own bounded queue, so that a burst of tasks in one lane can't take the room of the other. Tasks
+ * queue once the core threads are busy; when the queue of their lane is full, threads are added up to the maximum
+ * size, after which the {@link RejectionPolicy} applies.
+ * <p>
+ * The wait and run times are timed per lane and type of task. The type of a task is the {@code @Async} method it
+ * calls, named by the {@link #taskNamingAdvisor() advisor}, or else the class of the task.
+ */
+public class InstrumentedTaskExecutor implements DisposableBean {
+
+    public static final String WAIT_METER_NAME = "executor.tasks.wait";
+
+    public static final String RUN_METER_NAME = "executor.tasks.run";
+
+    public static final String ACTIVE_METER_NAME = "executor.tasks.active";
+
+    public static final String QUEUED_METER_NAME = "executor.tasks.queued";
+
+    public static final String REJECTED_METER_NAME = "executor.tasks.rejected";
+
+    /**
+     * The task run by the current thread.
+     */
+    private static final ThreadLocal<Task> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The lanes, in the order their tasks are taken.
+     */
+    public enum Lane {
+        PRIORITY,
+        DEFAULT,
+    }
+
+    /**
+     * What happens to a task when the queue of its lane is full and all threads are busy.
+     */
+    public enum RejectionPolicy {
+        /**
+         * Run it in the thread submitting it, which slows the submitters down as long as the pool is overloaded.
+         */
+        CALLER_RUNS,
+        /**
+         * Throw a {@link TaskRejectedException}.
+         */
+        FAIL_FAST,
+    }
+
+    private final LaneQueue queue;
+
+    private final ThreadPoolExecutor executor;
+
+    private final RejectionPolicy rejectionPolicy;
+
+    private final Duration awaitTermination;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Lane, AtomicInteger> active = new EnumMap<>(Lane.class);
+
+    private final Map<Lane, Counter> rejected = new EnumMap<>(Lane.class);
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * @param threadNamePrefix the prefix of the names of the threads.
+     * @param coreSize the number of threads kept when idle.
+     * @param maxSize the maximum number of threads.
+     * @param queueCapacities the number of tasks each lane can queue.
+     * @param rejectionPolicy what happens to the tasks that can't be queued.
+     * @param awaitTermination how long to wait for the running and queued tasks on shutdown, before interrupting them.
+     * @param meterRegistry the registry of the meters.
+     */
+    public InstrumentedTaskExecutor(
+        String threadNamePrefix,
+        int coreSize,
+        int maxSize,
+        Map<Lane, Integer> queueCapacities,
+        RejectionPolicy rejectionPolicy,
+        Duration awaitTermination,
+        MeterRegistry meterRegistry
+    ) {
+        this.queue = new LaneQueue(queueCapacities);
+        this.executor = new ThreadPoolExecutor(
+            coreSize,
+            maxSize,
+            60,
+            TimeUnit.SECONDS,
+            queue,
+            new CustomizableThreadFactory(threadNamePrefix),
+            (runnable, executor) -> reject((Task) runnable, executor)
+        );
+        this.rejectionPolicy = rejectionPolicy;
+        this.awaitTermination = awaitTermination;
+        this.meterRegistry = meterRegistry;
+        for (Lane lane : Lane.values()) {
+            AtomicInteger activeTasks = new AtomicInteger();
+            active.put(lane, activeTasks);
+            Gauge.builder(ACTIVE_METER_NAME, activeTasks, AtomicInteger::get)
+                .description("Tasks running")
+                .tag("lane", tag(lane))
+                .register(meterRegistry);
+            Gauge.builder(QUEUED_METER_NAME, queue, q -> q.size(lane))
+                .description("Tasks waiting for a thread")
+                .tag("lane", tag(lane))
+                .register(meterRegistry);
+            rejected.put(
+                lane,
+                Counter.builder(REJECTED_METER_NAME)
+                    .description("Tasks submitted while the queue of their lane was full and all threads busy")
+                    .tag("lane", tag(lane))
+                    .tag("policy", rejectionPolicy.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)
+            );
+        }
+    }
+
+    /**
+     * @param lane the lane of the tasks.
+     * @return an executor submitting its tasks to the lane.
+     */
+    public AsyncTaskExecutor lane(Lane lane) {
+        return new AsyncTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                InstrumentedTaskExecutor.this.execute(new Task(task, task, lane));
+            }
+
+            @Override
+            public Future<?> submit(Runnable task) {
+                FutureTask<Object> future = new FutureTask<>(task, null);
+                InstrumentedTaskExecutor.this.execute(new Task(future, task, lane));
+                return future;
+            }
+
+            @Override
+            public <T> Future<T> submit(Callable<T> task) {
+                FutureTask<T> future = new FutureTask<>(task);
+                InstrumentedTaskExecutor.this.execute(new Task(future, task, lane));
+                return future;
+            }
+        };
+    }
+
+    /**
+     * Name the task run by the current thread, if any, for its meters.
+     *
+     * @param type the type of the task.
+     */
+    public static void nameCurrentTask(String type) {
+        Task task = CURRENT.get();
+        if (task != null) {
+            task.type = type;
+        }
+    }
+
+    /**
+     * An advisor naming the tasks of the {@code @Async} methods after their method. Spring puts the {@code @Async}
+     * interceptor before the advisors already applied to a bean, so that this one runs in the thread of the task.
+     *
+     * @return the advisor.
+     */
+    public static Advisor taskNamingAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Async.class, true)).union(
+            AnnotationMatchingPointcut.forMethodAnnotation(Async.class)
+        );
+        MethodInterceptor interceptor = invocation -> {
+            nameCurrentTask(invocation.getMethod().getDeclaringClass().getSimpleName() + "." + invocation.getMethod().getName());
+            return invocation.proceed();
+        };
+        return new DefaultPointcutAdvisor(pointcut, interceptor);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(awaitTermination.toMillis(), TimeUnit.MILLISECONDS)) {
+            for (Runnable task : executor.shutdownNow()) {
+                ((Task) task).cancel();
+            }
+        }
+    }
+
+    private void execute(Task task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            throw new TaskRejectedException("Executor [" + executor + "] did not accept task: " + task.source, e);
+        }
+    }
+
+    private void reject(Task task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Executor is shut down");
+        }
+        rejected.get(task.lane).increment();
+        switch (rejectionPolicy) {
+            case CALLER_RUNS -> task.run();
+            case FAIL_FAST -> throw new RejectedExecutionException("The " + tag(task.lane) + " lane is full");
+        }
+    }
+
+    private Timer timer(String name, String description, Lane lane, String type) {
+        return timers.computeIfAbsent(name + ':' + lane + ':' + type, key ->
+            Timer.builder(name).description(description).tag("lane", tag(lane)).tag("type", type).register(meterRegistry)
+        );
+    }
+
+    private static String tag(Lane lane) {
+        return lane.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The top-level class of a task, lambdas being named after the class declaring them.
+     */
+    private static String typeOf(Object task) {
+        String className = task.getClass().getName();
+        int lambda = className.indexOf("$$");
+        return ClassUtils.getShortName(lambda < 0 ? className : className.substring(0, lambda));
+    }
+
+    private final class Task implements Runnable {
+
+        private final Runnable runnable;
+
+        private final Object source;
+
+        private final Lane lane;
+
+        private final long queuedAt = System.nanoTime();
+
+        private volatile String type;
+
+        private Task(Runnable runnable, Object source, Lane lane) {
+            this.runnable = runnable;
+            this.source = source;
+            this.lane = lane;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            // a task rejected to its caller runs within the caller's task
+            Task caller = CURRENT.get();
+            CURRENT.set(this);
+            active.get(lane).incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                active.get(lane).decrementAndGet();
+                CURRENT.set(caller);
+                String type = this.type != null ? this.type : typeOf(source);
+                timer(WAIT_METER_NAME, "Time tasks waited for a thread", lane, type).record(
+                    startedAt - queuedAt,
+                    TimeUnit.NANOSECONDS
+                );
+                timer(RUN_METER_NAME, "Time tasks ran", lane, type).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void cancel() {
+            if (runnable instanceof Future<?> future) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * The queues of the lanes, taken from in the order of the lanes.
+     */
+    private static final class LaneQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition notEmpty = lock.newCondition();
+
+        private final Map<Lane, Deque<Task>> lanes = new EnumMap<>(Lane.class);
+
+        private final Map<Lane, Integer> capacities;
+
+        private int count;
+
+        private LaneQueue(Map<Lane, Integer> capacities) {
+            for (Lane lane : Lane.values()) {
+                lanes.put(lane, new ArrayDeque<>());
+            }
+            this.capacities = capacities;
+        }
+
+        @Override
+        public boolean offer(Runnable runnable) {
+            Task task = (Task) runnable;
+            lock.lock();
+            try {
+                Deque<Task> lane = lanes.get(task.lane);
+                if (lane.size() >= capacities.getOrDefault(task.lane, 0)) {
+                    return false;
+                }
+                lane.addLast(task);
+                count++;
+                notEmpty.signal();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * The lanes are bounded and the pool rejects what they can't take, so this never waits.
+         */
+        @Override
+        public boolean offer(Runnable runnable, long timeout, TimeUnit unit) {
+            return offer(runnable);
+        }
+
+        @Override
+        public void put(Runnable runnable) {
+            if (!offer(runnable)) {
+                throw new IllegalStateException("Lane full");
+            }
+        }
+
+        @Override
+        public Runnable poll() {
+            lock.lock();
+            try {
+                return dequeue();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+            long nanos = unit.toNanos(timeout);
+            lock.lockInterruptibly();
+            try {
+                while (count == 0) {
+                    if (nanos <= 0) {
+                        return null;
+                    }
+                    nanos = notEmpty.awaitNanos(nanos);
+                }
+                return dequeue();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Runnable take() throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                while (count == 0) {
+                    notEmpty.await();
+                }
+                return dequeue();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Runnable peek() {
+            lock.lock();
+            try {
+                for (Deque<Task> lane : lanes.values()) {
+                    if (!lane.isEmpty()) {
+                        return lane.peekFirst();
+                    }
+                }
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            lock.lock();
+            try {
+                for (Deque<Task> lane : lanes.values()) {
+                    if (lane.remove(o)) {
+                        count--;
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public int size() {
+            lock.lock();
+            try {
+                return count;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size(Lane lane) {
+            lock.lock();
+            try {
+                return lanes.get(lane).size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public int remainingCapacity() {
+            lock.lock();
+            try {
+                int remaining = 0;
+                for (Lane lane : Lane.values()) {
+                    remaining += capacities.getOrDefault(lane, 0) - lanes.get(lane).size();
+                }
+                return remaining;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public int drainTo(Collection<? super Runnable> c) {
+            return drainTo(c, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public int drainTo(Collection<? super Runnable> c, int maxElements) {
+            lock.lock();
+            try {
+                int drained = 0;
+                Runnable task;
+                while (drained < maxElements && (task = dequeue()) != null) {
+                    c.add(task);
+                    drained++;
+                }
+                return drained;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * A snapshot of the queued tasks.
+         */
+        @Override
+        public Iterator<Runnable> iterator() {
+            lock.lock();
+            try {
+                List<Runnable> tasks = new ArrayList<>(count);
+                lanes.values().forEach(tasks::addAll);
+                return tasks.iterator();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Task dequeue() {
+            for (Deque<Task> lane : lanes.values()) {
+                Task task = lane.pollFirst();
+                if (task != null) {
+                    count--;
+                    return task;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package org.jhipster.task.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.jhipster.task.repository.PrimaryReads;
+import org.jhipster.task.security.SecurityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+/**
+ * Sends the read-only transactions to the read replicas of the database, the other ones to the primary.
+ * <p>
+ * The {@link #getDataSource() data source} only gets a connection once the transaction is marked read-only or not, as
+ * a {@link LazyConnectionDataSourceProxy}. Replicas are used in turn, and checked every
+ * {@code application.datasource.health-check-interval}: a replica that can't be reached, or is more than
+ * {@code application.datasource.max-lag} behind the primary, is skipped until a check finds it usable again, and so is
+ * a replica failing to give a connection meanwhile. Without a usable replica, and until the first check, read-only
+ * transactions go to the primary.
+ * <p>
+ * For {@code application.datasource.read-your-writes} after a user commits a transaction that isn't read-only, the
+ * read-only transactions of that user go to the primary too, so that they see what was just written. Transactions that
+ * aren't read-only count as writes whether they change anything or not.
+ * <p>
+ * Read-only transactions loading what is cached for every request, within {@link PrimaryReads}, go to the primary as
+ * well, so that a replica behind the primary doesn't fill the caches with rows that already changed.
+ */
+public class ReadReplicas implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadReplicas.class);
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas = new ArrayList<>();
+
+    private final ApplicationProperties.Datasource properties;
+
+    private final LazyConnectionDataSourceProxy dataSource;
+
+    /**
+     * The {@link System#nanoTime()} of the last write of each user.
+     */
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicas(DataSource primary, List<DataSource> replicas, ApplicationProperties.Datasource properties) {
+        this.primary = primary;
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica(i + 1, replicas.get(i)));
+        }
+        this.properties = properties;
+        this.dataSource = new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primary));
+        this.dataSource.setReadOnlyDataSource(new ReadOnlyDataSource());
+    }
+
+    /**
+     * @return the data source of the application.
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Check whether each replica can be reached and how far behind it is, and forget the writes older than
+     * {@code application.datasource.read-your-writes}.
+     */
+    @Scheduled(fixedDelayString = "${application.datasource.health-check-interval:PT5S}")
+    public void check() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.checked(lag(connection));
+            } catch (SQLException | RuntimeException e) {
+                replica.failed(e);
+            }
+        }
+        long oldest = System.nanoTime() - properties.getReadYourWrites().toNanos();
+        lastWrites.values().removeIf(lastWrite -> lastWrite - oldest < 0);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Duration lag(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(properties.getLagQuery())) {
+            return Duration.ZERO;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(properties.getConnectionTimeout().toSeconds(), 1));
+            try (ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+                // no row or null when the database isn't replicating
+                double seconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                return Duration.ofMillis(Math.round(seconds * 1000));
+            }
+        }
+    }
+
+    private boolean recentlyWrote() {
+        long window = properties.getReadYourWrites().toNanos();
+        if (window <= 0 || lastWrites.isEmpty()) {
+            return false;
+        }
+        Long lastWrite = SecurityUtils.getCurrentUserLogin().map(lastWrites::get).orElse(null);
+        return lastWrite != null && System.nanoTime() - lastWrite < window;
+    }
+
+    private final class Replica {
+
+        private final int number;
+
+        private final DataSource dataSource;
+
+        private volatile boolean usable;
+
+        private Replica(int number, DataSource dataSource) {
+            this.number = number;
+            this.dataSource = dataSource;
+        }
+
+        private void checked(Duration lag) {
+            boolean usable = lag.compareTo(properties.getMaxLag()) <= 0;
+            if (usable != this.usable) {
+                if (usable) {
+                    LOG.info("Read replica {} is usable, {} ms behind the primary", number, lag.toMillis());
+                } else {
+                    LOG.warn("Read replica {} is {} ms behind the primary, skipping it", number, lag.toMillis());
+                }
+            }
+            this.usable = usable;
+        }
+
+        private void failed(Exception e) {
+            if (usable) {
+                LOG.warn("Read replica {} failed, skipping it: {}", number, e.getMessage());
+            } else {
+                LOG.debug("Read replica {} is still unusable: {}", number, e.getMessage());
+            }
+            usable = false;
+        }
+    }
+
+    /**
+     * Connections for the read-only transactions: from the next usable replica, or else from the primary.
+     */
+    private final class ReadOnlyDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (!PrimaryReads.isRequired() && !recentlyWrote()) {
+                int start = next.getAndIncrement();
+                for (int i = 0; i < replicas.size(); i++) {
+                    Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+                    if (replica.usable) {
+                        try {
+                            return replica.dataSource.getConnection();
+                        } catch (SQLException e) {
+                            replica.failed(e);
+                        }
+                    }
+                }
+            }
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * Connections for the other transactions, from the primary, noting when they commit.
+     */
+    private final class WriteTrackingDataSource extends DelegatingDataSource {
+
+        private WriteTrackingDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            if (properties.getReadYourWrites().isZero()) {
+                return connection;
+            }
+            return (Connection) Proxy.newProxyInstance(
+                ReadReplicas.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) ->
+                    switch (method.getName()) {
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        default -> {
+                            Object result;
+                            try {
+                                result = method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                            if (method.getName().equals("commit")) {
+                                SecurityUtils.getCurrentUserLogin().ifPresent(login -> lastWrites.put(login, System.nanoTime()));
+                            }
+                            yield result;
+                        }
+                    }
+            );
+        }
+    }
+}
@@ -8,6 +8,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
 import org.springframework.boot.web.server.*;
 import org.springframework.boot.web.servlet.ServletContextInitializer;
 import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
@@ -15,6 +17,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -53,12 +56,26 @@ public class WebConfigurer implements ServletContextInitializer, WebServerFactor
     }
 
     /**
-     * Customize the Servlet engine: Mime types, the document root, the cache.
+     * Customize the Servlet engine: Mime types, the document root, the cache, the threads requests run on.
      */
     @Override
     public void customize(WebServerFactory server) {
         // When running in an IDE or with ./gradlew bootRun, set location of the static web assets.
         setLocationForStaticAssets(server);
+        dispatchRequestsToVirtualThreads(server);
+    }
+
+    /**
+     * Run each request on a virtual thread instead of a thread of the Undertow worker pool, when
+     * {@code spring.threads.virtual.enabled} is set on Java 21 or later. Spring Boot only does it for Tomcat and Jetty.
+     */
+    private void dispatchRequestsToVirtualThreads(WebServerFactory server) {
+        if (server instanceof UndertowServletWebServerFactory undertow && Threading.VIRTUAL.isActive(env)) {
+            LOG.debug("Dispatching requests to virtual threads");
+            undertow.addDeploymentInfoCustomizers(deploymentInfo ->
+                deploymentInfo.setExecutor(new VirtualThreadTaskExecutor("undertow-"))
+            );
+        }
     }
 
     private void setLocationForStaticAssets(WebServerFactory server) {
@@ -6,7 +6,9 @@ import java.io.Serializable;
 import java.time.Instant;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.domain.id.PooledSequence;
 
 /**
  * A Posts.
@@ -14,14 +16,16 @@ import org.jhipster.task.domain.enumeration.PostStatus;
 @Entity
 @Table(name = "posts")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Posts implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    public static final String SEQUENCE_NAME = "posts_sequence";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
-    @SequenceGenerator(name = "sequenceGenerator")
+    @PooledSequence(name = Posts.SEQUENCE_NAME)
     @Column(name = "id")
     private Long id;
 
@@ -30,9 +34,10 @@ public class Posts implements Serializable {
     private String title;
 
     @NotNull
-    @Column(name = "slug", nullable = false)
+    @Column(name = "slug", nullable = false, unique = true)
     private String slug;
 
+    @NotNull
     @Lob
     @Column(name = "content", nullable = false)
     private String content;
@@ -50,6 +55,10 @@ public class Posts implements Serializable {
     @Column(name = "author_login", nullable = false)
     private String authorLogin;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -143,6 +152,19 @@ public class Posts implements Serializable {
         this.authorLogin = authorLogin;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public Posts version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -173,6 +195,7 @@ public class Posts implements Serializable {
             ", publishedAt='" + getPublishedAt() + "'" +
             ", status='" + getStatus() + "'" +
             ", authorLogin='" + getAuthorLogin() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
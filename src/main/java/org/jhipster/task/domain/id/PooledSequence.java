@@ -0,0 +1,20 @@
+package org.jhipster.task.domain.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generate the annotated identifier from a database sequence with a {@link PooledSequenceGenerator}.
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PooledSequence {
+    /**
+     * The name of the sequence, also the key of its {@code task.id.<sequence>.*} settings.
+     */
+    String name();
+}
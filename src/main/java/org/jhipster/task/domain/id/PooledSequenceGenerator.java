@@ -0,0 +1,47 @@
+package org.jhipster.task.domain.id;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+import java.util.Properties;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+/**
+ * Sequence based identifier generator whose allocation size and optimizer are configured per sequence.
+ * <p>
+ * Hibernate reads the increment of a {@link jakarta.persistence.SequenceGenerator} from the mapping only, this
+ * generator takes it from the {@code task.id.<sequence>.allocation_size} and {@code task.id.<sequence>.optimizer}
+ * Hibernate settings instead, so the allocation can follow the increment of the database sequence.
+ * The increment of the sequence must be equal to the allocation size.
+ * <p>
+ * Identifiers use it through the {@link PooledSequence} annotation.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "task.id.%s.allocation_size";
+
+    public static final String OPTIMIZER_SETTING = "task.id.%s.optimizer";
+
+    private final String sequenceName;
+
+    public PooledSequenceGenerator(PooledSequence config, Member member, GeneratorCreationContext creationContext) {
+        this.sequenceName = config.name();
+    }
+
+    @Override
+    public void configure(GeneratorCreationContext creationContext, Properties parameters) throws MappingException {
+        parameters.setProperty(SEQUENCE_PARAM, sequenceName);
+        Map<String, Object> settings = creationContext.getServiceRegistry().requireService(ConfigurationService.class).getSettings();
+        Object allocationSize = settings.get(ALLOCATION_SIZE_SETTING.formatted(sequenceName));
+        if (allocationSize != null) {
+            parameters.setProperty(INCREMENT_PARAM, allocationSize.toString());
+        }
+        Object optimizer = settings.get(OPTIMIZER_SETTING.formatted(sequenceName));
+        if (optimizer != null) {
+            parameters.setProperty(OPT_PARAM, optimizer.toString());
+        }
+        super.configure(creationContext, parameters);
+    }
+}
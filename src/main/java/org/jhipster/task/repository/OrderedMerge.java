@@ -0,0 +1,43 @@
+package org.jhipster.task.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Lazily merges iterators that are already sorted in the same order.
+ * <p>
+ * Only as many elements as needed to fill the result are pulled from the sources, which lets callers merge database
+ * cursors without reading them to the end.
+ */
+public final class OrderedMerge {
+
+    private OrderedMerge() {}
+
+    /**
+     * Merge two sorted sources into one sorted list.
+     *
+     * @param left the first source, sorted by {@code order}.
+     * @param right the second source, sorted by {@code order}.
+     * @param order the order both sources are sorted by.
+     * @param limit the maximum number of elements to return.
+     * @param <T> the element type.
+     * @return the first {@code limit} elements of the merged sources.
+     */
+    public static <T> List<T> merge(Iterator<? extends T> left, Iterator<? extends T> right, Comparator<? super T> order, int limit) {
+        List<T> merged = new ArrayList<>(Math.min(limit, 256));
+        T nextLeft = left.hasNext() ? left.next() : null;
+        T nextRight = right.hasNext() ? right.next() : null;
+        while (merged.size() < limit && (nextLeft != null || nextRight != null)) {
+            if (nextRight == null || (nextLeft != null && order.compare(nextLeft, nextRight) <= 0)) {
+                merged.add(nextLeft);
+                nextLeft = left.hasNext() ? left.next() : null;
+            } else {
+                merged.add(nextRight);
+                nextRight = right.hasNext() ? right.next() : null;
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,25 @@
+package org.jhipster.task.repository;
+
+import java.time.Instant;
+import org.jhipster.task.domain.enumeration.PostStatus;
+
+/**
+ * Interface projection of the {@link org.jhipster.task.domain.Posts} columns needed by listings.
+ * <p>
+ * Queries returning this projection select the listed columns only, so the {@code content} CLOB is never read.
+ */
+public interface PostSummary {
+    Long getId();
+
+    Long getVersion();
+
+    String getTitle();
+
+    String getSlug();
+
+    Instant getPublishedAt();
+
+    PostStatus getStatus();
+
+    String getAuthorLogin();
+}
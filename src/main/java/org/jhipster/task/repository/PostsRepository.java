@@ -1,17 +1,186 @@
 package org.jhipster.task.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
 import org.jhipster.task.domain.Posts;
-import org.jhipster.task.domain.enumeration.PostStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data JPA repository for the Posts entity.
+ * <p>
+ * The feed queries page with a keyset on {@code (publishedAt, id)} instead of an offset, so reading a deep page
+ * costs the same as reading the first one. Only the page size of the given {@link Pageable} is used. They return
+ * {@link PostSummary} projections, the full entity with its content is only loaded by id.
+ * <p>
+ * The feed is read as two streams, the published posts and the drafts of the current user, each served in order
+ * by its own index ({@code idx_posts_status_published_at_id} and {@code idx_posts_author_status_published_at}).
+ * The streams are merged with {@link OrderedMerge}, so no more rows than the page needs are read from either of them.
+ * A single query with {@code status = 'PUBLISHED' or (status = 'DRAFT' and author_login = ?)} can't use either index
+ * and ends up scanning and sorting the whole table.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface PostsRepository extends JpaRepository<Posts, Long> {
-    @Query("select p from Posts p where p.status = 'PUBLISHED' or (p.status = 'DRAFT' and p.authorLogin = ?1)")
-    List<Posts> findPublishedAndOwnDrafts(String currentUserLogin);
+public interface PostsRepository extends PostsUpdateRepository, JpaRepository<Posts, Long> {
+    String SUMMARY_SELECT =
+        "select p.id as id, p.version as version, p.title as title, p.slug as slug, p.publishedAt as publishedAt," +
+        " p.status as status, p.authorLogin as authorLogin from Posts p";
+
+    String PUBLISHED = " where p.status = 'PUBLISHED'";
+
+    String OWN_DRAFTS = " where p.authorLogin = ?1 and p.status = 'DRAFT'";
+
+    String NEWEST_FIRST = " order by p.publishedAt desc, p.id desc";
+
+    String OLDEST_FIRST = " order by p.publishedAt asc, p.id asc";
+
+    /**
+     * Rows are pulled from the streams one page at a time, matching the default page size.
+     */
+    String FEED_FETCH_SIZE = "20";
+
+    /**
+     * Rows fetched per round trip when exporting, and the number of exported entities kept in the persistence context.
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    Comparator<PostSummary> FEED_ORDER = Comparator.comparing(PostSummary::getPublishedAt)
+        .thenComparing(PostSummary::getId)
+        .reversed();
+
+    default List<PostSummary> findPublishedAndOwnDrafts(String currentUserLogin, Pageable pageable) {
+        try (
+            Stream<PostSummary> published = streamPublished(pageable);
+            Stream<PostSummary> drafts = streamOwnDrafts(currentUserLogin, pageable)
+        ) {
+            return OrderedMerge.merge(published.iterator(), drafts.iterator(), FEED_ORDER, pageable.getPageSize());
+        }
+    }
+
+    default List<PostSummary> findPublishedAndOwnDraftsBefore(String currentUserLogin, Instant publishedAt, Long id, Pageable pageable) {
+        try (
+            Stream<PostSummary> published = streamPublishedBefore(publishedAt, id, pageable);
+            Stream<PostSummary> drafts = streamOwnDraftsBefore(currentUserLogin, publishedAt, id, pageable)
+        ) {
+            return OrderedMerge.merge(published.iterator(), drafts.iterator(), FEED_ORDER, pageable.getPageSize());
+        }
+    }
+
+    default List<PostSummary> findPublishedAndOwnDraftsAfter(String currentUserLogin, Instant publishedAt, Long id, Pageable pageable) {
+        try (
+            Stream<PostSummary> published = streamPublishedAfter(publishedAt, id, pageable);
+            Stream<PostSummary> drafts = streamOwnDraftsAfter(currentUserLogin, publishedAt, id, pageable)
+        ) {
+            return OrderedMerge.merge(published.iterator(), drafts.iterator(), FEED_ORDER.reversed(), pageable.getPageSize());
+        }
+    }
+
+    @Query(SUMMARY_SELECT + PUBLISHED + NEWEST_FIRST)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = FEED_FETCH_SIZE))
+    Stream<PostSummary> streamPublished(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + PUBLISHED + " and (p.publishedAt < ?1 or (p.publishedAt = ?1 and p.id < ?2))" + NEWEST_FIRST)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = FEED_FETCH_SIZE))
+    Stream<PostSummary> streamPublishedBefore(Instant publishedAt, Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + PUBLISHED + " and (p.publishedAt > ?1 or (p.publishedAt = ?1 and p.id > ?2))" + OLDEST_FIRST)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = FEED_FETCH_SIZE))
+    Stream<PostSummary> streamPublishedAfter(Instant publishedAt, Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + OWN_DRAFTS + NEWEST_FIRST)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = FEED_FETCH_SIZE))
+    Stream<PostSummary> streamOwnDrafts(String currentUserLogin, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + OWN_DRAFTS + " and (p.publishedAt < ?2 or (p.publishedAt = ?2 and p.id < ?3))" + NEWEST_FIRST)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = FEED_FETCH_SIZE))
+    Stream<PostSummary> streamOwnDraftsBefore(String currentUserLogin, Instant publishedAt, Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + OWN_DRAFTS + " and (p.publishedAt > ?2 or (p.publishedAt = ?2 and p.id > ?3))" + OLDEST_FIRST)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = FEED_FETCH_SIZE))
+    Stream<PostSummary> streamOwnDraftsAfter(String currentUserLogin, Instant publishedAt, Long id, Pageable pageable);
+
+    /**
+     * The revision of a scope of the posts, see {@code PostsRevisions}, or {@code 0} if none of its posts ever changed.
+     * Reading it costs a single row lookup, whatever the number of posts.
+     */
+    @Query(value = "select coalesce(max(revision), 0) from posts_revision where scope = ?1", nativeQuery = true)
+    long findRevision(String scope);
+
+    /**
+     * Increment the revision of a scope of the posts. Revisions are never reused, so two different states of a scope
+     * never share one.
+     * <p>
+     * The statements on the revisions only synchronize the {@code posts_revision} query space: unlike other native
+     * statements, they leave the second-level cache alone.
+     *
+     * @return the number of revisions incremented, {@code 0} if the scope has no revision yet.
+     */
+    @Modifying
+    @Query(value = "update posts_revision set revision = revision + 1 where scope = ?1", nativeQuery = true)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "posts_revision"))
+    int incrementRevision(String scope);
+
+    /**
+     * Insert the first revision of a scope of the posts, see {@link #incrementRevision(String)}.
+     */
+    @Modifying
+    @Query(value = "insert into posts_revision (scope, revision) values (?1, 1)", nativeQuery = true)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "posts_revision"))
+    void insertRevision(String scope);
+
+    @Query("select p.version from Posts p where p.id = ?1")
+    Optional<Long> findVersionById(Long id);
+
+    @Query("select p.id from Posts p where p.slug = ?1")
+    Optional<Long> findIdBySlug(String slug);
+
+    @Query(SUMMARY_SELECT + " where p.id = ?1")
+    Optional<PostSummary> findSummaryById(Long id);
+
+    @Query(SUMMARY_SELECT + PUBLISHED + NEWEST_FIRST)
+    List<PostSummary> findLatestPublished(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + OWN_DRAFTS + NEWEST_FIRST)
+    List<PostSummary> findOwnDrafts(String currentUserLogin, Pageable pageable);
+
+    @Query("select distinct p.authorLogin from Posts p where p.status = 'DRAFT'")
+    List<String> findDraftAuthors();
+
+    @Query(SUMMARY_SELECT + " where p.id in ?1")
+    List<PostSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    @Query(
+        "select p.id as id, p.version as version, p.title as title, p.content as content, p.status as status," +
+        " p.authorLogin as authorLogin from Posts p where p.id in ?1"
+    )
+    List<PostsSearchDocument> findSearchDocumentsByIdIn(Collection<Long> ids);
+
+    @Query("select p.id as id, p.version as version from Posts p")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    List<PostsVersion> findAllVersions();
+
+    @Query("select p.id as id, p.slug as slug from Posts p")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    List<PostsSlug> findAllSlugs();
+
+    /**
+     * Stream every post in id order, for exports. The entities are loaded read-only and bypass the second-level cache;
+     * callers should clear the persistence context every {@link #EXPORT_FETCH_SIZE} rows.
+     */
+    @Query("select p from Posts p order by p.id")
+    @QueryHints(
+        {
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "IGNORE"),
+        }
+    )
+    Stream<Posts> streamAllForExport();
 }
@@ -0,0 +1,20 @@
+package org.jhipster.task.repository;
+
+import org.jhipster.task.domain.enumeration.PostStatus;
+
+/**
+ * Interface projection of the {@link org.jhipster.task.domain.Posts} columns indexed for full-text search.
+ */
+public interface PostsSearchDocument {
+    Long getId();
+
+    Long getVersion();
+
+    String getTitle();
+
+    String getContent();
+
+    PostStatus getStatus();
+
+    String getAuthorLogin();
+}
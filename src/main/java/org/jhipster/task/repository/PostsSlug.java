@@ -0,0 +1,10 @@
+package org.jhipster.task.repository;
+
+/**
+ * Interface projection of the slug of a {@link org.jhipster.task.domain.Posts} and its id.
+ */
+public interface PostsSlug {
+    Long getId();
+
+    String getSlug();
+}
@@ -0,0 +1,43 @@
+package org.jhipster.task.repository;
+
+import java.util.Optional;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+
+/**
+ * Conditional updates of {@link Posts}, implemented in {@link PostsUpdateRepositoryImpl}.
+ * <p>
+ * Each change is a single {@code update posts set ..., version = version + 1 where id = ? and version = ?} of the
+ * changed columns only, whose row count tells whether the post was updated: nothing is read before, so changing the
+ * status of a post doesn't load or rewrite its content. The statement is native, as Hibernate evicts the whole Posts
+ * region of the second-level cache after a JPQL bulk update, and evicts the cached entry of that post alone.
+ */
+public interface PostsUpdateRepository {
+    /**
+     * Replace every field of a post, if its version is still {@code version}.
+     *
+     * @param posts the new state of the post.
+     * @param version the version the client has read.
+     * @return the new version of the post, or empty if it doesn't exist or its version changed.
+     */
+    Optional<Long> updateIfVersionMatches(Posts posts, long version);
+
+    /**
+     * Overwrite the non null fields of a post, if its version is still {@code version} or if no version is given.
+     *
+     * @param posts the fields to change, {@code null} fields are left as they are.
+     * @param version the version the client has read, or {@code null} to update unconditionally.
+     * @return the new version of the post, or empty if it doesn't exist or its version changed.
+     */
+    Optional<Long> partialUpdate(Posts posts, Long version);
+
+    /**
+     * Change the status of a post, if its version is still {@code version} or if no version is given.
+     *
+     * @param id the id of the post.
+     * @param status the new status.
+     * @param version the version the client has read, or {@code null} to update unconditionally.
+     * @return the new version of the post, or empty if it doesn't exist or its version changed.
+     */
+    Optional<Long> updateStatus(Long id, PostStatus status, Long version);
+}
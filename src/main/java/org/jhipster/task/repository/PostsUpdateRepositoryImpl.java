@@ -0,0 +1,109 @@
+package org.jhipster.task.repository;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.hibernate.jpa.AvailableHints;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility repository to update a {@link Posts} in a single conditional statement.
+ */
+public class PostsUpdateRepositoryImpl implements PostsUpdateRepository {
+
+    /**
+     * The query space of the updates, which no entity is mapped to: unlike other native statements, they leave the
+     * second-level cache alone, and only the entry of the updated post is evicted.
+     */
+    private static final String QUERY_SPACE = "posts_update";
+
+    private final EntityManager entityManager;
+
+    public PostsUpdateRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<Long> updateIfVersionMatches(Posts posts, long version) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("title", posts.getTitle());
+        columns.put("slug", posts.getSlug());
+        columns.put("content", posts.getContent());
+        columns.put("published_at", posts.getPublishedAt());
+        columns.put("status", posts.getStatus() == null ? null : posts.getStatus().name());
+        columns.put("author_login", posts.getAuthorLogin());
+        return update(posts.getId(), version, columns);
+    }
+
+    @Override
+    public Optional<Long> partialUpdate(Posts posts, Long version) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        Optional.ofNullable(posts.getTitle()).ifPresent(title -> columns.put("title", title));
+        Optional.ofNullable(posts.getSlug()).ifPresent(slug -> columns.put("slug", slug));
+        Optional.ofNullable(posts.getContent()).ifPresent(content -> columns.put("content", content));
+        Optional.ofNullable(posts.getPublishedAt()).ifPresent(publishedAt -> columns.put("published_at", publishedAt));
+        Optional.ofNullable(posts.getStatus()).ifPresent(status -> columns.put("status", status.name()));
+        Optional.ofNullable(posts.getAuthorLogin()).ifPresent(authorLogin -> columns.put("author_login", authorLogin));
+        return update(posts.getId(), version, columns);
+    }
+
+    @Override
+    public Optional<Long> updateStatus(Long id, PostStatus status, Long version) {
+        return update(id, version, Map.of("status", status.name()));
+    }
+
+    private Optional<Long> update(Long id, Long version, Map<String, Object> columns) {
+        StringBuilder sql = new StringBuilder("update posts set ");
+        columns.keySet().forEach(column -> sql.append(column).append(" = :").append(column).append(", "));
+        sql.append("version = version + 1 where id = :id");
+        if (version != null) {
+            sql.append(" and version = :version");
+        }
+        Query query = entityManager.createNativeQuery(sql.toString()).setHint(AvailableHints.HINT_NATIVE_SPACES, QUERY_SPACE);
+        columns.forEach(query::setParameter);
+        query.setParameter("id", id);
+        if (version != null) {
+            query.setParameter("version", version);
+        }
+        if (query.executeUpdate() == 0) {
+            return Optional.empty();
+        }
+        evict(id);
+        return version != null ? Optional.of(version + 1) : findVersion(id);
+    }
+
+    /**
+     * Evict the cached entry of a post now, and again once the transaction completes, as a read meanwhile may cache the
+     * state before the update. The post is also detached from the persistence context, if it was loaded, so that a
+     * later read in the transaction sees the update.
+     */
+    private void evict(Long id) {
+        entityManager.detach(entityManager.getReference(Posts.class, id));
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(Posts.class, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        cache.evict(Posts.class, id);
+                    }
+                }
+            );
+        }
+    }
+
+    private Optional<Long> findVersion(Long id) {
+        return entityManager
+            .createQuery("select p.version from Posts p where p.id = :id", Long.class)
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst();
+    }
+}
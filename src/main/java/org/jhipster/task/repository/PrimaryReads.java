@@ -0,0 +1,57 @@
+package org.jhipster.task.repository;
+
+import java.util.function.Supplier;
+
+/**
+ * Sends reads to the primary database rather than to a read replica, for the loads filling caches shared by the
+ * requests that can't tell a stale row from a current one: a row read from a replica that is behind would be served
+ * from the cache until it expires or changes again. Caches checking the version or the revision of what they read
+ * only use it to read again what a replica served stale.
+ * <p>
+ * Applies to the transactions getting their first connection on the calling thread while {@link #call(Supplier)} runs,
+ * read-only or not, see {@code org.jhipster.task.config.ReadReplicas}. Transactions already holding a replica
+ * connection keep it, so the whole transaction should run within the call. Without read replicas, it has no effect.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> REQUIRED = new ThreadLocal<>();
+
+    private PrimaryReads() {}
+
+    /**
+     * Run a read on the primary database.
+     *
+     * @param read the read, usually starting its own transaction.
+     * @return what the read returns.
+     */
+    public static <T> T call(Supplier<T> read) {
+        Boolean outer = REQUIRED.get();
+        REQUIRED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (outer == null) {
+                REQUIRED.remove();
+            }
+        }
+    }
+
+    /**
+     * Run a read on the primary database.
+     *
+     * @param read the read, usually starting its own transaction.
+     */
+    public static void run(Runnable read) {
+        call(() -> {
+            read.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return whether the reads of the current thread must go to the primary database.
+     */
+    public static boolean isRequired() {
+        return REQUIRED.get() != null;
+    }
+}
@@ -1,6 +1,7 @@
 package org.jhipster.task.repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.jhipster.task.domain.User;
@@ -8,6 +9,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -33,4 +35,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findOneWithAuthoritiesByEmailIgnoreCase(String email);
 
     Page<User> findAllByIdNotNullAndActivatedIsTrue(Pageable pageable);
+
+    /**
+     * Logins of the activated users, the most recently changed first. Users aren't changed when they sign in, so this is
+     * the closest there is to the most recently active ones.
+     */
+    @Query("select u.login from User u where u.activated = true order by u.lastModifiedDate desc, u.id desc")
+    List<String> findRecentlyActiveLogins(Pageable pageable);
+
+    @EntityGraph(attributePaths = "authorities")
+    List<User> findAllWithAuthoritiesByLoginIn(Collection<String> logins);
+
+    @Query("select u.login from User u")
+    List<String> findAllLogins();
+
+    @Query("select lower(u.email) from User u where u.email is not null")
+    List<String> findAllEmails();
 }
@@ -0,0 +1,94 @@
+package org.jhipster.task.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter of strings: answers for sure that a key was never added, or that it may have been.
+ * <p>
+ * Sized for a number of keys and a false positive probability; adding more keys than planned raises the probability.
+ * Keys are only ever added, removing them means building a new filter. Adding and testing are thread-safe and don't
+ * lock, the bits are set with compare-and-set.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    /**
+     * @param expectedKeys the number of keys the filter is sized for.
+     * @param falsePositiveProbability the probability of answering that a key may have been added when it wasn't,
+     * once the expected number of keys is added.
+     */
+    public BloomFilter(long expectedKeys, double falsePositiveProbability) {
+        long keys = Math.max(expectedKeys, 1);
+        long optimalBits = (long) Math.ceil((-keys * Math.log(falsePositiveProbability)) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Math.max((optimalBits + 63) / 64, 1), Integer.MAX_VALUE - 8);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = (int) Math.max(Math.round((double) bitCount / keys * Math.log(2)), 1);
+    }
+
+    public void put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if the key was never added, {@code true} if it may have been.
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the size of the filter in bytes.
+     */
+    public long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    private long index(int combinedHash) {
+        // the double hashing of Kirsch and Mitzenmacher, kept positive
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * 64-bit FNV-1a of the UTF-8 bytes of the key, finished with the mixer of MurmurHash3 so both halves are usable.
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
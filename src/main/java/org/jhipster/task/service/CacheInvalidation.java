@@ -0,0 +1,77 @@
+package org.jhipster.task.service;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * An eviction to apply to the caches of the other instances.
+ *
+ * @param target what is evicted.
+ * @param name the entity name, collection role, cache name or filter name.
+ * @param key the id, owner id, cache key or filter key, as a string.
+ */
+public record CacheInvalidation(Target target, String name, String key) {
+    private static final String SEPARATOR = ",";
+
+    public enum Target {
+        /**
+         * An entity of the Hibernate second-level cache.
+         */
+        ENTITY,
+        /**
+         * A collection of the Hibernate second-level cache, by the id of its owner.
+         */
+        COLLECTION,
+        /**
+         * An entry of a Spring cache.
+         */
+        CACHE,
+        /**
+         * Keys of the {@link NegativeLookups}, which exist now and mustn't be reported missing anymore. The names of the
+         * filters and the URL encoded keys are comma separated, in the same order, so that all the keys of a row fit in
+         * one invalidation.
+         */
+        EXISTS,
+    }
+
+    public static CacheInvalidation entity(String entityName, Object id) {
+        return new CacheInvalidation(Target.ENTITY, entityName, id.toString());
+    }
+
+    public static CacheInvalidation collection(String role, Object ownerId) {
+        return new CacheInvalidation(Target.COLLECTION, role, ownerId.toString());
+    }
+
+    public static CacheInvalidation cache(String cacheName, Object key) {
+        return new CacheInvalidation(Target.CACHE, cacheName, key.toString());
+    }
+
+    public static CacheInvalidation exists(Map<String, String> keysByFilterName) {
+        return new CacheInvalidation(
+            Target.EXISTS,
+            String.join(SEPARATOR, keysByFilterName.keySet()),
+            keysByFilterName
+                .values()
+                .stream()
+                .map(key -> URLEncoder.encode(key, StandardCharsets.UTF_8))
+                .collect(Collectors.joining(SEPARATOR))
+        );
+    }
+
+    /**
+     * @return the keys of an {@link Target#EXISTS} invalidation, by filter name.
+     */
+    public Map<String, String> existingKeys() {
+        String[] names = name.split(SEPARATOR);
+        String[] keys = key.split(SEPARATOR, -1);
+        Map<String, String> existing = new LinkedHashMap<>();
+        for (int i = 0; i < names.length && i < keys.length; i++) {
+            existing.put(names[i], URLDecoder.decode(keys[i], StandardCharsets.UTF_8));
+        }
+        return existing;
+    }
+}
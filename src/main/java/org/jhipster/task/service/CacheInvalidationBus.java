@@ -0,0 +1,244 @@
+package org.jhipster.task.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.jhipster.task.domain.Posts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Relays cache evictions to the other instances, each of which keeps its own caches.
+ * <p>
+ * Updates and deletes of the entities and collections in the Hibernate second-level cache are relayed as they are
+ * flushed, and so are the entries {@link UserService} evicts from the Spring caches. Updates and deletes of posts are
+ * also relayed from their {@link PostsChangedEvent}, so that the changes made without Hibernate's listeners reach the
+ * other instances too. Each eviction is sent once per transaction, whichever relays it first. Inserts aren't relayed,
+ * no other instance can have cached a row that didn't exist, except for the keys the {@link NegativeLookups} report
+ * missing.
+ * <p>
+ * The state each instance derives from the posts, like the search index or the feed caches, isn't relayed: it follows
+ * the changes made by the instance only.
+ */
+@Service
+public class CacheInvalidationBus
+    implements PostUpdateEventListener, PostDeleteEventListener, PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private final CacheInvalidationTransport transport;
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    private final CacheManager cacheManager;
+
+    private final ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+    private volatile BiConsumer<String, String> existsReceiver = (filter, key) -> {};
+
+    private volatile BiConsumer<String, Object> entityReceiver = (entityName, id) -> {};
+
+    public CacheInvalidationBus(
+        ObjectProvider<CacheInvalidationTransport> transport,
+        EntityManagerFactory entityManagerFactory,
+        CacheManager cacheManager
+    ) {
+        this.transport = transport.getIfAvailable();
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.cacheManager = cacheManager;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (transport == null) {
+            LOG.debug("No cache invalidation transport, evictions stay local");
+            return;
+        }
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+        transport.subscribe(origin, this::apply);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (transport != null) {
+            transport.unsubscribe(origin);
+        }
+    }
+
+    /**
+     * Evict an entry of a Spring cache on the other instances, once the current transaction commits.
+     */
+    public void evict(String cacheName, Object key) {
+        send(CacheInvalidation.cache(cacheName, key));
+    }
+
+    /**
+     * Tell the other instances that keys of negative lookup filters exist, once the current transaction commits.
+     *
+     * @param keysByFilterName the keys, by the name of their filter, sent together.
+     */
+    public void exists(Map<String, String> keysByFilterName) {
+        if (!keysByFilterName.isEmpty()) {
+            send(CacheInvalidation.exists(keysByFilterName));
+        }
+    }
+
+    /**
+     * Set what to do with the keys the other instances tell about with {@link #exists(Map)}.
+     */
+    public void onExists(BiConsumer<String, String> receiver) {
+        this.existsReceiver = receiver;
+    }
+
+    /**
+     * Set what to do once an entity is evicted because another instance changed it, given its entity name and id.
+     */
+    public void onEntityEvicted(BiConsumer<String, Object> receiver) {
+        this.entityReceiver = receiver;
+    }
+
+    @EventListener
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (event.change() != PostsChangedEvent.Change.CREATED) {
+            send(CacheInvalidation.entity(Posts.class.getName(), event.id()));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onEntityChange(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onEntityChange(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        onCollectionChange(event);
+    }
+
+    private void onEntityChange(EntityPersister persister, Object id) {
+        if (persister.canWriteToCache()) {
+            send(CacheInvalidation.entity(persister.getEntityName(), id));
+        }
+    }
+
+    private void onCollectionChange(AbstractCollectionEvent event) {
+        String role = event.getCollection().getRole();
+        Object ownerId = event.getAffectedOwnerIdOrNull();
+        CollectionPersister persister = sessionFactory.getMappingMetamodel().findCollectionDescriptor(role);
+        if (ownerId != null && persister != null && persister.hasCache()) {
+            send(CacheInvalidation.collection(role, ownerId));
+        }
+    }
+
+    private void send(CacheInvalidation invalidation) {
+        if (transport == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive() && !sentInTransaction().add(invalidation)) {
+            // already relayed by the flush or the event of the same change
+            return;
+        }
+        transport.send(origin, invalidation);
+    }
+
+    /**
+     * The invalidations sent by the current transaction, held by a synchronization so that a transaction suspended by
+     * a nested one keeps its own.
+     */
+    private Set<CacheInvalidation> sentInTransaction() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof SentInvalidations sent && sent.isOf(this)) {
+                return sent.invalidations;
+            }
+        }
+        SentInvalidations sent = new SentInvalidations();
+        TransactionSynchronizationManager.registerSynchronization(sent);
+        return sent.invalidations;
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        LOG.debug("Applying {}", invalidation);
+        switch (invalidation.target()) {
+            case ENTITY -> {
+                EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(invalidation.name());
+                if (persister != null) {
+                    Object id = conversionService.convert(invalidation.key(), persister.getIdentifierType().getReturnedClass());
+                    sessionFactory.getCache().evictEntityData(invalidation.name(), id);
+                    entityReceiver.accept(invalidation.name(), id);
+                }
+            }
+            case COLLECTION -> {
+                CollectionPersister persister = sessionFactory.getMappingMetamodel().findCollectionDescriptor(invalidation.name());
+                if (persister != null) {
+                    Class<?> ownerIdType = persister.getOwnerEntityPersister().getIdentifierType().getReturnedClass();
+                    Object ownerId = conversionService.convert(invalidation.key(), ownerIdType);
+                    sessionFactory.getCache().evictCollectionData(invalidation.name(), ownerId);
+                }
+            }
+            case CACHE -> {
+                Cache cache = cacheManager.getCache(invalidation.name());
+                if (cache != null) {
+                    cache.evict(invalidation.key());
+                }
+            }
+            case EXISTS -> invalidation.existingKeys().forEach(existsReceiver);
+        }
+    }
+
+    private final class SentInvalidations implements TransactionSynchronization {
+
+        private final Set<CacheInvalidation> invalidations = new HashSet<>();
+
+        boolean isOf(CacheInvalidationBus bus) {
+            return bus == CacheInvalidationBus.this;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.jhipster.task.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries the evictions of the {@link CacheInvalidationBus} between instances.
+ * <p>
+ * An eviction sent from within a transaction must only reach the other instances once the transaction commits, or they
+ * could load the old state again before the new one is visible.
+ */
+public interface CacheInvalidationTransport {
+    /**
+     * Send an eviction to every subscriber but the one of {@code origin}.
+     */
+    void send(String origin, CacheInvalidation invalidation);
+
+    void subscribe(String origin, Consumer<CacheInvalidation> receiver);
+
+    void unsubscribe(String origin);
+}
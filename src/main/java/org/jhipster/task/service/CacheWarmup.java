@@ -0,0 +1,221 @@
+package org.jhipster.task.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import org.jhipster.task.config.ApplicationProperties;
+import org.jhipster.task.domain.Authority;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.User;
+import org.jhipster.task.repository.AuthorityRepository;
+import org.jhipster.task.repository.PostSummary;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.PrimaryReads;
+import org.jhipster.task.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loads the entries most likely to be read first after a start into the caches: the most recently active users with
+ * their authorities, the latest published posts and the authorities.
+ * <p>
+ * Spring Boot only reports the application as ready to take traffic once the {@link ApplicationRunner}s are done, so the
+ * {@code readiness} health group stays down until the caches are warm, or until {@code application.cache.warmup.timeout}
+ * has passed. The queries load a batch each and run in parallel on the task executor.
+ */
+@Service
+public class CacheWarmup implements ApplicationRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheWarmup.class);
+
+    public static final String ENTRIES_METER_NAME = "cache.warmup.entries";
+
+    public static final String PROGRESS_METER_NAME = "cache.warmup.progress";
+
+    public static final String DURATION_METER_NAME = "cache.warmup.duration";
+
+    private final ApplicationProperties.Cache.Warmup properties;
+
+    private final UserRepository userRepository;
+
+    private final AuthorityRepository authorityRepository;
+
+    private final PostsRepository postsRepository;
+
+    private final Cache usersByLogin;
+
+    private final Executor executor;
+
+    private final AtomicInteger users = new AtomicInteger();
+
+    private final AtomicInteger posts = new AtomicInteger();
+
+    private final AtomicInteger authorities = new AtomicInteger();
+
+    private final AtomicInteger batches = new AtomicInteger();
+
+    private final AtomicInteger batchesDone = new AtomicInteger();
+
+    private volatile Result result;
+
+    public CacheWarmup(
+        ApplicationProperties applicationProperties,
+        UserRepository userRepository,
+        AuthorityRepository authorityRepository,
+        PostsRepository postsRepository,
+        CacheManager cacheManager,
+        @Qualifier("taskExecutor") Executor executor,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = applicationProperties.getCache().getWarmup();
+        this.userRepository = userRepository;
+        this.authorityRepository = authorityRepository;
+        this.postsRepository = postsRepository;
+        this.usersByLogin = Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE));
+        this.executor = executor;
+        registerEntries(meterRegistry, UserRepository.USERS_BY_LOGIN_CACHE, users);
+        registerEntries(meterRegistry, Posts.class.getName(), posts);
+        registerEntries(meterRegistry, Authority.class.getName(), authorities);
+        Gauge.builder(PROGRESS_METER_NAME, this, warmup -> warmup.progress())
+            .description("Share of the warm-up batches done, from 0 to 1")
+            .register(meterRegistry);
+        TimeGauge.builder(DURATION_METER_NAME, this, TimeUnit.MILLISECONDS, warmup ->
+            warmup.result == null ? Double.NaN : warmup.result.duration().toMillis()
+        )
+            .description("Time the warm-up took")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isEnabled()) {
+            warmUp();
+        }
+    }
+
+    /**
+     * @return what the warm-up loaded, or {@code null} if it didn't run.
+     */
+    public Result getResult() {
+        return result;
+    }
+
+    /**
+     * Load the caches, waiting for the batches until the timeout.
+     *
+     * @return what was loaded.
+     */
+    public Result warmUp() {
+        long start = System.nanoTime();
+        List.of(users, posts, authorities, batches, batchesDone).forEach(counter -> counter.set(0));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        futures.add(submit(() -> authorityRepository.findAll().size(), authorities));
+        try {
+            List<String> logins = userRepository.findRecentlyActiveLogins(PageRequest.ofSize(properties.getUsers()));
+            for (List<String> batch : partition(logins)) {
+                futures.add(submit(() -> loadUsers(batch), users));
+            }
+            List<Long> ids = postsRepository
+                .findLatestPublished(PageRequest.ofSize(properties.getPosts()))
+                .stream()
+                .map(PostSummary::getId)
+                .toList();
+            for (List<Long> batch : partition(ids)) {
+                futures.add(submit(() -> postsRepository.findAllById(batch).size(), posts));
+            }
+        } catch (DataAccessException e) {
+            LOG.warn("Could not list the entries to warm the caches with: {}", e.getMessage());
+        }
+        await(futures, start);
+        result = new Result(users.get(), posts.get(), authorities.get(), Duration.ofNanos(System.nanoTime() - start));
+        LOG.info("Warmed the caches up with {}", result);
+        return result;
+    }
+
+    private int loadUsers(List<String> logins) {
+        List<User> loaded = userRepository.findAllWithAuthoritiesByLoginIn(logins);
+        // the same entries as UserRepository#findOneWithAuthoritiesByLogin
+        loaded.forEach(user -> usersByLogin.put(user.getLogin(), user));
+        return loaded.size();
+    }
+
+    private CompletableFuture<Void> submit(IntSupplier batch, AtomicInteger loaded) {
+        batches.incrementAndGet();
+        return CompletableFuture.runAsync(
+            () -> {
+                try {
+                    // cached for every request, so read from the primary
+                    loaded.addAndGet(PrimaryReads.call(batch::getAsInt));
+                } catch (DataAccessException e) {
+                    LOG.warn("Could not warm the caches up: {}", e.getMessage());
+                } finally {
+                    batchesDone.incrementAndGet();
+                }
+            },
+            executor
+        );
+    }
+
+    private void await(List<CompletableFuture<Void>> futures, long start) {
+        long remaining = properties.getTimeout().toNanos() - (System.nanoTime() - start);
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            LOG.warn("Cache warm-up still running after {}, reporting the application as ready", properties.getTimeout());
+        } catch (ExecutionException e) {
+            LOG.warn("Cache warm-up failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> List<List<T>> partition(List<T> list) {
+        int batchSize = Math.max(properties.getBatchSize(), 1);
+        List<List<T>> partitions = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += batchSize) {
+            partitions.add(list.subList(from, Math.min(from + batchSize, list.size())));
+        }
+        return partitions;
+    }
+
+    private double progress() {
+        int planned = batches.get();
+        return planned == 0 ? 0 : (double) batchesDone.get() / planned;
+    }
+
+    private static void registerEntries(MeterRegistry meterRegistry, String cache, AtomicInteger loaded) {
+        Gauge.builder(ENTRIES_METER_NAME, loaded, AtomicInteger::get)
+            .description("Entries loaded into the cache by the warm-up")
+            .tag("cache", cache)
+            .register(meterRegistry);
+    }
+
+    /**
+     * What the warm-up loaded.
+     */
+    public record Result(int users, int posts, int authorities, Duration duration) {
+        @Override
+        public String toString() {
+            return users + " users, " + posts + " posts and " + authorities + " authorities in " + duration.toMillis() + " ms";
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.jhipster.task.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transport between the application contexts of a single JVM, for the integration tests running several instances.
+ */
+public class InMemoryCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InMemoryCacheInvalidationTransport.class);
+
+    private static final Map<String, Consumer<CacheInvalidation>> RECEIVERS = new ConcurrentHashMap<>();
+
+    @Override
+    public void send(String origin, CacheInvalidation invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        deliver(origin, invalidation);
+                    }
+                }
+            );
+        } else {
+            deliver(origin, invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(String origin, Consumer<CacheInvalidation> receiver) {
+        RECEIVERS.put(origin, receiver);
+    }
+
+    @Override
+    public void unsubscribe(String origin) {
+        RECEIVERS.remove(origin);
+    }
+
+    private static void deliver(String origin, CacheInvalidation invalidation) {
+        RECEIVERS.forEach((subscriber, receiver) -> {
+            if (!subscriber.equals(origin)) {
+                try {
+                    receiver.accept(invalidation);
+                } catch (RuntimeException e) {
+                    LOG.warn("Could not apply {} for {}", invalidation, subscriber, e);
+                }
+            }
+        });
+    }
+}
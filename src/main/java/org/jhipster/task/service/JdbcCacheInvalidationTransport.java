@@ -0,0 +1,132 @@
+package org.jhipster.task.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Transport through the {@code cache_invalidation} table of the shared database.
+ * <p>
+ * Evictions are inserted by the transaction that causes them, so they become visible exactly when it commits, and each
+ * instance polls for the rows written by the others. A row is created before its transaction commits, so every poll
+ * reads back a grace period and skips the rows it already delivered; transactions taking longer than the grace period
+ * to commit leave the other instances stale until the entries expire.
+ */
+public class JdbcCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcCacheInvalidationTransport.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Duration grace;
+
+    private final Duration retention;
+
+    private final Map<String, Consumer<CacheInvalidation>> receivers = new ConcurrentHashMap<>();
+
+    /**
+     * The rows already delivered, with the time they were created at, until they fall out of the grace period.
+     */
+    private final Map<Long, Long> delivered = new ConcurrentHashMap<>();
+
+    private volatile long lastPoll = System.currentTimeMillis();
+
+    public JdbcCacheInvalidationTransport(JdbcTemplate jdbcTemplate, Duration grace, Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.grace = grace;
+        this.retention = retention;
+    }
+
+    @Override
+    public void send(String origin, CacheInvalidation invalidation) {
+        jdbcTemplate.update(
+            "insert into cache_invalidation (origin, target, name, cache_key, created_at) values (?, ?, ?, ?, ?)",
+            origin,
+            invalidation.target().name(),
+            invalidation.name(),
+            invalidation.key(),
+            System.currentTimeMillis()
+        );
+    }
+
+    @Override
+    public void subscribe(String origin, Consumer<CacheInvalidation> receiver) {
+        receivers.put(origin, receiver);
+    }
+
+    @Override
+    public void unsubscribe(String origin) {
+        receivers.remove(origin);
+    }
+
+    @Scheduled(fixedDelayString = "${application.cache.invalidation.poll-interval:PT1S}")
+    public void poll() {
+        if (receivers.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long from = lastPoll - grace.toMillis();
+        List<Row> rows;
+        try {
+            rows = jdbcTemplate.query(
+                "select id, origin, target, name, cache_key, created_at from cache_invalidation where created_at >= ? order by id",
+                (rs, rowNum) ->
+                    new Row(
+                        rs.getLong("id"),
+                        rs.getString("origin"),
+                        new CacheInvalidation(
+                            CacheInvalidation.Target.valueOf(rs.getString("target")),
+                            rs.getString("name"),
+                            rs.getString("cache_key")
+                        ),
+                        rs.getLong("created_at")
+                    ),
+                from
+            );
+        } catch (DataAccessException e) {
+            LOG.debug("Could not read the cache invalidations: {}", e.getMessage());
+            return;
+        }
+        for (Row row : rows) {
+            if (delivered.putIfAbsent(row.id(), row.createdAt()) == null) {
+                deliver(row);
+            }
+        }
+        delivered.values().removeIf(createdAt -> createdAt < from);
+        lastPoll = now;
+    }
+
+    @Scheduled(fixedDelayString = "${application.cache.invalidation.retention:PT1H}")
+    public void purge() {
+        try {
+            int purged = jdbcTemplate.update(
+                "delete from cache_invalidation where created_at < ?",
+                System.currentTimeMillis() - retention.toMillis()
+            );
+            LOG.debug("Purged {} cache invalidations", purged);
+        } catch (DataAccessException e) {
+            LOG.debug("Could not purge the cache invalidations: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(Row row) {
+        receivers.forEach((subscriber, receiver) -> {
+            if (!subscriber.equals(row.origin())) {
+                try {
+                    receiver.accept(row.invalidation());
+                } catch (RuntimeException e) {
+                    LOG.warn("Could not apply {}", row.invalidation(), e);
+                }
+            }
+        });
+    }
+
+    private record Row(long id, String origin, CacheInvalidation invalidation, long createdAt) {}
+}
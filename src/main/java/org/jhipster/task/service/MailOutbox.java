@@ -0,0 +1,389 @@
+package org.jhipster.task.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jhipster.task.config.ApplicationProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Emails waiting in the {@code mail_outbox} table to be sent.
+ * <p>
+ * Emails are added by the transaction that causes them, so they are sent if and only if it commits. They are drained
+ * once it has, and every {@code application.mail-outbox.drain-interval} for the retries and the emails of the other
+ * instances: each drain claims the due emails in batches, the priority ones first, and sends a batch over a single
+ * SMTP connection. A claim expires after {@code application.mail-outbox.claim-timeout}, so that the emails of an
+ * instance stopping mid-batch are sent by another one, possibly twice.
+ * <p>
+ * Sent emails are deleted. An email that fails is retried after a backoff doubling from
+ * {@code application.mail-outbox.initial-backoff} up to {@code application.mail-outbox.max-backoff}, and kept as failed
+ * after {@code application.mail-outbox.max-attempts}: without its content, which may hold activation or reset keys, and
+ * for {@code application.mail-outbox.failed-retention}, after which a drain deletes it.
+ */
+@Service
+public class MailOutbox {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MailOutbox.class);
+
+    public static final String DEPTH_METER_NAME = "mail.outbox.depth";
+
+    public static final String DELIVERIES_METER_NAME = "mail.outbox.deliveries";
+
+    public static final String LATENCY_METER_NAME = "mail.outbox.latency";
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JavaMailSender javaMailSender;
+
+    private final JHipsterProperties jHipsterProperties;
+
+    private final ApplicationProperties.MailOutbox properties;
+
+    private final Executor executor;
+
+    /**
+     * Commits the claims and their outcome, also when draining right after the transaction adding an email.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private volatile boolean drainAgain;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final Counter sent;
+
+    private final Counter retried;
+
+    private final Counter abandoned;
+
+    private final Timer latency;
+
+    public MailOutbox(
+        JdbcTemplate jdbcTemplate,
+        JavaMailSender javaMailSender,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        @Qualifier("priorityTaskExecutor") Executor executor,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.javaMailSender = javaMailSender;
+        this.jHipsterProperties = jHipsterProperties;
+        this.properties = applicationProperties.getMailOutbox();
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Gauge.builder(DEPTH_METER_NAME, pending, AtomicLong::get)
+            .description("Emails waiting to be sent, as of the last drain")
+            .tag("state", "pending")
+            .register(meterRegistry);
+        Gauge.builder(DEPTH_METER_NAME, failed, AtomicLong::get)
+            .description("Emails given up on, as of the last drain")
+            .tag("state", "failed")
+            .register(meterRegistry);
+        this.sent = deliveries("sent", meterRegistry);
+        this.retried = deliveries("retried", meterRegistry);
+        this.abandoned = deliveries("failed", meterRegistry);
+        this.latency = Timer.builder(LATENCY_METER_NAME)
+            .description("Time from adding an email to the outbox to sending it")
+            .register(meterRegistry);
+    }
+
+    private static Counter deliveries(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder(DELIVERIES_METER_NAME)
+            .description("Attempts to send an email from the outbox")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Add an email to send once the current transaction commits.
+     *
+     * @param to the recipient.
+     * @param subject the subject.
+     * @param content the content.
+     * @param isMultipart whether the email is multipart.
+     * @param isHtml whether the content is HTML.
+     * @param priority whether the email is sent before the others.
+     */
+    @Transactional
+    public void add(String to, String subject, String content, boolean isMultipart, boolean isHtml, boolean priority) {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.update(
+            "insert into mail_outbox (recipient, subject, content, multipart, html, priority, attempts, next_attempt_at, created_at)" +
+            " values (?, ?, ?, ?, ?, ?, 0, ?, ?)",
+            to,
+            subject,
+            content,
+            isMultipart,
+            isHtml,
+            priority,
+            now,
+            now
+        );
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        drainLater();
+                    }
+                }
+            );
+        } else {
+            drainLater();
+        }
+    }
+
+    /**
+     * Send the due emails, unless this instance is already sending them.
+     */
+    @Scheduled(fixedDelayString = "${application.mail-outbox.drain-interval:PT10S}")
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            // emails added meanwhile may have missed the last claim of the running drain
+            drainAgain = true;
+            return;
+        }
+        try {
+            do {
+                drainAgain = false;
+                int claimed;
+                do {
+                    claimed = sendBatch();
+                    // after a full batch, there may be more
+                } while (claimed == properties.getBatchSize());
+            } while (drainAgain);
+            purge();
+            count();
+        } catch (DataAccessException | TransactionException e) {
+            LOG.warn("Could not drain the mail outbox: {}", e.getMessage());
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private void drainLater() {
+        try {
+            executor.execute(this::drain);
+        } catch (RuntimeException e) {
+            LOG.debug("Could not drain the mail outbox now, leaving it to the next drain: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Claim the next due emails and send them.
+     *
+     * @return the number of emails claimed.
+     */
+    private int sendBatch() {
+        List<Email> emails = transactionTemplate.execute(status -> claim());
+        if (!emails.isEmpty()) {
+            send(emails);
+        }
+        return emails.size();
+    }
+
+    private List<Email> claim() {
+        String claim = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        int claimed = jdbcTemplate.update(
+            "update mail_outbox set claimed_by = ?, claimed_until = ?" +
+            " where id in (select id from mail_outbox where failed_at is null and next_attempt_at <= ?" +
+            " and (claimed_until is null or claimed_until < ?) order by priority desc, id fetch first ? rows only)" +
+            // claimed meanwhile by another instance
+            " and (claimed_until is null or claimed_until < ?)",
+            claim,
+            now + properties.getClaimTimeout().toMillis(),
+            now,
+            now,
+            properties.getBatchSize(),
+            now
+        );
+        if (claimed == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+            "select id, recipient, subject, content, multipart, html, attempts, created_at from mail_outbox" +
+            " where claimed_by = ? order by priority desc, id",
+            (rs, rowNum) ->
+                new Email(
+                    rs.getLong("id"),
+                    rs.getString("recipient"),
+                    rs.getString("subject"),
+                    rs.getString("content"),
+                    rs.getBoolean("multipart"),
+                    rs.getBoolean("html"),
+                    rs.getInt("attempts"),
+                    rs.getLong("created_at")
+                ),
+            claim
+        );
+    }
+
+    private void send(List<Email> emails) {
+        Map<MimeMessage, Email> messages = new IdentityHashMap<>();
+        Map<Email, Exception> failures = new IdentityHashMap<>();
+        for (Email email : emails) {
+            try {
+                messages.put(toMimeMessage(email), email);
+            } catch (MessagingException e) {
+                failures.put(email, e);
+            }
+        }
+        if (!messages.isEmpty()) {
+            try {
+                // one connection for the whole batch
+                javaMailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                Map<Object, Exception> failedMessages = e.getFailedMessages();
+                messages.forEach((message, email) -> {
+                    Exception failure = failedMessages.isEmpty() ? e : failedMessages.get(message);
+                    if (failure != null) {
+                        failures.put(email, failure);
+                    }
+                });
+            } catch (MailException e) {
+                messages.values().forEach(email -> failures.put(email, e));
+            }
+        }
+        long now = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Object[]> deleted = new ArrayList<>();
+            for (Email email : emails) {
+                Exception failure = failures.get(email);
+                if (failure == null) {
+                    deleted.add(new Object[] { email.id() });
+                    latency.record(now - email.createdAt(), TimeUnit.MILLISECONDS);
+                    sent.increment();
+                    LOG.debug("Sent email to '{}'", email.to());
+                } else {
+                    failed(email, failure, now);
+                }
+            }
+            jdbcTemplate.batchUpdate("delete from mail_outbox where id = ?", deleted);
+        });
+    }
+
+    private MimeMessage toMimeMessage(Email email) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper message = new MimeMessageHelper(mimeMessage, email.isMultipart(), StandardCharsets.UTF_8.name());
+        message.setTo(email.to());
+        message.setFrom(jHipsterProperties.getMail().getFrom());
+        message.setSubject(email.subject());
+        message.setText(email.content(), email.isHtml());
+        return mimeMessage;
+    }
+
+    private void failed(Email email, Exception e, long now) {
+        int attempts = email.attempts() + 1;
+        String error = String.valueOf(e.getMessage());
+        error = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= properties.getMaxAttempts()) {
+            LOG.error("Email could not be sent to '{}' after {} attempts, giving up", email.to(), attempts, e);
+            // the content isn't needed anymore, and may hold keys
+            jdbcTemplate.update(
+                "update mail_outbox set attempts = ?, failed_at = ?, last_error = ?, content = '', claimed_by = null," +
+                " claimed_until = null where id = ?",
+                attempts,
+                now,
+                error,
+                email.id()
+            );
+            abandoned.increment();
+        } else {
+            Duration backoff = backoff(attempts);
+            LOG.warn("Email could not be sent to '{}', retrying in {}: {}", email.to(), backoff, error);
+            jdbcTemplate.update(
+                "update mail_outbox set attempts = ?, next_attempt_at = ?, last_error = ?, claimed_by = null, claimed_until = null" +
+                " where id = ?",
+                attempts,
+                now + backoff.toMillis(),
+                error,
+                email.id()
+            );
+            retried.increment();
+        }
+    }
+
+    /**
+     * The initial backoff, doubled for every attempt after the first one, up to the maximum backoff.
+     */
+    private Duration backoff(int attempts) {
+        Duration backoff = properties.getInitialBackoff();
+        for (int i = 1; i < attempts && backoff.compareTo(properties.getMaxBackoff()) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(properties.getMaxBackoff()) < 0 ? backoff : properties.getMaxBackoff();
+    }
+
+    /**
+     * Delete the emails given up on for longer than their retention.
+     */
+    private void purge() {
+        int purged = jdbcTemplate.update(
+            "delete from mail_outbox where failed_at < ?",
+            System.currentTimeMillis() - properties.getFailedRetention().toMillis()
+        );
+        if (purged > 0) {
+            LOG.debug("Deleted {} failed emails from the mail outbox", purged);
+        }
+    }
+
+    private void count() {
+        jdbcTemplate.query("select count(*) - count(failed_at), count(failed_at) from mail_outbox", rs -> {
+            pending.set(rs.getLong(1));
+            failed.set(rs.getLong(2));
+        });
+    }
+
+    private record Email(
+        long id,
+        String to,
+        String subject,
+        String content,
+        boolean isMultipart,
+        boolean isHtml,
+        int attempts,
+        long createdAt
+    ) {}
+}
@@ -4,6 +4,7 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import java.nio.charset.StandardCharsets;
 import java.util.Locale;
+import org.jhipster.task.config.Constants;
 import org.jhipster.task.domain.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +14,7 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 import tech.jhipster.config.JHipsterProperties;
@@ -20,7 +22,8 @@ import tech.jhipster.config.JHipsterProperties;
 /**
  * Service for sending emails asynchronously.
  * <p>
- * We use the {@link Async} annotation to send emails asynchronously.
+ * We use the {@link Async} annotation to send emails asynchronously. The account emails are added to the
+ * {@link MailOutbox} instead, with the transaction of the change they are about, and sent from there once it commits.
  */
 @Service
 public class MailService {
@@ -39,16 +42,20 @@ public class MailService {
 
     private final SpringTemplateEngine templateEngine;
 
+    private final MailOutbox mailOutbox;
+
     public MailService(
         JHipsterProperties jHipsterProperties,
         JavaMailSender javaMailSender,
         MessageSource messageSource,
-        SpringTemplateEngine templateEngine
+        SpringTemplateEngine templateEngine,
+        MailOutbox mailOutbox
     ) {
         this.jHipsterProperties = jHipsterProperties;
         this.javaMailSender = javaMailSender;
         this.messageSource = messageSource;
         this.templateEngine = templateEngine;
+        this.mailOutbox = mailOutbox;
     }
 
     @Async
@@ -91,30 +98,52 @@ public class MailService {
             LOG.debug("Email doesn't exist for user '{}'", user.getLogin());
             return;
         }
-        Locale locale = Locale.forLanguageTag(user.getLangKey());
+        Locale locale = locale(user);
+        sendEmailSync(user.getEmail(), subject(titleKey, locale), content(user, templateName, locale), false, true);
+    }
+
+    private void queueEmailFromTemplate(User user, String templateName, String titleKey, boolean priority) {
+        if (user.getEmail() == null) {
+            LOG.debug("Email doesn't exist for user '{}'", user.getLogin());
+            return;
+        }
+        Locale locale = locale(user);
+        mailOutbox.add(user.getEmail(), subject(titleKey, locale), content(user, templateName, locale), false, true, priority);
+    }
+
+    /**
+     * The locale of the user, who may have registered without a language.
+     */
+    private static Locale locale(User user) {
+        return Locale.forLanguageTag(user.getLangKey() == null ? Constants.DEFAULT_LANGUAGE : user.getLangKey());
+    }
+
+    private String subject(String titleKey, Locale locale) {
+        return messageSource.getMessage(titleKey, null, locale);
+    }
+
+    private String content(User user, String templateName, Locale locale) {
         Context context = new Context(locale);
         context.setVariable(USER, user);
         context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
-        String content = templateEngine.process(templateName, context);
-        String subject = messageSource.getMessage(titleKey, null, locale);
-        sendEmailSync(user.getEmail(), subject, content, false, true);
+        return templateEngine.process(templateName, context);
     }
 
-    @Async
+    @Transactional
     public void sendActivationEmail(User user) {
         LOG.debug("Sending activation email to '{}'", user.getEmail());
-        sendEmailFromTemplateSync(user, "mail/activationEmail", "email.activation.title");
+        queueEmailFromTemplate(user, "mail/activationEmail", "email.activation.title", true);
     }
 
-    @Async
+    @Transactional
     public void sendCreationEmail(User user) {
         LOG.debug("Sending creation email to '{}'", user.getEmail());
-        sendEmailFromTemplateSync(user, "mail/creationEmail", "email.activation.title");
+        queueEmailFromTemplate(user, "mail/creationEmail", "email.activation.title", false);
     }
 
-    @Async
+    @Transactional
     public void sendPasswordResetMail(User user) {
         LOG.debug("Sending password reset email to '{}'", user.getEmail());
-        sendEmailFromTemplateSync(user, "mail/passwordResetEmail", "email.reset.title");
+        queueEmailFromTemplate(user, "mail/passwordResetEmail", "email.reset.title", true);
     }
 }
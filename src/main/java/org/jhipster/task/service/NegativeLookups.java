@@ -0,0 +1,307 @@
+package org.jhipster.task.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.jhipster.task.config.ApplicationProperties;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.User;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.PostsSlug;
+import org.jhipster.task.repository.PrimaryReads;
+import org.jhipster.task.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link BloomFilter}s of the keys posts and users are looked up by, so that a lookup of a key that doesn't exist is
+ * answered without a query. Missing keys aren't cached otherwise, and crawlers ask for a lot of them.
+ * <p>
+ * The filters are built once the application is ready, and built again every
+ * {@code application.cache.negative-lookups.rebuild-interval} to drop the keys deleted since. Keys are added as posts
+ * and users are inserted or change keys, from Hibernate's listeners, both when they are flushed and once the
+ * transaction commits, so that a rebuild running meanwhile doesn't miss them. The other instances are told through the
+ * {@link CacheInvalidationBus}. Rows inserted without Hibernate are only found after the next rebuild. Until they are
+ * built, and when disabled, the filters answer that every key may exist.
+ */
+@Service
+public class NegativeLookups implements PostInsertEventListener, PostUpdateEventListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NegativeLookups.class);
+
+    public static final String LOOKUPS_METER_NAME = "cache.negative.lookups";
+
+    public enum Filter {
+        POST_IDS,
+        POST_SLUGS,
+        USER_LOGINS,
+        /**
+         * Emails in lower case, as they are looked up ignoring the case.
+         */
+        USER_EMAILS,
+    }
+
+    private final Map<Filter, Slot> slots = new EnumMap<>(Filter.class);
+
+    private final ApplicationProperties.Cache.NegativeLookups properties;
+
+    private final PostsRepository postsRepository;
+
+    private final UserRepository userRepository;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    public NegativeLookups(
+        ApplicationProperties applicationProperties,
+        PostsRepository postsRepository,
+        UserRepository userRepository,
+        CacheInvalidationBus cacheInvalidationBus,
+        EntityManagerFactory entityManagerFactory,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = applicationProperties.getCache().getNegativeLookups();
+        this.postsRepository = postsRepository;
+        this.userRepository = userRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        for (Filter filter : Filter.values()) {
+            slots.put(filter, new Slot(filter, meterRegistry));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        cacheInvalidationBus.onExists((filter, key) -> slots.get(Filter.valueOf(filter)).put(key));
+    }
+
+    /**
+     * @return {@code false} if there is no row with the key, {@code true} if there may be one.
+     */
+    public boolean mightExist(Filter filter, Object key) {
+        if (key == null) {
+            return true;
+        }
+        return slots.get(filter).mightContain(normalize(filter, key));
+    }
+
+    /**
+     * Add the key of a row being saved.
+     */
+    public void add(Filter filter, Object key) {
+        Map<Filter, Object> keys = new EnumMap<>(Filter.class);
+        keys.put(filter, key);
+        add(keys);
+    }
+
+    /**
+     * Add the keys of a row being saved, told to the other instances together.
+     */
+    private void add(Map<Filter, Object> keys) {
+        Map<String, String> added = new LinkedHashMap<>();
+        keys.forEach((filter, key) -> {
+            if (key != null) {
+                String normalized = normalize(filter, key);
+                slots.get(filter).put(normalized);
+                added.put(filter.name(), normalized);
+            }
+        });
+        if (added.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        added.forEach((filter, normalized) -> slots.get(Filter.valueOf(filter)).put(normalized));
+                    }
+                }
+            );
+        }
+        cacheInvalidationBus.exists(added);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        Map<Filter, Object> keys = new EnumMap<>(Filter.class);
+        if (event.getEntity() instanceof Posts posts) {
+            keys.put(Filter.POST_IDS, posts.getId());
+            keys.put(Filter.POST_SLUGS, posts.getSlug());
+        } else if (event.getEntity() instanceof User user) {
+            keys.put(Filter.USER_LOGINS, user.getLogin());
+            keys.put(Filter.USER_EMAILS, user.getEmail());
+        }
+        add(keys);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Map<Filter, Object> keys = new EnumMap<>(Filter.class);
+        if (event.getEntity() instanceof Posts) {
+            putIfChanged(keys, event, "slug", Filter.POST_SLUGS);
+        } else if (event.getEntity() instanceof User) {
+            putIfChanged(keys, event, "login", Filter.USER_LOGINS);
+            putIfChanged(keys, event, "email", Filter.USER_EMAILS);
+        }
+        add(keys);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Posts changed without Hibernate's listeners still have their slug added. When the listeners did see the change,
+     * the {@link CacheInvalidationBus} sends the key once.
+     */
+    @EventListener
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (event.change() == PostsChangedEvent.Change.UPDATED) {
+            add(Filter.POST_SLUGS, event.slug());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * Build the filters again from the database.
+     * <p>
+     * The keys are read from the primary database, see {@link PrimaryReads}: a key missing from a replica behind it would
+     * be answered as not existing until the next rebuild. When the schema isn't there yet, as with
+     * {@code application.liquibase.async-start}, the filters are built on the next rebuild.
+     */
+    @Scheduled(
+        fixedDelayString = "${application.cache.negative-lookups.rebuild-interval:PT1H}",
+        initialDelayString = "${application.cache.negative-lookups.rebuild-interval:PT1H}"
+    )
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            PrimaryReads.run(this::buildFromTheDatabase);
+        } catch (DataAccessException e) {
+            slots.values().forEach(slot -> slot.building = null);
+            LOG.warn("Could not build the negative lookup filters: {}", e.getMessage());
+        }
+    }
+
+    private void buildFromTheDatabase() {
+        long posts = postsRepository.count();
+        long users = userRepository.count();
+        slots.get(Filter.POST_IDS).startBuilding(posts);
+        slots.get(Filter.POST_SLUGS).startBuilding(posts);
+        slots.get(Filter.USER_LOGINS).startBuilding(users);
+        slots.get(Filter.USER_EMAILS).startBuilding(users);
+        for (PostsSlug slug : postsRepository.findAllSlugs()) {
+            slots.get(Filter.POST_IDS).building.put(slug.getId().toString());
+            slots.get(Filter.POST_SLUGS).building.put(slug.getSlug());
+        }
+        userRepository.findAllLogins().forEach(slots.get(Filter.USER_LOGINS).building::put);
+        userRepository.findAllEmails().forEach(slots.get(Filter.USER_EMAILS).building::put);
+        slots.values().forEach(Slot::finishBuilding);
+        LOG.debug("Built the negative lookup filters of {} posts and {} users", posts, users);
+    }
+
+    private static void putIfChanged(Map<Filter, Object> keys, PostUpdateEvent event, String property, Filter filter) {
+        int index = event.getPersister().getPropertyIndex(property);
+        Object key = event.getState()[index];
+        if (event.getOldState() == null || !Objects.equals(event.getOldState()[index], key)) {
+            keys.put(filter, key);
+        }
+    }
+
+    private static String normalize(Filter filter, Object key) {
+        return filter == Filter.USER_EMAILS ? key.toString().toLowerCase(Locale.ROOT) : key.toString();
+    }
+
+    private final class Slot {
+
+        private volatile BloomFilter current;
+
+        /**
+         * The filter being built, which gets the keys added meanwhile too.
+         */
+        private volatile BloomFilter building;
+
+        private final Counter absent;
+
+        private final Counter present;
+
+        private Slot(Filter filter, MeterRegistry meterRegistry) {
+            String name = filter.name().toLowerCase(Locale.ROOT);
+            this.absent = lookupsCounter(meterRegistry, name, "absent");
+            this.present = lookupsCounter(meterRegistry, name, "maybe");
+        }
+
+        private void startBuilding(long rows) {
+            long expectedKeys = Math.max(rows * 2, properties.getMinExpectedKeys());
+            building = new BloomFilter(expectedKeys, properties.getFalsePositiveProbability());
+        }
+
+        private void finishBuilding() {
+            current = building;
+            building = null;
+        }
+
+        private void put(String key) {
+            // the filter being built first, as it replaces the current one when done
+            BloomFilter next = building;
+            BloomFilter filter = current;
+            if (filter != null) {
+                filter.put(key);
+            }
+            if (next != null) {
+                next.put(key);
+            }
+        }
+
+        private boolean mightContain(String key) {
+            BloomFilter filter = current;
+            if (filter == null) {
+                return true;
+            }
+            boolean mightContain = filter.mightContain(key);
+            (mightContain ? present : absent).increment();
+            return mightContain;
+        }
+    }
+
+    private static Counter lookupsCounter(MeterRegistry meterRegistry, String filter, String result) {
+        return Counter.builder(LOOKUPS_METER_NAME)
+            .description("Lookups answered by the negative lookup filters")
+            .tag("filter", filter)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
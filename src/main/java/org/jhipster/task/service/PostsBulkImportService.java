@@ -0,0 +1,198 @@
+package org.jhipster.task.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.jhipster.task.config.ApplicationProperties;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.service.dto.BulkImportRecordDTO;
+import org.jhipster.task.service.dto.BulkImportReportDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for importing posts in bulk.
+ * <p>
+ * Posts are read one at a time from a JSON array or from newline delimited JSON, validated, and inserted in chunks of
+ * {@code application.posts.bulk-import.chunk-size}, one transaction per chunk. Inside a chunk Hibernate sends the
+ * inserts as JDBC batches ({@code hibernate.jdbc.batch_size}) and takes ids from the pooled sequence optimizer, so a
+ * chunk costs a few round trips instead of one per post. When a chunk is rejected by the database, its posts are
+ * retried one by one so that only the offending records are reported as failed.
+ */
+@Service
+public class PostsBulkImportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostsBulkImportService.class);
+
+    private final PostsRepository postsRepository;
+
+    private final PostsRevisions postsRevisions;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Validator validator;
+
+    private final ObjectReader postsReader;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ApplicationProperties applicationProperties;
+
+    public PostsBulkImportService(
+        PostsRepository postsRepository,
+        PostsRevisions postsRevisions,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        Validator validator,
+        ObjectMapper objectMapper,
+        ApplicationEventPublisher eventPublisher,
+        ApplicationProperties applicationProperties
+    ) {
+        this.postsRepository = postsRepository;
+        this.postsRevisions = postsRevisions;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.postsReader = objectMapper.readerFor(Posts.class);
+        this.eventPublisher = eventPublisher;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Import the posts read from {@code in}, either a JSON array or newline delimited JSON documents.
+     * <p>
+     * Each chunk is committed on its own, so posts imported before a failure stay imported.
+     *
+     * @param in the stream to read the posts from.
+     * @return the outcome of every record.
+     * @throws IOException if the stream can't be read.
+     */
+    public BulkImportReportDTO importPosts(InputStream in) throws IOException {
+        int chunkSize = applicationProperties.getPosts().getBulkImport().getChunkSize();
+        BulkImportReportDTO report = new BulkImportReportDTO();
+        List<Posts> chunk = new ArrayList<>(chunkSize);
+        List<BulkImportRecordDTO> chunkRecords = new ArrayList<>(chunkSize);
+        try (MappingIterator<Posts> records = postsReader.readValues(in)) {
+            while (true) {
+                BulkImportRecordDTO record = new BulkImportRecordDTO(report.getRecords().size());
+                Posts posts;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    posts = records.nextValue();
+                } catch (DatabindException e) {
+                    // the reader skips to the end of the broken record
+                    report.getRecords().add(reject(record, BulkImportRecordDTO.Status.INVALID, e.getOriginalMessage()));
+                    continue;
+                } catch (JsonProcessingException e) {
+                    String error = "Malformed input, the following records were not read";
+                    report.getRecords().add(reject(record, BulkImportRecordDTO.Status.INVALID, error));
+                    break;
+                }
+                report.getRecords().add(record);
+                // the version is assigned on insert
+                posts.setVersion(null);
+
+                List<String> errors = validate(posts);
+                if (!errors.isEmpty()) {
+                    record.setStatus(BulkImportRecordDTO.Status.INVALID);
+                    record.setErrors(errors);
+                    continue;
+                }
+                chunk.add(posts);
+                chunkRecords.add(record);
+                if (chunk.size() == chunkSize) {
+                    insertChunk(chunk, chunkRecords);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, chunkRecords);
+        }
+        LOG.debug("Bulk import of posts done: {}", report);
+        return report;
+    }
+
+    private List<String> validate(Posts posts) {
+        List<String> errors = new ArrayList<>();
+        if (posts.getId() != null) {
+            errors.add("id: a new posts cannot already have an ID");
+        }
+        for (ConstraintViolation<Posts> violation : validator.validate(posts)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return errors;
+    }
+
+    private void insertChunk(List<Posts> chunk, List<BulkImportRecordDTO> chunkRecords) {
+        try {
+            List<Posts> inserted = transactionTemplate.execute(status -> insert(chunk));
+            for (int i = 0; i < inserted.size(); i++) {
+                created(chunkRecords.get(i), inserted.get(i));
+            }
+        } catch (DataAccessException | TransactionException e) {
+            LOG.debug("Bulk insert of {} posts failed, retrying them one by one: {}", chunk.size(), e.getMessage());
+            for (int i = 0; i < chunk.size(); i++) {
+                Posts posts = chunk.get(i);
+                // the id and the version were assigned in the rolled back transaction: left set, the posts would be
+                // merged as an existing one rather than persisted
+                posts.setId(null);
+                posts.setVersion(null);
+                try {
+                    List<Posts> inserted = transactionTemplate.execute(status -> insert(List.of(posts)));
+                    created(chunkRecords.get(i), inserted.get(0));
+                } catch (DataAccessException | TransactionException retryException) {
+                    String message = NestedExceptionUtils.getMostSpecificCause(retryException).getMessage();
+                    reject(chunkRecords.get(i), BulkImportRecordDTO.Status.FAILED, message);
+                }
+            }
+        }
+        chunk.clear();
+        chunkRecords.clear();
+    }
+
+    private List<Posts> insert(List<Posts> posts) {
+        // imported posts are not worth evicting what is already in the second-level cache
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        List<Posts> inserted = postsRepository.saveAll(posts);
+        postsRepository.flush();
+        inserted.forEach(created -> postsRevisions.changed(created.getStatus(), created.getAuthorLogin()));
+        entityManager.clear();
+        // delivered to the listeners only if the chunk commits
+        inserted.forEach(created -> eventPublisher.publishEvent(PostsChangedEvent.created(created)));
+        return inserted;
+    }
+
+    private static void created(BulkImportRecordDTO record, Posts posts) {
+        record.setStatus(BulkImportRecordDTO.Status.CREATED);
+        record.setId(posts.getId());
+    }
+
+    private static BulkImportRecordDTO reject(BulkImportRecordDTO record, BulkImportRecordDTO.Status status, String error) {
+        record.setStatus(status);
+        record.setErrors(List.of(error));
+        return record;
+    }
+}
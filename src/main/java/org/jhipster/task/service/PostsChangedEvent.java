@@ -0,0 +1,40 @@
+package org.jhipster.task.service;
+
+import org.jhipster.task.domain.Posts;
+
+/**
+ * Published when a post is created, updated or deleted, from within the transaction that changes it.
+ * <p>
+ * Listeners keeping state derived from the posts should be
+ * {@link org.springframework.transaction.event.TransactionalEventListener}s, so that they only see committed changes.
+ *
+ * @param id the id of the post.
+ * @param slug the slug of the post after the change, or {@code null} if the post was deleted or the change didn't
+ * touch its slug.
+ * @param change the kind of change.
+ * @param posts the whole post after the change, or {@code null} if the publisher only changed some of its fields.
+ * Listeners needing more than the slug read the post again when it is missing.
+ */
+public record PostsChangedEvent(Long id, String slug, Change change, Posts posts) {
+    public enum Change {
+        CREATED,
+        UPDATED,
+        DELETED,
+    }
+
+    public static PostsChangedEvent created(Posts posts) {
+        return new PostsChangedEvent(posts.getId(), posts.getSlug(), Change.CREATED, posts);
+    }
+
+    public static PostsChangedEvent updated(Posts posts) {
+        return new PostsChangedEvent(posts.getId(), posts.getSlug(), Change.UPDATED, posts);
+    }
+
+    public static PostsChangedEvent updated(Long id, String slug) {
+        return new PostsChangedEvent(id, slug, Change.UPDATED, null);
+    }
+
+    public static PostsChangedEvent deleted(Long id) {
+        return new PostsChangedEvent(id, null, Change.DELETED, null);
+    }
+}
@@ -0,0 +1,95 @@
+package org.jhipster.task.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.repository.PostsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for exporting all posts as newline delimited JSON.
+ * <p>
+ * Posts are streamed from the database and written one by one, and the persistence context is cleared after every
+ * fetched batch, so the heap used by an export doesn't grow with the number of posts. Posts whose JSON is in the
+ * {@link PostsJsonCache} are copied from there instead of being serialized again; the export doesn't add to the cache.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PostsExportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostsExportService.class);
+
+    private static final char LINE_SEPARATOR = '\n';
+
+    private final PostsRepository postsRepository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectWriter postsWriter;
+
+    private final ObjectMapper objectMapper;
+
+    private final PostsJsonCache postsJsonCache;
+
+    public PostsExportService(
+        PostsRepository postsRepository,
+        EntityManager entityManager,
+        ObjectMapper objectMapper,
+        PostsJsonCache postsJsonCache
+    ) {
+        this.postsRepository = postsRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.postsJsonCache = postsJsonCache;
+        this.postsWriter = objectMapper.writerFor(Posts.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Write every post to {@code out}, one JSON document per line, in id order.
+     * <p>
+     * The stream is flushed but not closed.
+     *
+     * @param out the stream to write to.
+     * @return the number of exported posts.
+     * @throws IOException if writing fails.
+     */
+    public long exportAll(OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<Posts> posts = postsRepository.streamAllForExport(); JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // cached posts are written to out directly, after draining the generator but without flushing out
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            // lines are delimited explicitly, not by the default space between root values
+            generator.setRootValueSeparator(null);
+            for (Iterator<Posts> it = posts.iterator(); it.hasNext();) {
+                Posts next = it.next();
+                byte[] cached = postsJsonCache.getIfCached(next);
+                if (cached != null) {
+                    generator.flush();
+                    out.write(cached);
+                } else {
+                    postsWriter.writeValue(generator, next);
+                }
+                generator.writeRaw(LINE_SEPARATOR);
+                if (++count % PostsRepository.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                    generator.flush();
+                }
+            }
+        }
+        out.flush();
+        entityManager.clear();
+        LOG.debug("Exported {} posts", count);
+        return count;
+    }
+}
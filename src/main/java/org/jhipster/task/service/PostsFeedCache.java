@@ -0,0 +1,262 @@
+package org.jhipster.task.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.repository.OrderedMerge;
+import org.jhipster.task.repository.PostSummary;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.PrimaryReads;
+import org.jhipster.task.service.dto.PostSummaryDTO;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cache of the pages read by the feed queries of {@link PostsRepository}.
+ * <p>
+ * The published posts and the drafts of each user are cached apart, in their own region, and merged per request like
+ * the uncached queries do. Keys carry the revision of their scope, see {@link PostsRevisions}, read in the transaction
+ * of the page: the pages are read from a read replica when there is one, and a page read from a replica behind the
+ * primary is cached under the revision of that replica, which the readers of the current revision never look up. Keys
+ * also carry a generation: a committed {@link PostsChangedEvent} starts a new generation of
+ * the published pages if the post is published now or was on a cached page, and of the draft pages of a user if it is
+ * one of their drafts now or was on one of their cached pages. Pages of older generations are never read again and
+ * age out of the cache, so editing a draft only invalidates the pages of its author.
+ * <p>
+ * Pages read in a read-write transaction aren't cached, as they may contain changes that are never committed.
+ */
+@Service
+public class PostsFeedCache {
+
+    public static final String PUBLISHED_PAGES_CACHE = "postsPublishedPages";
+
+    public static final String DRAFT_PAGES_CACHE = "postsDraftPages";
+
+    public static final String GETS_METER_NAME = "posts.feed.cache.gets";
+
+    private final Cache publishedPages;
+
+    private final Cache draftPages;
+
+    private final PostsRepository postsRepository;
+
+    /**
+     * Number of changes seen so far, so a page read while a change commits isn't cached.
+     */
+    private final AtomicLong changes = new AtomicLong();
+
+    private final AtomicLong publishedGeneration = new AtomicLong();
+
+    /**
+     * Ids of the posts on the published pages cached since the last change of generation.
+     */
+    private final Set<Long> publishedPageIds = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, AtomicLong> draftGenerations = new ConcurrentHashMap<>();
+
+    /**
+     * Login of the user whose cached draft pages hold each post.
+     */
+    private final Map<Long, String> draftPageOwners = new ConcurrentHashMap<>();
+
+    private final Counter publishedHits;
+
+    private final Counter publishedMisses;
+
+    private final Counter draftHits;
+
+    private final Counter draftMisses;
+
+    public PostsFeedCache(CacheManager cacheManager, PostsRepository postsRepository, MeterRegistry meterRegistry) {
+        this.publishedPages = Objects.requireNonNull(cacheManager.getCache(PUBLISHED_PAGES_CACHE));
+        this.draftPages = Objects.requireNonNull(cacheManager.getCache(DRAFT_PAGES_CACHE));
+        this.postsRepository = postsRepository;
+        this.publishedHits = getsCounter(PUBLISHED_PAGES_CACHE, "hit").register(meterRegistry);
+        this.publishedMisses = getsCounter(PUBLISHED_PAGES_CACHE, "miss").register(meterRegistry);
+        this.draftHits = getsCounter(DRAFT_PAGES_CACHE, "hit").register(meterRegistry);
+        this.draftMisses = getsCounter(DRAFT_PAGES_CACHE, "miss").register(meterRegistry);
+    }
+
+    private static Counter.Builder getsCounter(String cache, String result) {
+        return Counter.builder(GETS_METER_NAME)
+            .description("Pages of the posts feed looked up in the cache.")
+            .tag("cache", cache)
+            .tag("result", result);
+    }
+
+    /**
+     * Cached {@link PostsRepository#findPublishedAndOwnDrafts(String, Pageable)}.
+     *
+     * @param revision the revision of the feed of the user, read in the current transaction.
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummary> findPublishedAndOwnDrafts(String currentUserLogin, PostsRevisions.FeedRevision revision, Pageable pageable) {
+        PageKey page = new PageKey("first", null, null, pageable.getPageSize());
+        return OrderedMerge.merge(
+            publishedPage(revision, page, () -> postsRepository.streamPublished(pageable)).iterator(),
+            draftPage(currentUserLogin, revision, page, () -> postsRepository.streamOwnDrafts(currentUserLogin, pageable)).iterator(),
+            PostsRepository.FEED_ORDER,
+            pageable.getPageSize()
+        );
+    }
+
+    /**
+     * Cached {@link PostsRepository#findPublishedAndOwnDraftsBefore(String, Instant, Long, Pageable)}.
+     *
+     * @param revision the revision of the feed of the user, read in the current transaction.
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummary> findPublishedAndOwnDraftsBefore(
+        String currentUserLogin,
+        PostsRevisions.FeedRevision revision,
+        Instant publishedAt,
+        Long id,
+        Pageable pageable
+    ) {
+        PageKey page = new PageKey("before", publishedAt, id, pageable.getPageSize());
+        return OrderedMerge.merge(
+            publishedPage(revision, page, () -> postsRepository.streamPublishedBefore(publishedAt, id, pageable)).iterator(),
+            draftPage(currentUserLogin, revision, page, () ->
+                postsRepository.streamOwnDraftsBefore(currentUserLogin, publishedAt, id, pageable)
+            ).iterator(),
+            PostsRepository.FEED_ORDER,
+            pageable.getPageSize()
+        );
+    }
+
+    /**
+     * Cached {@link PostsRepository#findPublishedAndOwnDraftsAfter(String, Instant, Long, Pageable)}.
+     *
+     * @param revision the revision of the feed of the user, read in the current transaction.
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummary> findPublishedAndOwnDraftsAfter(
+        String currentUserLogin,
+        PostsRevisions.FeedRevision revision,
+        Instant publishedAt,
+        Long id,
+        Pageable pageable
+    ) {
+        PageKey page = new PageKey("after", publishedAt, id, pageable.getPageSize());
+        return OrderedMerge.merge(
+            publishedPage(revision, page, () -> postsRepository.streamPublishedAfter(publishedAt, id, pageable)).iterator(),
+            draftPage(currentUserLogin, revision, page, () ->
+                postsRepository.streamOwnDraftsAfter(currentUserLogin, publishedAt, id, pageable)
+            ).iterator(),
+            PostsRepository.FEED_ORDER.reversed(),
+            pageable.getPageSize()
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        changes.incrementAndGet();
+        PostSummary summary = null;
+        if (event.change() != PostsChangedEvent.Change.DELETED) {
+            summary = event.posts() != null
+                ? new PostSummaryDTO(event.posts())
+                : PrimaryReads.call(() -> postsRepository.findSummaryById(event.id())).orElse(null);
+        }
+
+        if ((summary != null && summary.getStatus() == PostStatus.PUBLISHED) || publishedPageIds.contains(event.id())) {
+            // clear before moving on, so ids recorded for the new generation are kept
+            publishedPageIds.clear();
+            publishedGeneration.incrementAndGet();
+        }
+        String owner = draftPageOwners.remove(event.id());
+        if (owner != null) {
+            nextDraftGeneration(owner);
+        }
+        if (summary != null && summary.getStatus() == PostStatus.DRAFT && !summary.getAuthorLogin().equals(owner)) {
+            nextDraftGeneration(summary.getAuthorLogin());
+        }
+    }
+
+    private void nextDraftGeneration(String login) {
+        draftGenerations.computeIfAbsent(login, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private List<PostSummaryDTO> publishedPage(PostsRevisions.FeedRevision revision, PageKey page, Supplier<Stream<PostSummary>> query) {
+        CacheKey key = new CacheKey(null, revision.published(), publishedGeneration.get(), page);
+        CachedPage cached = publishedPages.get(key, CachedPage.class);
+        if (cached != null) {
+            publishedHits.increment();
+            return cached.posts();
+        }
+        publishedMisses.increment();
+        long seen = changes.get();
+        List<PostSummaryDTO> posts = read(query);
+        if (isCacheable()) {
+            posts.forEach(summary -> publishedPageIds.add(summary.getId()));
+            if (changes.get() == seen) {
+                publishedPages.put(key, new CachedPage(posts));
+            }
+        }
+        return posts;
+    }
+
+    private List<PostSummaryDTO> draftPage(
+        String login,
+        PostsRevisions.FeedRevision revision,
+        PageKey page,
+        Supplier<Stream<PostSummary>> query
+    ) {
+        long generation = draftGenerations.computeIfAbsent(login, ignored -> new AtomicLong()).get();
+        CacheKey key = new CacheKey(login, revision.drafts(), generation, page);
+        CachedPage cached = draftPages.get(key, CachedPage.class);
+        if (cached != null) {
+            draftHits.increment();
+            return cached.posts();
+        }
+        draftMisses.increment();
+        long seen = changes.get();
+        List<PostSummaryDTO> posts = read(query);
+        if (isCacheable()) {
+            posts.forEach(summary -> draftPageOwners.put(summary.getId(), login));
+            if (changes.get() == seen) {
+                draftPages.put(key, new CachedPage(posts));
+            }
+        }
+        return posts;
+    }
+
+    private static List<PostSummaryDTO> read(Supplier<Stream<PostSummary>> query) {
+        try (Stream<PostSummary> rows = query.get()) {
+            return rows.map(PostSummaryDTO::new).toList();
+        }
+    }
+
+    private static boolean isCacheable() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return true;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * Position and size of a page, the same for the published posts and the drafts.
+     */
+    record PageKey(String direction, Instant publishedAt, Long id, int size) implements Serializable {}
+
+    /**
+     * A page of the published posts, or of the drafts of {@code login}, at a revision and in a generation.
+     */
+    record CacheKey(String login, long revision, long generation, PageKey page) implements Serializable {}
+
+    record CachedPage(List<PostSummaryDTO> posts) implements Serializable {}
+}
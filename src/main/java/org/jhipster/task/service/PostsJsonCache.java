@@ -0,0 +1,71 @@
+package org.jhipster.task.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import org.jhipster.task.domain.Posts;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Cache of the JSON representation of posts, so that reading a post doesn't serialize its content again.
+ * <p>
+ * Entries are keyed by id and remember the version they were serialized from: an entry is only used for that version
+ * of the post, and is evicted once a change to the post commits. The cached arrays are shared and must not be modified.
+ */
+@Service
+public class PostsJsonCache {
+
+    public static final String POSTS_JSON_CACHE = "postsJson";
+
+    private final Cache cache;
+
+    private final ObjectWriter postsWriter;
+
+    public PostsJsonCache(CacheManager cacheManager, ObjectMapper objectMapper) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(POSTS_JSON_CACHE));
+        this.postsWriter = objectMapper.writerFor(Posts.class);
+    }
+
+    /**
+     * Get the JSON representation of a post, serializing and caching it unless it is cached for its version.
+     *
+     * @param posts the post.
+     * @return the UTF-8 encoded JSON of the post.
+     */
+    public byte[] toJson(Posts posts) {
+        byte[] json = getIfCached(posts);
+        if (json == null) {
+            try {
+                json = postsWriter.writeValueAsBytes(posts);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+            cache.put(posts.getId(), new CachedJson(posts.getVersion(), json));
+        }
+        return json;
+    }
+
+    /**
+     * Get the JSON representation of a post if it is cached for its version, without serializing it otherwise.
+     *
+     * @param posts the post.
+     * @return the UTF-8 encoded JSON of the post, or {@code null}.
+     */
+    public byte[] getIfCached(Posts posts) {
+        CachedJson cached = cache.get(posts.getId(), CachedJson.class);
+        return cached != null && Objects.equals(cached.version(), posts.getVersion()) ? cached.json() : null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        cache.evict(event.id());
+    }
+
+    record CachedJson(Long version, byte[] json) implements Serializable {}
+}
@@ -0,0 +1,252 @@
+package org.jhipster.task.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jhipster.task.config.ApplicationProperties;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.repository.OrderedMerge;
+import org.jhipster.task.repository.PostSummary;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.PrimaryReads;
+import org.jhipster.task.service.dto.PostSummaryDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * The newest published posts, held in memory so the first page of the feed is served without a query.
+ * <p>
+ * The posts are kept as an immutable list in feed order, swapped atomically on every committed
+ * {@link PostsChangedEvent}: readers never lock and always see a consistent list. Events may be delivered out of
+ * order, so a change is only applied when it is newer than the version held, or than the version of the post when it
+ * left the list. At most {@code application.posts.latest.capacity} posts are held; when a post leaves a full list, it
+ * is reloaded from the database to bring the next one in.
+ * <p>
+ * Drafts are only visible to their author, so they are read per request, but only for users known to have drafts.
+ */
+@Service
+public class PostsLatestFeed {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostsLatestFeed.class);
+
+    /**
+     * Reads of the newest posts before giving up installing them, when changes keep being committed meanwhile.
+     */
+    static final int MAX_RELOAD_ATTEMPTS = 5;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * Number of changes applied so far, so a reload can tell whether a change was committed while it was reading.
+     */
+    private final AtomicLong changes = new AtomicLong();
+
+    /**
+     * Logins that may have drafts, each with the stamp of the last time it was marked.
+     */
+    private final Map<String, Long> draftAuthors = new ConcurrentHashMap<>();
+
+    private final AtomicLong stamps = new AtomicLong();
+
+    private volatile boolean draftAuthorsLoaded;
+
+    private final PostsRepository postsRepository;
+
+    private final int capacity;
+
+    public PostsLatestFeed(PostsRepository postsRepository, ApplicationProperties applicationProperties) {
+        this.postsRepository = postsRepository;
+        this.capacity = applicationProperties.getPosts().getLatest().getCapacity();
+    }
+
+    /**
+     * @return the maximum number of published posts served from memory.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Load the newest published posts and the authors of drafts.
+     * <p>
+     * When the schema isn't there yet, as with {@code application.liquibase.async-start}, they are loaded on first use.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        try {
+            Snapshot loaded = reload();
+            loadDraftAuthors();
+            LOG.debug("Loaded the {} latest published posts", loaded.posts().size());
+        } catch (DataAccessException e) {
+            LOG.warn("Could not load the latest posts, they will be loaded on demand: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get the newest posts visible to a user: the published posts and the user's own drafts, newest first.
+     *
+     * @param currentUserLogin the login of the current user.
+     * @param limit the maximum number of posts to return, at most {@link #getCapacity()}.
+     * @return the posts, newest first.
+     */
+    public List<PostSummaryDTO> latest(String currentUserLogin, int limit) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            current = reload();
+        }
+        List<PostSummaryDTO> published = current.posts().subList(0, Math.min(limit, current.posts().size()));
+        if (!draftAuthorsLoaded) {
+            loadDraftAuthors();
+        }
+        Long stamp = draftAuthors.get(currentUserLogin);
+        if (stamp == null) {
+            return published;
+        }
+        List<PostSummary> drafts = postsRepository.findOwnDrafts(currentUserLogin, PageRequest.ofSize(limit));
+        if (drafts.isEmpty()) {
+            // unless a draft was created since the query
+            draftAuthors.remove(currentUserLogin, stamp);
+            return published;
+        }
+        return OrderedMerge.merge(published.iterator(), drafts.iterator(), PostsRepository.FEED_ORDER, limit)
+            .stream()
+            .map(summary -> summary instanceof PostSummaryDTO dto ? dto : new PostSummaryDTO(summary))
+            .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        changes.incrementAndGet();
+        if (event.change() == PostsChangedEvent.Change.DELETED) {
+            refillIfShort(snapshot.updateAndGet(current -> current == null ? null : current.without(event.id(), capacity)));
+            return;
+        }
+        PostSummaryDTO summary = event.posts() != null
+            ? new PostSummaryDTO(event.posts())
+            : PrimaryReads.call(() -> postsRepository.findSummaryById(event.id())).map(PostSummaryDTO::new).orElse(null);
+        if (summary == null) {
+            // deleted since, its own event follows
+            return;
+        }
+        if (summary.getStatus() == PostStatus.DRAFT) {
+            draftAuthors.put(summary.getAuthorLogin(), stamps.incrementAndGet());
+        }
+        refillIfShort(snapshot.updateAndGet(current -> current == null ? null : current.with(summary, capacity)));
+    }
+
+    private void refillIfShort(Snapshot current) {
+        if (current != null && !current.complete() && current.posts().size() < capacity) {
+            reload();
+        }
+    }
+
+    /**
+     * Read the newest published posts and install them, unless a change was applied while reading, in which case the
+     * read is retried so the change isn't lost. After {@link #MAX_RELOAD_ATTEMPTS} reads, the last one is served
+     * without being installed, and the list is loaded again on the next read.
+     */
+    private Snapshot reload() {
+        Snapshot loaded = null;
+        for (int attempt = 0; attempt < MAX_RELOAD_ATTEMPTS; attempt++) {
+            long seen = changes.get();
+            Snapshot current = snapshot.get();
+            loaded = Snapshot.of(
+                PrimaryReads.call(() -> postsRepository.findLatestPublished(PageRequest.ofSize(capacity + 1))),
+                capacity,
+                current == null ? Map.of() : current.removed()
+            );
+            if (changes.get() == seen && snapshot.compareAndSet(current, loaded)) {
+                return loaded;
+            }
+        }
+        LOG.debug("The latest posts kept changing while loading them, loading them again on the next read");
+        snapshot.set(null);
+        return loaded;
+    }
+
+    private void loadDraftAuthors() {
+        long stamp = stamps.incrementAndGet();
+        postsRepository.findDraftAuthors().forEach(login -> draftAuthors.putIfAbsent(login, stamp));
+        draftAuthorsLoaded = true;
+    }
+
+    /**
+     * @param posts the newest published posts, in feed order.
+     * @param complete whether these are all the published posts.
+     * @param removed the versions of the posts that recently left the list, {@link Long#MAX_VALUE} for the deleted
+     * ones, at most as many as the capacity.
+     */
+    record Snapshot(List<PostSummaryDTO> posts, boolean complete, Map<Long, Long> removed) {
+        static Snapshot of(List<PostSummary> rows, int capacity, Map<Long, Long> removed) {
+            return new Snapshot(rows.stream().limit(capacity).map(PostSummaryDTO::new).toList(), rows.size() <= capacity, removed);
+        }
+
+        Snapshot without(Long id, int capacity) {
+            return remove(id, Long.MAX_VALUE, capacity);
+        }
+
+        Snapshot with(PostSummaryDTO summary, int capacity) {
+            if (isOutdated(summary)) {
+                return this;
+            }
+            if (summary.getStatus() != PostStatus.PUBLISHED) {
+                return remove(summary.getId(), summary.getVersion() == null ? 0 : summary.getVersion(), capacity);
+            }
+            Snapshot rest = new Snapshot(posts.stream().filter(held -> !held.getId().equals(summary.getId())).toList(), complete, removed);
+            List<PostSummaryDTO> updated = new ArrayList<>(rest.posts());
+            int position = 0;
+            while (position < updated.size() && PostsRepository.FEED_ORDER.compare(updated.get(position), summary) < 0) {
+                position++;
+            }
+            if (position == updated.size() && !rest.complete()) {
+                // older than every post held, there may be others in between
+                return rest;
+            }
+            updated.add(position, summary);
+            if (updated.size() > capacity) {
+                return new Snapshot(List.copyOf(updated.subList(0, capacity)), false, rest.removed());
+            }
+            return new Snapshot(List.copyOf(updated), rest.complete(), rest.removed());
+        }
+
+        /**
+         * Whether a change is older than the version held, or than the version the post had when it left the list.
+         * Changes without a version are never outdated.
+         */
+        boolean isOutdated(PostSummaryDTO summary) {
+            if (summary.getVersion() == null) {
+                return false;
+            }
+            Long removedVersion = removed.get(summary.getId());
+            if (removedVersion != null && summary.getVersion() <= removedVersion) {
+                return true;
+            }
+            return posts
+                .stream()
+                .anyMatch(
+                    held -> held.getId().equals(summary.getId()) && held.getVersion() != null && summary.getVersion() < held.getVersion()
+                );
+        }
+
+        private Snapshot remove(Long id, long version, int capacity) {
+            Map<Long, Long> recentlyRemoved = new LinkedHashMap<>(removed);
+            // most recently removed last
+            recentlyRemoved.remove(id);
+            recentlyRemoved.put(id, Math.max(version, removed.getOrDefault(id, 0L)));
+            while (recentlyRemoved.size() > capacity) {
+                recentlyRemoved.remove(recentlyRemoved.keySet().iterator().next());
+            }
+            return new Snapshot(posts.stream().filter(held -> !held.getId().equals(id)).toList(), complete, recentlyRemoved);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package org.jhipster.task.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.jhipster.task.config.ApplicationProperties;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.PrimaryReads;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Reads posts by id through the second-level cache, so that a hot post missing from the cache is loaded once, however
+ * many requests ask for it at the same time, and is reloaded before it expires while it is being read.
+ * <p>
+ * The posts returned are shared between the concurrent callers and must not be modified. They are read from a read
+ * replica when there is one, which may be up to {@code application.datasource.max-lag} behind the primary before it is
+ * skipped. So that a post isn't cached as it was before a change, the posts changed within that time are kept with the
+ * version they were changed to: a post read older than that is evicted and read again from the primary. The version
+ * isn't known for status changes, deletes and changes made by other instances, so the next read of these posts goes to
+ * the primary.
+ */
+@Service
+public class PostsLookup {
+
+    /**
+     * The version of the changes deleting a post: no version of the post is current anymore.
+     */
+    private static final long DELETED = Long.MAX_VALUE;
+
+    /**
+     * Number of changes between two removals of the changes that replicas have caught up with.
+     */
+    private static final int PRUNE_INTERVAL = 256;
+
+    private final PostsRepository postsRepository;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final SingleFlight<Long, Optional<Posts>> loads;
+
+    private final RefreshAhead<Long> refreshAhead;
+
+    /**
+     * The posts changed lately, by id.
+     */
+    private final Map<Long, Change> changes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger changesSincePrune = new AtomicInteger();
+
+    /**
+     * How long a replica may serve rows older than a change: its lag may reach {@code max-lag} before a health check
+     * notices it.
+     */
+    private final long changesWindowNanos;
+
+    public PostsLookup(
+        PostsRepository postsRepository,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("taskExecutor") Executor executor,
+        ApplicationProperties applicationProperties,
+        JHipsterProperties jHipsterProperties,
+        CacheInvalidationBus cacheInvalidationBus,
+        MeterRegistry meterRegistry
+    ) {
+        this.postsRepository = postsRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // with its own session, whose entities are detached once loaded and whose cache mode is changed
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        ApplicationProperties.Cache cache = applicationProperties.getCache();
+        String region = Posts.class.getName();
+        Duration defaultTimeToLive = Duration.ofSeconds(jHipsterProperties.getCache().getEhcache().getTimeToLiveSeconds());
+        this.loads = new SingleFlight<>(region, cache.getLoadTimeout(), meterRegistry);
+        this.refreshAhead = new RefreshAhead<>(
+            region,
+            cache.timeToLive(region, defaultTimeToLive),
+            cache.getRefreshAhead().getWindow(),
+            cache.getRefreshAhead().getMaxTracked(),
+            executor,
+            this::refresh,
+            meterRegistry
+        );
+        ApplicationProperties.Datasource datasource = applicationProperties.getDatasource();
+        this.changesWindowNanos = datasource.getMaxLag().plus(datasource.getHealthCheckInterval()).toNanos();
+        cacheInvalidationBus.onEntityEvicted((entityName, id) -> {
+            if (region.equals(entityName) && id instanceof Long postId) {
+                changed(postId, null);
+            }
+        });
+    }
+
+    /**
+     * Get a post by id, joining the load of a concurrent caller for the same post if there is one. The post is loaded
+     * in a transaction of its own, so the post returned is detached.
+     *
+     * @param id the id of the post.
+     * @return the post, if it exists.
+     */
+    public Optional<Posts> findById(Long id) {
+        Optional<Posts> posts = loads.load(id, () -> load(id, () -> transactionTemplate.execute(status -> postsRepository.findById(id))));
+        if (posts.isPresent()) {
+            refreshAhead.accessed(id);
+        }
+        return posts;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        refreshAhead.forget(event.id());
+        switch (event.change()) {
+            // no replica has an older version of a post just created
+            case CREATED -> {}
+            case UPDATED -> changed(event.id(), event.posts() != null ? event.posts().getVersion() : null);
+            case DELETED -> changed(event.id(), DELETED);
+        }
+    }
+
+    private void refresh(Long id) {
+        load(id, () ->
+            transactionTemplate.execute(status -> {
+                Session session = entityManager.unwrap(Session.class);
+                // read from the database and put into the cache, whether the post is cached or not
+                session.setCacheMode(CacheMode.REFRESH);
+                return Optional.ofNullable(session.find(Posts.class, id));
+            })
+        );
+    }
+
+    /**
+     * Read a post, and read it again from the primary if it is older than its last change.
+     */
+    private Optional<Posts> load(Long id, Supplier<Optional<Posts>> read) {
+        Optional<Posts> posts = read.get();
+        Change change = changes.get(id);
+        if (change == null) {
+            return posts;
+        }
+        if (System.nanoTime() - change.nanoTime() > changesWindowNanos) {
+            changes.remove(id, change);
+            return posts;
+        }
+        if (!change.isNewerThan(posts)) {
+            return posts;
+        }
+        // read from a replica behind the primary, and cached as read
+        entityManager.getEntityManagerFactory().getCache().evict(Posts.class, id);
+        Optional<Posts> current = PrimaryReads.call(read);
+        changes.replace(id, change, new Change(current.map(Posts::getVersion).orElse(DELETED), change.nanoTime()));
+        return current;
+    }
+
+    private void changed(Long id, Long version) {
+        long now = System.nanoTime();
+        changes.put(id, new Change(version, now));
+        if (changesSincePrune.incrementAndGet() % PRUNE_INTERVAL == 0) {
+            changes.values().removeIf(change -> now - change.nanoTime() > changesWindowNanos);
+        }
+    }
+
+    /**
+     * A change of a post.
+     *
+     * @param version the version of the post after the change, {@code null} if it isn't known, or {@link #DELETED}.
+     * @param nanoTime the {@link System#nanoTime()} the change was seen at.
+     */
+    private record Change(Long version, long nanoTime) {
+        boolean isNewerThan(Optional<Posts> posts) {
+            if (version == null) {
+                return true;
+            }
+            return posts.map(read -> read.getVersion() < version).orElse(version != DELETED);
+        }
+    }
+}
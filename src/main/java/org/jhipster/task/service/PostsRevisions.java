@@ -0,0 +1,135 @@
+package org.jhipster.task.service;
+
+import java.util.Set;
+import java.util.TreeSet;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.repository.PostsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Revisions of the posts, from which the ETags of the feed are derived.
+ * <p>
+ * There is one revision per scope of the feed: the published posts, and the drafts of each author, so that editing a
+ * draft only changes the ETags of its author. A change records the scopes of the post before and after it, and their
+ * revisions are incremented once the transaction commits, each scope once however many of its posts changed, in a
+ * short transaction of their own: writers don't hold the lock of a revision until they commit.
+ * <p>
+ * Until the revisions are incremented, a page of the feed may be served with the ETag of the previous revision: a
+ * client revalidating meanwhile keeps its page until the next request.
+ */
+@Service
+public class PostsRevisions {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostsRevisions.class);
+
+    public static final String PUBLISHED = "published";
+
+    private static final String DRAFTS = "drafts:";
+
+    private final PostsRepository postsRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public PostsRevisions(PostsRepository postsRepository, PlatformTransactionManager transactionManager) {
+        this.postsRepository = postsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * The scope of a post: the published posts, or the drafts of its author.
+     */
+    private static String scope(PostStatus status, String authorLogin) {
+        return status == PostStatus.PUBLISHED ? PUBLISHED : DRAFTS + authorLogin;
+    }
+
+    /**
+     * The revision of the feed of a user, made of the revisions of the published posts and of their drafts.
+     *
+     * @param login the login of the user.
+     * @return the revision.
+     */
+    public FeedRevision findFeedRevision(String login) {
+        return new FeedRevision(postsRepository.findRevision(PUBLISHED), postsRepository.findRevision(DRAFTS + login));
+    }
+
+    /**
+     * Record that a post of the given status and author is changed, by the current transaction if there is one.
+     *
+     * @param status the status of the post, before or after the change.
+     * @param authorLogin the author of the post, before or after the change.
+     */
+    public void changed(PostStatus status, String authorLogin) {
+        String scope = scope(status, authorLogin);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(Set.of(scope));
+            return;
+        }
+        // the synchronizations of the current transaction only, those of a suspended one are put aside
+        ChangedScopes changedScopes = TransactionSynchronizationManager.getSynchronizations()
+            .stream()
+            .filter(ChangedScopes.class::isInstance)
+            .map(ChangedScopes.class::cast)
+            .findFirst()
+            .orElseGet(() -> {
+                ChangedScopes registered = new ChangedScopes();
+                TransactionSynchronizationManager.registerSynchronization(registered);
+                return registered;
+            });
+        changedScopes.scopes.add(scope);
+    }
+
+    private void increment(Set<String> scopes) {
+        try {
+            try {
+                transactionTemplate.executeWithoutResult(status -> scopes.forEach(this::increment));
+            } catch (DataIntegrityViolationException e) {
+                // another transaction inserted the first revision of a scope meanwhile
+                transactionTemplate.executeWithoutResult(status -> scopes.forEach(this::increment));
+            }
+        } catch (DataAccessException | TransactionException e) {
+            // the change is committed already, failing the request wouldn't undo it
+            LOG.error("Could not increment the revisions of {}, their ETags are stale until their next change", scopes, e);
+        }
+    }
+
+    private void increment(String scope) {
+        if (postsRepository.incrementRevision(scope) == 0) {
+            postsRepository.insertRevision(scope);
+        }
+    }
+
+    /**
+     * The revision of the feed of a user.
+     *
+     * @param published the revision of the published posts.
+     * @param drafts the revision of the drafts of the user.
+     */
+    public record FeedRevision(long published, long drafts) {}
+
+    /**
+     * The scopes changed by a transaction, whose revisions are incremented once it commits.
+     */
+    private final class ChangedScopes implements TransactionSynchronization {
+
+        /**
+         * Sorted, so that concurrent increments lock the revisions in the same order.
+         */
+        private final Set<String> scopes = new TreeSet<>();
+
+        @Override
+        public void afterCommit() {
+            increment(scopes);
+        }
+    }
+}
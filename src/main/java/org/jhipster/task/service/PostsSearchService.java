@@ -0,0 +1,436 @@
+package org.jhipster.task.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.de.GermanAnalyzer;
+import org.apache.lucene.analysis.de.GermanNormalizationFilter;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MultiTermQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.jhipster.task.config.ApplicationProperties;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.repository.PostSummary;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.PostsSearchDocument;
+import org.jhipster.task.repository.PostsVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * Full-text search over the title and content of the posts, backed by an in-process Lucene index.
+ * <p>
+ * Title and content are analyzed for German: lower cased, stop words removed, umlauts and {@code ß} folded and words
+ * reduced by a light stemmer, so that {@code Entscheidungen} matches {@code entscheidung}. Hits are ranked with BM25,
+ * title matches weighing twice as much as content matches. A word ending with {@code *} matches the words starting
+ * with it, looked up in an unstemmed copy of the text.
+ * <p>
+ * The index is kept in {@code application.posts.search.directory}. Committed {@link PostsChangedEvent}s mark posts as
+ * pending; the pending posts are re-indexed in batches by the task executor, reading the indexed columns only, and
+ * made durable every {@code application.posts.search.commit-interval}. Searches never wait for the index: a change
+ * shows up in the results once it is indexed. At startup the versions stored in the index are compared with the
+ * database, so only the posts changed while the application was down are indexed again.
+ */
+@Service
+public class PostsSearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostsSearchService.class);
+
+    private static final String ID = "id";
+
+    private static final String VERSION = "version";
+
+    private static final String TITLE = "title";
+
+    private static final String CONTENT = "content";
+
+    private static final String TEXT = "text";
+
+    private static final String STATUS = "status";
+
+    private static final String AUTHOR_LOGIN = "authorLogin";
+
+    private static final float TITLE_BOOST = 2f;
+
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    private static final int BATCH_SIZE = PostsRepository.EXPORT_FETCH_SIZE;
+
+    private final PostsRepository postsRepository;
+
+    private final Analyzer textAnalyzer = new GermanAnalyzer();
+
+    private final Analyzer prefixAnalyzer = new FoldingAnalyzer();
+
+    private final Directory directory;
+
+    private final IndexWriter indexWriter;
+
+    private final SearcherManager searcherManager;
+
+    private final Executor executor;
+
+    /**
+     * Reads the pending posts from the primary database, in a transaction of their own.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean indexing = new AtomicBoolean();
+
+    private volatile boolean indexAgain;
+
+    public PostsSearchService(
+        PostsRepository postsRepository,
+        ApplicationProperties applicationProperties,
+        @Qualifier("taskExecutor") Executor executor,
+        PlatformTransactionManager transactionManager
+    ) throws IOException {
+        this.postsRepository = postsRepository;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        String path = applicationProperties.getPosts().getSearch().getDirectory();
+        this.directory = StringUtils.hasText(path) ? FSDirectory.open(Path.of(path)) : new ByteBuffersDirectory();
+        IndexWriterConfig config = new IndexWriterConfig(new PerFieldAnalyzerWrapper(textAnalyzer, Map.of(TEXT, prefixAnalyzer)))
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+            .setSimilarity(new BM25Similarity());
+        this.indexWriter = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * Bring the index up to date with the database, re-indexing the posts whose version changed and removing the
+     * deleted ones.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        List<PostsVersion> versions;
+        try {
+            versions = postsRepository.findAllVersions();
+        } catch (DataAccessException e) {
+            LOG.warn("Could not reconcile the search index with the posts: {}", e.getMessage());
+            return;
+        }
+        Map<Long, Long> indexed = indexedVersions();
+        for (PostsVersion posts : versions) {
+            if (!posts.getVersion().equals(indexed.remove(posts.getId()))) {
+                pending.add(posts.getId());
+            }
+        }
+        // what is left was deleted while the application was down
+        pending.addAll(indexed.keySet());
+        LOG.info("Search index: {} of {} posts to index", pending.size(), versions.size());
+        commit();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        pending.add(event.id());
+        indexLater();
+    }
+
+    /**
+     * Search the posts visible to a user.
+     *
+     * @param query the words to search for; every word must match, words ending with {@code *} are prefixes.
+     * @param currentUserLogin the login of the user, whose drafts are searched along the published posts.
+     * @param limit the maximum number of posts to return.
+     * @return the matching posts, best match first.
+     */
+    public List<PostSummary> search(String query, String currentUserLogin, int limit) {
+        Query textQuery = parse(query);
+        if (textQuery == null) {
+            return List.of();
+        }
+        Query visibleQuery = new BooleanQuery.Builder().add(textQuery, Occur.MUST).add(visibleTo(currentUserLogin), Occur.FILTER).build();
+        List<Long> ids = new ArrayList<>(limit);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                StoredFields storedFields = searcher.storedFields();
+                for (ScoreDoc hit : searcher.search(visibleQuery, limit).scoreDocs) {
+                    ids.add(storedFields.document(hit.doc).getField(ID).numericValue().longValue());
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummary> summaries = postsRepository
+            .findSummariesByIdIn(ids)
+            .stream()
+            .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+        // the index doesn't see the changes of a transaction before it commits
+        return ids
+            .stream()
+            .map(summaries::get)
+            .filter(Objects::nonNull)
+            .filter(summary -> isVisibleTo(summary, currentUserLogin))
+            .toList();
+    }
+
+    /**
+     * Index the pending posts, and make the index durable.
+     */
+    @Scheduled(fixedDelayString = "${application.posts.search.commit-interval:PT10S}")
+    public void commit() {
+        index();
+        try {
+            if (indexWriter.hasUncommittedChanges()) {
+                indexWriter.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        // commits what was indexed, the pending posts are picked up by the next reconcile
+        indexWriter.close();
+        directory.close();
+    }
+
+    /**
+     * Index the pending posts, unless they are already being indexed.
+     */
+    private void index() {
+        if (!indexing.compareAndSet(false, true)) {
+            // posts marked pending meanwhile may have missed the running indexing
+            indexAgain = true;
+            return;
+        }
+        try {
+            do {
+                indexAgain = false;
+                applyPending();
+            } while (indexAgain);
+        } catch (DataAccessException | TransactionException e) {
+            LOG.warn("Could not index the pending posts: {}", e.getMessage());
+        } finally {
+            indexing.set(false);
+        }
+    }
+
+    private void indexLater() {
+        try {
+            executor.execute(this::index);
+        } catch (RuntimeException e) {
+            LOG.debug("Could not index the pending posts now, leaving them to the next commit: {}", e.getMessage());
+        }
+    }
+
+    private void applyPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(pending);
+        pending.removeAll(ids);
+        try {
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                Set<Long> deleted = new HashSet<>(batch);
+                List<PostsSearchDocument> documents = transactionTemplate.execute(status ->
+                    postsRepository.findSearchDocumentsByIdIn(batch)
+                );
+                for (PostsSearchDocument posts : documents) {
+                    indexWriter.updateDocument(new Term(ID, posts.getId().toString()), toDocument(posts));
+                    deleted.remove(posts.getId());
+                }
+                for (Long id : deleted) {
+                    indexWriter.deleteDocuments(new Term(ID, id.toString()));
+                }
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            pending.addAll(ids);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            // picked up again by the next indexing
+            pending.addAll(ids);
+            throw e;
+        }
+    }
+
+    private Map<Long, Long> indexedVersions() {
+        Map<Long, Long> versions = new HashMap<>();
+        try {
+            searcherManager.maybeRefreshBlocking();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                    NumericDocValues ids = DocValues.getNumeric(leaf.reader(), ID);
+                    NumericDocValues versionValues = DocValues.getNumeric(leaf.reader(), VERSION);
+                    Bits liveDocs = leaf.reader().getLiveDocs();
+                    for (int doc = ids.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = ids.nextDoc()) {
+                        if ((liveDocs == null || liveDocs.get(doc)) && versionValues.advanceExact(doc)) {
+                            versions.put(ids.longValue(), versionValues.longValue());
+                        }
+                    }
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return versions;
+    }
+
+    private static Document toDocument(PostsSearchDocument posts) {
+        Document document = new Document();
+        document.add(new StringField(ID, posts.getId().toString(), Field.Store.NO));
+        document.add(new StoredField(ID, posts.getId()));
+        document.add(new NumericDocValuesField(ID, posts.getId()));
+        document.add(new NumericDocValuesField(VERSION, posts.getVersion()));
+        document.add(new TextField(TITLE, posts.getTitle(), Field.Store.NO));
+        document.add(new TextField(CONTENT, posts.getContent(), Field.Store.NO));
+        document.add(new TextField(TEXT, posts.getTitle(), Field.Store.NO));
+        document.add(new TextField(TEXT, posts.getContent(), Field.Store.NO));
+        document.add(new StringField(STATUS, posts.getStatus().name(), Field.Store.NO));
+        document.add(new StringField(AUTHOR_LOGIN, posts.getAuthorLogin(), Field.Store.NO));
+        return document;
+    }
+
+    private Query parse(String query) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean empty = true;
+        for (String word : query.trim().split("\\s+")) {
+            if (word.endsWith("*")) {
+                BytesRef prefix = prefixAnalyzer.normalize(TEXT, word.substring(0, word.length() - 1));
+                if (prefix.length > 0) {
+                    MultiTermQuery.RewriteMethod rewrite = new MultiTermQuery.TopTermsBlendedFreqScoringRewrite(MAX_PREFIX_EXPANSIONS);
+                    builder.add(new PrefixQuery(new Term(TEXT, prefix), rewrite), Occur.MUST);
+                    empty = false;
+                }
+                continue;
+            }
+            for (String term : analyze(word)) {
+                Query titleOrContent = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST), Occur.SHOULD)
+                    .add(new TermQuery(new Term(CONTENT, term)), Occur.SHOULD)
+                    .build();
+                builder.add(titleOrContent, Occur.MUST);
+                empty = false;
+            }
+        }
+        return empty ? null : builder.build();
+    }
+
+    private List<String> analyze(String word) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokens = textAnalyzer.tokenStream(CONTENT, word)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Query visibleTo(String currentUserLogin) {
+        Query ownDrafts = new BooleanQuery.Builder()
+            .add(new TermQuery(new Term(STATUS, PostStatus.DRAFT.name())), Occur.FILTER)
+            .add(new TermQuery(new Term(AUTHOR_LOGIN, currentUserLogin)), Occur.FILTER)
+            .build();
+        return new BooleanQuery.Builder()
+            .add(new TermQuery(new Term(STATUS, PostStatus.PUBLISHED.name())), Occur.SHOULD)
+            .add(ownDrafts, Occur.SHOULD)
+            .build();
+    }
+
+    private static boolean isVisibleTo(PostSummary summary, String currentUserLogin) {
+        return (
+            summary.getStatus() == PostStatus.PUBLISHED ||
+            (summary.getStatus() == PostStatus.DRAFT && currentUserLogin.equals(summary.getAuthorLogin()))
+        );
+    }
+
+    /**
+     * Lower cases and folds German text like {@link GermanAnalyzer}, but keeps stop words and doesn't stem, so that
+     * prefixes can be matched against the words as written.
+     */
+    private static final class FoldingAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+            return new TokenStreamComponents(source, normalize(fieldName, source));
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new GermanNormalizationFilter(new LowerCaseFilter(in));
+        }
+    }
+}
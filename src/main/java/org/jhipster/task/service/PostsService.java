@@ -0,0 +1,226 @@
+package org.jhipster.task.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.repository.PostSummary;
+import org.jhipster.task.repository.PostsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link Posts}.
+ * <p>
+ * Every change publishes a {@link PostsChangedEvent} from its transaction, and records the feed scopes of the post
+ * before and after it in {@link PostsRevisions}. Queries run in read-only transactions, for
+ * which Spring sets the flush mode of the Hibernate session to {@code MANUAL} and loads the entities read-only: no
+ * snapshot of them is kept and they aren't dirty checked at commit.
+ */
+@Service
+@Transactional
+public class PostsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostsService.class);
+
+    private final PostsRepository postsRepository;
+
+    private final PostsRevisions postsRevisions;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PostsService(PostsRepository postsRepository, PostsRevisions postsRevisions, ApplicationEventPublisher eventPublisher) {
+        this.postsRepository = postsRepository;
+        this.postsRevisions = postsRevisions;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Create a posts.
+     *
+     * @param posts the entity to create.
+     * @return the persisted entity.
+     */
+    public Posts create(Posts posts) {
+        LOG.debug("Request to create Posts : {}", posts);
+        // the version is assigned on insert
+        posts.setVersion(null);
+        Posts created = postsRepository.save(posts);
+        postsRevisions.changed(created.getStatus(), created.getAuthorLogin());
+        eventPublisher.publishEvent(PostsChangedEvent.created(created));
+        return created;
+    }
+
+    /**
+     * Update a posts if it still has the given version, and set its new version.
+     *
+     * @param posts the entity to update.
+     * @param version the version the update applies to.
+     * @return whether the posts was updated.
+     */
+    public boolean update(Posts posts, long version) {
+        LOG.debug("Request to update Posts : {}", posts);
+        Optional<Long> newVersion = change(posts.getId(), version, (previous, expected) ->
+            postsRepository.updateIfVersionMatches(posts, expected)
+        );
+        if (newVersion.isEmpty()) {
+            return false;
+        }
+        posts.setVersion(newVersion.orElseThrow());
+        postsRevisions.changed(posts.getStatus(), posts.getAuthorLogin());
+        eventPublisher.publishEvent(PostsChangedEvent.updated(posts));
+        return true;
+    }
+
+    /**
+     * Update the non-null fields of a posts, if it still has the given version.
+     *
+     * @param posts the fields to update.
+     * @param version the version the update applies to, or {@code null} for any version.
+     * @return the posts with the update applied, read again from the database, or empty if it wasn't updated.
+     */
+    public Optional<Posts> partialUpdate(Posts posts, Long version) {
+        LOG.debug("Request to partially update Posts : {}", posts);
+        if (change(posts.getId(), version, (previous, expected) -> postsRepository.partialUpdate(posts, expected)).isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Posts> updated = postsRepository.findById(posts.getId());
+        updated.ifPresent(merged -> postsRevisions.changed(merged.getStatus(), merged.getAuthorLogin()));
+        eventPublisher.publishEvent(
+            updated.map(PostsChangedEvent::updated).orElseGet(() -> PostsChangedEvent.updated(posts.getId(), posts.getSlug()))
+        );
+        return updated;
+    }
+
+    /**
+     * Change the status of a posts, if it still has the given version.
+     *
+     * @param id the id of the posts.
+     * @param status the new status.
+     * @param version the version the change applies to, or {@code null} for any version.
+     * @return the new version of the posts, or empty if it wasn't updated.
+     */
+    public Optional<Long> updateStatus(Long id, PostStatus status, Long version) {
+        LOG.debug("Request to set the status of Posts {} to {}", id, status);
+        Optional<Long> newVersion = change(id, version, (previous, expected) -> {
+            // the author is left as it is
+            Optional<Long> updated = postsRepository.updateStatus(id, status, expected);
+            updated.ifPresent(ignored -> postsRevisions.changed(status, previous.getAuthorLogin()));
+            return updated;
+        });
+        newVersion.ifPresent(updated -> eventPublisher.publishEvent(PostsChangedEvent.updated(id, null)));
+        return newVersion;
+    }
+
+    /**
+     * Delete a posts.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        LOG.debug("Request to delete Posts : {}", id);
+        // the delete is conditional on the version read, so the post can't leave its scope meanwhile
+        postsRepository
+            .findById(id)
+            .ifPresent(posts -> {
+                postsRepository.delete(posts);
+                postsRevisions.changed(posts.getStatus(), posts.getAuthorLogin());
+            });
+        eventPublisher.publishEvent(PostsChangedEvent.deleted(id));
+    }
+
+    /**
+     * Apply a conditional change to a posts, and record the scope it leaves.
+     * <p>
+     * The posts is read first, without its content, to know its scope before the change: the change applies to the
+     * version read, so the scope can't change in between. When no version is given, a change that fails because the
+     * posts was changed meanwhile is applied again to the new version.
+     *
+     * @param id the id of the posts.
+     * @param version the version the change applies to, or {@code null} for any version.
+     * @param change applies the change to the posts as read, at the version it is given.
+     * @return the new version of the posts, or empty if it wasn't changed.
+     */
+    private Optional<Long> change(Long id, Long version, BiFunction<PostSummary, Long, Optional<Long>> change) {
+        while (true) {
+            PostSummary previous = postsRepository.findSummaryById(id).orElse(null);
+            if (previous == null || (version != null && !version.equals(previous.getVersion()))) {
+                return Optional.empty();
+            }
+            Optional<Long> newVersion = change.apply(previous, previous.getVersion());
+            if (newVersion.isPresent()) {
+                postsRevisions.changed(previous.getStatus(), previous.getAuthorLogin());
+                return newVersion;
+            }
+            if (version != null) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Check whether a posts exists. A post the user just created is found, as their reads go to the primary database
+     * for {@code application.datasource.read-your-writes} after a write.
+     *
+     * @param id the id of the entity.
+     * @return whether it exists.
+     */
+    @Transactional(readOnly = true)
+    public boolean exists(Long id) {
+        return postsRepository.existsById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(Long id) {
+        return postsRepository.findVersionById(id);
+    }
+
+    /**
+     * Get the id of the posts with a slug. A slug the user just took is seen, as their reads go to the primary database
+     * for {@code application.datasource.read-your-writes} after a write; one taken meanwhile by another user is still
+     * caught by the unique constraint of the slugs.
+     *
+     * @param slug the slug.
+     * @return the id of the posts, or empty if the slug is free.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findIdBySlug(String slug) {
+        return postsRepository.findIdBySlug(slug);
+    }
+
+    /**
+     * Read a page of the feed with its revision, which changes whenever a published post or a draft of the user is
+     * created, updated or deleted, see {@link PostsRevisions}, in one read-only transaction.
+     * <p>
+     * The revision is read first, on the same connection as the page, so the page is never older than the revision it
+     * is served with, even from a read replica behind the primary.
+     *
+     * @param currentUserLogin the login of the user reading the feed.
+     * @param isCurrent tells whether the client already has the page at a revision, in which case it isn't read.
+     * @param page reads the page at a revision, see {@link PostsFeedCache}.
+     * @return the revision, with the page unless the client already has it.
+     */
+    @Transactional(readOnly = true)
+    public FeedPage findFeedPage(
+        String currentUserLogin,
+        Predicate<PostsRevisions.FeedRevision> isCurrent,
+        Function<PostsRevisions.FeedRevision, List<PostSummary>> page
+    ) {
+        PostsRevisions.FeedRevision revision = postsRevisions.findFeedRevision(currentUserLogin);
+        return new FeedPage(revision, isCurrent.test(revision) ? null : page.apply(revision));
+    }
+
+    /**
+     * A page of the feed and the revision of the feed it was read at.
+     *
+     * @param revision the revision.
+     * @param rows the rows of the page, or {@code null} if the client already has it.
+     */
+    public record FeedPage(PostsRevisions.FeedRevision revision, List<PostSummary> rows) {}
+}
@@ -0,0 +1,124 @@
+package org.jhipster.task.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.PostsSlug;
+import org.jhipster.task.repository.PrimaryReads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory map of the slugs of the posts to their ids, so resolving a slug doesn't cost a database round trip before
+ * the post itself is read from the second-level cache.
+ * <p>
+ * The map is loaded once the application is ready and kept current by the committed {@link PostsChangedEvent}s.
+ * Slugs missing from the map are looked up in the database and added, unless the {@link NegativeLookups} know they
+ * don't exist, and an entry found to be stale is dropped, so a change made behind the application's back costs a query
+ * instead of a wrong answer.
+ */
+@Service
+public class PostsSlugIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostsSlugIndex.class);
+
+    private final Map<String, Long> idsBySlug = new ConcurrentHashMap<>();
+
+    private final Map<Long, String> slugsById = new ConcurrentHashMap<>();
+
+    private final PostsRepository postsRepository;
+
+    private final NegativeLookups negativeLookups;
+
+    public PostsSlugIndex(PostsRepository postsRepository, NegativeLookups negativeLookups) {
+        this.postsRepository = postsRepository;
+        this.negativeLookups = negativeLookups;
+    }
+
+    /**
+     * Load the slugs of all the posts. Entries added by changes committed in the meantime are kept.
+     * <p>
+     * When the schema isn't there yet, as with {@code application.liquibase.async-start}, the map is filled lazily.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<PostsSlug> slugs;
+        try {
+            slugs = PrimaryReads.call(postsRepository::findAllSlugs);
+        } catch (DataAccessException e) {
+            LOG.warn("Could not load the slugs of the posts, they will be loaded on demand: {}", e.getMessage());
+            return;
+        }
+        slugs.forEach(slug -> putIfAbsent(slug.getId(), slug.getSlug()));
+        LOG.debug("Loaded the slugs of {} posts", slugsById.size());
+    }
+
+    /**
+     * Get the post with the given slug.
+     *
+     * @param slug the slug of the post.
+     * @return the post, if any.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Posts> findBySlug(String slug) {
+        // the post is put into the second-level cache, the transaction reads nothing before
+        return PrimaryReads.call(() -> find(slug));
+    }
+
+    private Optional<Posts> find(String slug) {
+        Long id = idsBySlug.get(slug);
+        if (id != null) {
+            Optional<Posts> posts = postsRepository.findById(id).filter(candidate -> slug.equals(candidate.getSlug()));
+            if (posts.isPresent()) {
+                return posts;
+            }
+            LOG.debug("Dropping the stale slug {} of post {}", slug, id);
+            remove(id);
+        }
+        if (!negativeLookups.mightExist(NegativeLookups.Filter.POST_SLUGS, slug)) {
+            return Optional.empty();
+        }
+        Optional<Posts> posts = postsRepository.findIdBySlug(slug).flatMap(postsRepository::findById);
+        posts.ifPresent(found -> put(found.getId(), found.getSlug()));
+        return posts;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsChanged(PostsChangedEvent event) {
+        if (event.change() == PostsChangedEvent.Change.DELETED) {
+            remove(event.id());
+        } else if (event.slug() != null) {
+            put(event.id(), event.slug());
+        }
+    }
+
+    private synchronized void put(Long id, String slug) {
+        String previous = slugsById.put(id, slug);
+        if (previous != null && !previous.equals(slug)) {
+            idsBySlug.remove(previous, id);
+        }
+        idsBySlug.put(slug, id);
+    }
+
+    private synchronized void putIfAbsent(Long id, String slug) {
+        if (!slugsById.containsKey(id)) {
+            put(id, slug);
+        }
+    }
+
+    private synchronized void remove(Long id) {
+        String slug = slugsById.remove(id);
+        if (slug != null) {
+            idsBySlug.remove(slug, id);
+        }
+    }
+}
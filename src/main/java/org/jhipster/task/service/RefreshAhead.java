@@ -0,0 +1,119 @@
+package org.jhipster.task.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reloads cache entries that are read shortly before they expire, so that the entries being read don't expire and the
+ * next read doesn't miss.
+ * <p>
+ * The caches don't tell how old an entry is, so the time an entry was loaded is kept here: the first read of a key is
+ * taken as its load, and so is the first read after the entry expired or was forgotten. A read within
+ * {@code window} of the time to live reloads the entry on the executor, once at a time per key. Only
+ * {@code maxTracked} keys are tracked, the others expire as usual.
+ *
+ * @param <K> the type of the keys.
+ */
+public class RefreshAhead<K> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RefreshAhead.class);
+
+    public static final String REFRESHES_METER_NAME = "cache.refreshes.ahead";
+
+    private final ConcurrentMap<K, Long> loadedAt = new ConcurrentHashMap<>();
+
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final long timeToLive;
+
+    private final long refreshAfter;
+
+    private final int maxTracked;
+
+    private final Executor executor;
+
+    private final Consumer<K> refresher;
+
+    private final Counter refreshes;
+
+    /**
+     * @param name the name of the cache, tagging the meters.
+     * @param timeToLive the time to live of the entries, or {@code null} if they don't expire after a fixed time, which
+     * disables the refreshes.
+     * @param window how long before they expire entries are reloaded, zero to disable the refreshes.
+     * @param maxTracked the maximum number of keys tracked.
+     * @param executor runs the refreshes.
+     * @param refresher reloads the entry of a key into the cache.
+     * @param meterRegistry the registry of the meters.
+     */
+    public RefreshAhead(
+        String name,
+        Duration timeToLive,
+        Duration window,
+        int maxTracked,
+        Executor executor,
+        Consumer<K> refresher,
+        MeterRegistry meterRegistry
+    ) {
+        boolean enabled = timeToLive != null && !window.isZero() && window.compareTo(timeToLive) < 0;
+        this.timeToLive = enabled ? timeToLive.toMillis() : 0;
+        this.refreshAfter = enabled ? timeToLive.minus(window).toMillis() : 0;
+        this.maxTracked = enabled ? maxTracked : 0;
+        this.executor = executor;
+        this.refresher = refresher;
+        this.refreshes = Counter.builder(REFRESHES_METER_NAME)
+            .description("Entries reloaded before they expire")
+            .tag("cache", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Record a read of a key, reloading its entry if it is about to expire.
+     */
+    public void accessed(K key) {
+        long now = System.currentTimeMillis();
+        Long loaded = loadedAt.get(key);
+        if (loaded == null) {
+            if (loadedAt.size() < maxTracked) {
+                loadedAt.putIfAbsent(key, now);
+            }
+        } else if (now - loaded >= timeToLive) {
+            // expired, so this read loaded it again
+            loadedAt.replace(key, loaded, now);
+        } else if (now - loaded >= refreshAfter && refreshing.add(key)) {
+            try {
+                executor.execute(() -> refresh(key));
+            } catch (RejectedExecutionException e) {
+                refreshing.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Forget a key whose entry was evicted.
+     */
+    public void forget(K key) {
+        loadedAt.remove(key);
+    }
+
+    private void refresh(K key) {
+        try {
+            refresher.accept(key);
+            loadedAt.computeIfPresent(key, (k, loaded) -> System.currentTimeMillis());
+            refreshes.increment();
+        } catch (RuntimeException e) {
+            LOG.debug("Could not refresh {}: {}", key, e.getMessage());
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+}
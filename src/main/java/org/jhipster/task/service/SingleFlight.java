@@ -0,0 +1,90 @@
+package org.jhipster.task.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load, the callers arriving while it runs wait
+ * for its result instead of running the same query again.
+ * <p>
+ * Callers don't lock anything, the pending loads are futures in a concurrent map. A caller waiting longer than the
+ * timeout, or seeing the load fail, runs the load itself. The value is shared by all the callers of a load and must not
+ * be modified. It is handed to other threads, so loads should run in their own transaction and return detached entities
+ * or copies: an entity managed by the session of the first caller must not be used by other threads, and the load must
+ * not see changes of the first caller that aren't committed yet.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public class SingleFlight<K, V> {
+
+    public static final String COALESCED_METER_NAME = "cache.loads.coalesced";
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Duration timeout;
+
+    private final Counter coalesced;
+
+    /**
+     * @param name the name of the loaded values, tagging the meters.
+     * @param timeout how long callers wait for the load of another caller.
+     * @param meterRegistry the registry of the meters.
+     */
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.coalesced = Counter.builder(COALESCED_METER_NAME)
+            .description("Loads answered with the result of a concurrent load of the same key")
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Get the value of a key, joining the load in flight for the key if there is one.
+     *
+     * @param key the key.
+     * @param loader loads the value, called at most once per load.
+     * @return the value.
+     */
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> pending = inFlight.putIfAbsent(key, load);
+        if (pending != null) {
+            try {
+                V value = pending.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+                coalesced.increment();
+                return value;
+            } catch (ExecutionException | TimeoutException e) {
+                return loader.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return loader.get();
+            }
+        }
+        try {
+            V value = loader.get();
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    /**
+     * @return the number of loads in flight.
+     */
+    int inFlight() {
+        return inFlight.size();
+    }
+}
@@ -41,16 +41,32 @@ public class UserService {
 
     private final CacheManager cacheManager;
 
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final UsersLookup usersLookup;
+
+    private final NegativeLookups negativeLookups;
+
+    private final MailService mailService;
+
     public UserService(
         UserRepository userRepository,
         PasswordEncoder passwordEncoder,
         AuthorityRepository authorityRepository,
-        CacheManager cacheManager
+        CacheManager cacheManager,
+        CacheInvalidationBus cacheInvalidationBus,
+        UsersLookup usersLookup,
+        NegativeLookups negativeLookups,
+        MailService mailService
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityRepository = authorityRepository;
         this.cacheManager = cacheManager;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.usersLookup = usersLookup;
+        this.negativeLookups = negativeLookups;
+        this.mailService = mailService;
     }
 
     public Optional<User> activateRegistration(String key) {
@@ -82,6 +98,9 @@ public class UserService {
     }
 
     public Optional<User> requestPasswordReset(String mail) {
+        if (!negativeLookups.mightExist(NegativeLookups.Filter.USER_EMAILS, mail)) {
+            return Optional.empty();
+        }
         return userRepository
             .findOneByEmailIgnoreCase(mail)
             .filter(User::isActivated)
@@ -89,6 +108,7 @@ public class UserService {
                 user.setResetKey(RandomUtil.generateResetKey());
                 user.setResetDate(Instant.now());
                 this.clearUserCaches(user);
+                mailService.sendPasswordResetMail(user);
                 return user;
             });
     }
@@ -131,6 +151,7 @@ public class UserService {
         newUser.setAuthorities(authorities);
         userRepository.save(newUser);
         this.clearUserCaches(newUser);
+        mailService.sendActivationEmail(newUser);
         LOG.debug("Created Information for User: {}", newUser);
         return newUser;
     }
@@ -176,6 +197,7 @@ public class UserService {
         }
         userRepository.save(user);
         this.clearUserCaches(user);
+        mailService.sendCreationEmail(user);
         LOG.debug("Created Information for User: {}", user);
         return user;
     }
@@ -282,12 +304,12 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public Optional<User> getUserWithAuthoritiesByLogin(String login) {
-        return userRepository.findOneWithAuthoritiesByLogin(login);
+        return usersLookup.findOneWithAuthoritiesByLogin(login);
     }
 
     @Transactional(readOnly = true)
     public Optional<User> getUserWithAuthorities() {
-        return SecurityUtils.getCurrentUserLogin().flatMap(userRepository::findOneWithAuthoritiesByLogin);
+        return SecurityUtils.getCurrentUserLogin().flatMap(usersLookup::findOneWithAuthoritiesByLogin);
     }
 
     /**
@@ -317,8 +339,11 @@ public class UserService {
 
     private void clearUserCaches(User user) {
         Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE)).evictIfPresent(user.getLogin());
+        cacheInvalidationBus.evict(UserRepository.USERS_BY_LOGIN_CACHE, user.getLogin());
+        usersLookup.forget(user.getLogin());
         if (user.getEmail() != null) {
             Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE)).evictIfPresent(user.getEmail());
+            cacheInvalidationBus.evict(UserRepository.USERS_BY_EMAIL_CACHE, user.getEmail());
         }
     }
 }
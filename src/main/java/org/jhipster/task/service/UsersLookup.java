@@ -0,0 +1,135 @@
+package org.jhipster.task.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jhipster.task.config.ApplicationProperties;
+import org.jhipster.task.domain.User;
+import org.jhipster.task.repository.PrimaryReads;
+import org.jhipster.task.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Reads users with their authorities through the {@code usersByLogin} cache, so that a user missing from the cache is
+ * loaded once, however many requests ask for it at the same time, and is reloaded before it expires while it is being
+ * read.
+ * <p>
+ * The users returned are shared between the concurrent callers and must not be modified. They are read from the primary
+ * database, as they are cached, in a transaction of their own, so they are detached. A reload doesn't put back a user
+ * evicted while it ran.
+ */
+@Service
+public class UsersLookup {
+
+    private final UserRepository userRepository;
+
+    private final Cache usersByLogin;
+
+    private final SingleFlight<String, Optional<User>> loads;
+
+    private final RefreshAhead<String> refreshAhead;
+
+    private final NegativeLookups negativeLookups;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Number of users evicted so far, so a user reloaded while one is evicted isn't cached.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UsersLookup(
+        UserRepository userRepository,
+        NegativeLookups negativeLookups,
+        CacheManager cacheManager,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("taskExecutor") Executor executor,
+        ApplicationProperties applicationProperties,
+        JHipsterProperties jHipsterProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.negativeLookups = negativeLookups;
+        this.usersByLogin = Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        ApplicationProperties.Cache cache = applicationProperties.getCache();
+        Duration defaultTimeToLive = Duration.ofSeconds(jHipsterProperties.getCache().getEhcache().getTimeToLiveSeconds());
+        this.loads = new SingleFlight<>(UserRepository.USERS_BY_LOGIN_CACHE, cache.getLoadTimeout(), meterRegistry);
+        this.refreshAhead = new RefreshAhead<>(
+            UserRepository.USERS_BY_LOGIN_CACHE,
+            cache.timeToLive(UserRepository.USERS_BY_LOGIN_CACHE, defaultTimeToLive),
+            cache.getRefreshAhead().getWindow(),
+            cache.getRefreshAhead().getMaxTracked(),
+            executor,
+            this::refresh,
+            meterRegistry
+        );
+    }
+
+    /**
+     * Get a user with their authorities, joining the load of a concurrent caller for the same login if there is one.
+     * Logins the {@link NegativeLookups} know don't exist are answered without a query.
+     *
+     * @param login the login of the user.
+     * @return the user, if it exists.
+     */
+    public Optional<User> findOneWithAuthoritiesByLogin(String login) {
+        if (!negativeLookups.mightExist(NegativeLookups.Filter.USER_LOGINS, login)) {
+            return Optional.empty();
+        }
+        Optional<User> user = loads.load(login, () ->
+            PrimaryReads.call(() -> transactionTemplate.execute(status -> userRepository.findOneWithAuthoritiesByLogin(login)))
+        );
+        if (user.isPresent()) {
+            refreshAhead.accessed(login);
+        }
+        return user;
+    }
+
+    /**
+     * Forget a user evicted from the cache, so that a reload running meanwhile doesn't put it back. When called from a
+     * transaction, the user is evicted again once it completes, as a load may have read the user before the change
+     * committed.
+     */
+    public void forget(String login) {
+        evictions.incrementAndGet();
+        refreshAhead.forget(login);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        evictions.incrementAndGet();
+                        usersByLogin.evictIfPresent(login);
+                    }
+                }
+            );
+        }
+    }
+
+    private void refresh(String login) {
+        long seen = evictions.get();
+        List<User> users = PrimaryReads.call(() -> userRepository.findAllWithAuthoritiesByLoginIn(List.of(login)));
+        // the same entries as UserRepository#findOneWithAuthoritiesByLogin
+        users.forEach(user -> usersByLogin.put(user.getLogin(), user));
+        if (evictions.get() != seen) {
+            // evicted while reloading, what was read may be outdated
+            usersByLogin.evictIfPresent(login);
+        }
+    }
+}
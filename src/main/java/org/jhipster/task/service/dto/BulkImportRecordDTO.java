@@ -0,0 +1,78 @@
+package org.jhipster.task.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the outcome of one record of a bulk import.
+ */
+public class BulkImportRecordDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        FAILED,
+    }
+
+    private int index;
+
+    private Status status;
+
+    private Long id;
+
+    private List<String> errors = new ArrayList<>();
+
+    public BulkImportRecordDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public BulkImportRecordDTO(int index) {
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BulkImportRecordDTO{" +
+            "index=" + index +
+            ", status=" + status +
+            ", id=" + id +
+            ", errors=" + errors +
+            "}";
+    }
+}
@@ -0,0 +1,44 @@
+package org.jhipster.task.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the result of a bulk import, with the outcome of every record in input order.
+ */
+public class BulkImportReportDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<BulkImportRecordDTO> records = new ArrayList<>();
+
+    public long getCreated() {
+        return count(BulkImportRecordDTO.Status.CREATED);
+    }
+
+    public long getRejected() {
+        return records.size() - getCreated();
+    }
+
+    public List<BulkImportRecordDTO> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<BulkImportRecordDTO> records) {
+        this.records = records;
+    }
+
+    private long count(BulkImportRecordDTO.Status status) {
+        return records.stream().filter(record -> record.getStatus() == status).count();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BulkImportReportDTO{" +
+            "created=" + getCreated() +
+            ", rejected=" + getRejected() +
+            "}";
+    }
+}
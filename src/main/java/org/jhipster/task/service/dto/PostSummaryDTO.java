@@ -0,0 +1,145 @@
+package org.jhipster.task.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.repository.PostSummary;
+
+/**
+ * A DTO representing a post in listings, without its content.
+ */
+public class PostSummaryDTO implements PostSummary, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Long version;
+
+    private String title;
+
+    private String slug;
+
+    private Instant publishedAt;
+
+    private PostStatus status;
+
+    private String authorLogin;
+
+    public PostSummaryDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public PostSummaryDTO(PostSummary summary) {
+        this.id = summary.getId();
+        this.version = summary.getVersion();
+        this.title = summary.getTitle();
+        this.slug = summary.getSlug();
+        this.publishedAt = summary.getPublishedAt();
+        this.status = summary.getStatus();
+        this.authorLogin = summary.getAuthorLogin();
+    }
+
+    public PostSummaryDTO(Posts posts) {
+        this.id = posts.getId();
+        this.version = posts.getVersion();
+        this.title = posts.getTitle();
+        this.slug = posts.getSlug();
+        this.publishedAt = posts.getPublishedAt();
+        this.status = posts.getStatus();
+        this.authorLogin = posts.getAuthorLogin();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(Instant publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+
+    public PostStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PostStatus status) {
+        this.status = status;
+    }
+
+    public String getAuthorLogin() {
+        return authorLogin;
+    }
+
+    public void setAuthorLogin(String authorLogin) {
+        this.authorLogin = authorLogin;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PostSummaryDTO)) {
+            return false;
+        }
+
+        PostSummaryDTO postSummaryDTO = (PostSummaryDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, postSummaryDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PostSummaryDTO{" +
+            "id=" + getId() +
+            ", version=" + getVersion() +
+            ", title='" + getTitle() + "'" +
+            ", slug='" + getSlug() + "'" +
+            ", publishedAt='" + getPublishedAt() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", authorLogin='" + getAuthorLogin() + "'" +
+            "}";
+    }
+}
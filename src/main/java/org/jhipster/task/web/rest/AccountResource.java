@@ -6,7 +6,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.jhipster.task.domain.User;
 import org.jhipster.task.repository.UserRepository;
 import org.jhipster.task.security.SecurityUtils;
-import org.jhipster.task.service.MailService;
 import org.jhipster.task.service.UserService;
 import org.jhipster.task.service.dto.AdminUserDTO;
 import org.jhipster.task.service.dto.PasswordChangeDTO;
@@ -38,12 +37,9 @@ public class AccountResource {
 
     private final UserService userService;
 
-    private final MailService mailService;
-
-    public AccountResource(UserRepository userRepository, UserService userService, MailService mailService) {
+    public AccountResource(UserRepository userRepository, UserService userService) {
         this.userRepository = userRepository;
         this.userService = userService;
-        this.mailService = mailService;
     }
 
     /**
@@ -60,8 +56,7 @@ public class AccountResource {
         if (isPasswordLengthInvalid(managedUserVM.getPassword())) {
             throw new InvalidPasswordException();
         }
-        User user = userService.registerUser(managedUserVM, managedUserVM.getPassword());
-        mailService.sendActivationEmail(user);
+        userService.registerUser(managedUserVM, managedUserVM.getPassword());
     }
 
     /**
@@ -142,9 +137,7 @@ public class AccountResource {
     @PostMapping(path = "/account/reset-password/init")
     public void requestPasswordReset(@RequestBody String mail) {
         Optional<User> user = userService.requestPasswordReset(mail);
-        if (user.isPresent()) {
-            mailService.sendPasswordResetMail(user.orElseThrow());
-        } else {
+        if (user.isEmpty()) {
             // Pretend the request has been successful to prevent checking which emails really exist
             // but log that an invalid attempt has been made
             LOG.warn("Password reset requested for non existing mail");
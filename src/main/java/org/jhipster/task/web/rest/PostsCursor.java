@@ -0,0 +1,68 @@
+package org.jhipster.task.web.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.jhipster.task.web.rest.errors.BadRequestAlertException;
+
+/**
+ * Opaque keyset position inside the {@code (publishedAt desc, id desc)} ordering of the posts feed.
+ * <p>
+ * A cursor points at the boundary row of a page and tells in which direction the following page lies:
+ * {@link Direction#NEXT} pages continue with older rows, {@link Direction#PREV} pages with newer rows.
+ *
+ * @param direction the direction to read from the boundary row.
+ * @param publishedAt the {@code publishedAt} value of the boundary row.
+ * @param id the id of the boundary row.
+ */
+public record PostsCursor(Direction direction, Instant publishedAt, Long id) {
+    private static final String SEPARATOR = "|";
+
+    public enum Direction {
+        NEXT,
+        PREV,
+    }
+
+    public static PostsCursor next(Instant publishedAt, Long id) {
+        return new PostsCursor(Direction.NEXT, publishedAt, id);
+    }
+
+    public static PostsCursor prev(Instant publishedAt, Long id) {
+        return new PostsCursor(Direction.PREV, publishedAt, id);
+    }
+
+    /**
+     * Encode the cursor as an URL safe token.
+     *
+     * @return the opaque cursor token.
+     */
+    public String encode() {
+        String raw = direction.name() + SEPARATOR + publishedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token previously created by {@link #encode()}.
+     *
+     * @param token the opaque cursor token.
+     * @return the decoded cursor.
+     * @throws BadRequestAlertException if the token is not a valid cursor.
+     */
+    public static PostsCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw invalidCursor();
+            }
+            return new PostsCursor(Direction.valueOf(parts[0]), Instant.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static BadRequestAlertException invalidCursor() {
+        return new BadRequestAlertException("Invalid cursor", "posts", "cursorinvalid");
+    }
+}
@@ -1,52 +1,128 @@
 package org.jhipster.task.web.rest;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.jhipster.task.config.ApplicationProperties;
 import org.jhipster.task.domain.Posts;
 import org.jhipster.task.domain.enumeration.PostStatus;
-import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.PostSummary;
+import org.jhipster.task.security.AuthoritiesConstants;
 import org.jhipster.task.security.SecurityUtils;
+import org.jhipster.task.service.NegativeLookups;
+import org.jhipster.task.service.PostsBulkImportService;
+import org.jhipster.task.service.PostsExportService;
+import org.jhipster.task.service.PostsFeedCache;
+import org.jhipster.task.service.PostsJsonCache;
+import org.jhipster.task.service.PostsLatestFeed;
+import org.jhipster.task.service.PostsLookup;
+import org.jhipster.task.service.PostsRevisions;
+import org.jhipster.task.service.PostsSearchService;
+import org.jhipster.task.service.PostsService;
+import org.jhipster.task.service.PostsSlugIndex;
+import org.jhipster.task.service.dto.BulkImportReportDTO;
+import org.jhipster.task.service.dto.PostSummaryDTO;
 import org.jhipster.task.web.rest.errors.BadRequestAlertException;
+import org.jhipster.task.web.rest.errors.PreconditionFailedAlertException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
-import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for managing {@link org.jhipster.task.domain.Posts}.
  */
 @RestController
 @RequestMapping("/api/posts")
-@Transactional
 public class PostsResource {
 
     private static final Logger LOG = LoggerFactory.getLogger(PostsResource.class);
 
     private static final String ENTITY_NAME = "posts";
 
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
-    private final PostsRepository postsRepository;
+    private final PostsService postsService;
+
+    private final PostsExportService postsExportService;
+
+    private final PostsFeedCache postsFeedCache;
+
+    private final PostsBulkImportService postsBulkImportService;
+
+    private final PostsSlugIndex postsSlugIndex;
+
+    private final PostsSearchService postsSearchService;
+
+    private final PostsJsonCache postsJsonCache;
+
+    private final PostsLatestFeed postsLatestFeed;
 
-    public PostsResource(PostsRepository postsRepository) {
-        this.postsRepository = postsRepository;
+    private final PostsLookup postsLookup;
+
+    private final NegativeLookups negativeLookups;
+
+    private final ApplicationProperties applicationProperties;
+
+    public PostsResource(
+        PostsService postsService,
+        PostsExportService postsExportService,
+        PostsFeedCache postsFeedCache,
+        PostsBulkImportService postsBulkImportService,
+        PostsSlugIndex postsSlugIndex,
+        PostsSearchService postsSearchService,
+        PostsJsonCache postsJsonCache,
+        PostsLatestFeed postsLatestFeed,
+        PostsLookup postsLookup,
+        NegativeLookups negativeLookups,
+        ApplicationProperties applicationProperties
+    ) {
+        this.postsService = postsService;
+        this.postsExportService = postsExportService;
+        this.postsFeedCache = postsFeedCache;
+        this.postsBulkImportService = postsBulkImportService;
+        this.postsSlugIndex = postsSlugIndex;
+        this.postsSearchService = postsSearchService;
+        this.postsJsonCache = postsJsonCache;
+        this.postsLatestFeed = postsLatestFeed;
+        this.postsLookup = postsLookup;
+        this.negativeLookups = negativeLookups;
+        this.applicationProperties = applicationProperties;
     }
 
     /**
      * {@code POST  /posts} : Create a new posts.
      *
      * @param posts the posts to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new posts, or with status {@code 400 (Bad Request)} if the posts has already an ID.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new posts, or with status {@code 400 (Bad Request)} if the posts has already an ID or its slug is taken.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PostMapping("")
@@ -55,25 +131,53 @@ public class PostsResource {
         if (posts.getId() != null) {
             throw new BadRequestAlertException("A new posts cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        posts = postsRepository.save(posts);
+        checkSlugIsFree(posts.getSlug(), null);
+        posts = postsService.create(posts);
         return ResponseEntity.created(new URI("/api/posts/" + posts.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, posts.getId().toString()))
+            .eTag(versionETag(posts.getVersion()))
             .body(posts);
     }
 
+    /**
+     * {@code POST  /posts/bulk} : Import posts in bulk.
+     * <p>
+     * The body is either a JSON array of posts or newline delimited JSON, and is read as a stream. Posts are inserted in
+     * chunks that are committed on their own, invalid or failing records are reported and skipped.
+     *
+     * @param request the request to read the posts from.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of every record.
+     * @throws IOException if the request body can't be read.
+     */
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<BulkImportReportDTO> bulkImportPosts(HttpServletRequest request) throws IOException {
+        LOG.debug("REST request to bulk import Posts");
+        BulkImportReportDTO report = postsBulkImportService.importPosts(request.getInputStream());
+        return ResponseEntity.ok().body(report);
+    }
+
     /**
      * {@code PUT  /posts/:id} : Updates an existing posts.
+     * <p>
+     * The update only applies to the version of the posts the client has read, given as the {@code If-Match} header or
+     * as the {@code version} of the body.
      *
      * @param id the id of the posts to save.
+     * @param ifMatch the {@code ETag} of the posts the client has read.
      * @param posts the posts to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated posts,
      * or with status {@code 400 (Bad Request)} if the posts is not valid,
+     * or with status {@code 412 (Precondition Failed)} if the posts has been modified in the meantime,
      * or with status {@code 500 (Internal Server Error)} if the posts couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Posts> updatePosts(@PathVariable(value = "id", required = false) final Long id, @Valid @RequestBody Posts posts)
-        throws URISyntaxException {
+    public ResponseEntity<Posts> updatePosts(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @Valid @RequestBody Posts posts
+    ) throws URISyntaxException {
         LOG.debug("REST request to update Posts : {}, {}", id, posts);
         if (posts.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -81,31 +185,40 @@ public class PostsResource {
         if (!Objects.equals(id, posts.getId())) {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
-
-        if (!postsRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Long version = resolveExpectedVersion(ifMatch, posts.getVersion());
+        if (version == null) {
+            throw new BadRequestAlertException("The version of the posts is required", ENTITY_NAME, "versionnull");
         }
+        checkSlugIsFree(posts.getSlug(), id);
 
-        posts = postsRepository.save(posts);
+        if (!postsService.update(posts, version)) {
+            throw updateFailure(id);
+        }
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, posts.getId().toString()))
+            .eTag(versionETag(posts.getVersion()))
             .body(posts);
     }
 
     /**
      * {@code PATCH  /posts/:id} : Partial updates given fields of an existing posts, field will ignore if it is null
+     * <p>
+     * When the client gives the version it has read, as the {@code If-Match} header or as the {@code version} of the
+     * body, the update only applies to that version.
      *
      * @param id the id of the posts to save.
+     * @param ifMatch the {@code ETag} of the posts the client has read.
      * @param posts the posts to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated posts,
      * or with status {@code 400 (Bad Request)} if the posts is not valid,
-     * or with status {@code 404 (Not Found)} if the posts is not found,
+     * or with status {@code 412 (Precondition Failed)} if the posts has been modified in the meantime,
      * or with status {@code 500 (Internal Server Error)} if the posts couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Posts> partialUpdatePosts(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @NotNull @RequestBody Posts posts
     ) throws URISyntaxException {
         LOG.debug("REST request to partial update Posts partially : {}, {}", id, posts);
@@ -115,67 +228,240 @@ public class PostsResource {
         if (!Objects.equals(id, posts.getId())) {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
+        Long version = resolveExpectedVersion(ifMatch, posts.getVersion());
+        checkSlugIsFree(posts.getSlug(), id);
 
-        if (!postsRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Posts> result = postsRepository
-            .findById(posts.getId())
-            .map(existingPosts -> {
-                if (posts.getTitle() != null) {
-                    existingPosts.setTitle(posts.getTitle());
-                }
-                if (posts.getSlug() != null) {
-                    existingPosts.setSlug(posts.getSlug());
-                }
-                if (posts.getContent() != null) {
-                    existingPosts.setContent(posts.getContent());
-                }
-                if (posts.getPublishedAt() != null) {
-                    existingPosts.setPublishedAt(posts.getPublishedAt());
-                }
-                if (posts.getStatus() != null) {
-                    existingPosts.setStatus(posts.getStatus());
-                }
-                if (posts.getAuthorLogin() != null) {
-                    existingPosts.setAuthorLogin(posts.getAuthorLogin());
-                }
-
-                return existingPosts;
-            })
-            .map(postsRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, posts.getId().toString())
-        );
+        Posts updated = postsService.partialUpdate(posts, version).orElseThrow(() -> updateFailure(id));
+        return ResponseEntity.ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, updated.getId().toString()))
+            .eTag(versionETag(updated.getVersion()))
+            .body(updated);
+    }
+
+    /**
+     * {@code POST  /posts/:id/publish} : publish the "id" posts.
+     *
+     * @param id the id of the posts to publish.
+     * @param ifMatch the {@code ETag} of the posts the client has read, if the change should only apply to that version.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)},
+     * or with status {@code 400 (Bad Request)} if the posts is not found,
+     * or with status {@code 412 (Precondition Failed)} if the posts has been modified in the meantime.
+     */
+    @PostMapping("/{id}/publish")
+    public ResponseEntity<Void> publishPosts(
+        @PathVariable("id") Long id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        LOG.debug("REST request to publish Posts : {}", id);
+        return updateStatus(id, ifMatch, PostStatus.PUBLISHED);
+    }
+
+    /**
+     * {@code POST  /posts/:id/unpublish} : turn the "id" posts back into a draft.
+     *
+     * @param id the id of the posts to unpublish.
+     * @param ifMatch the {@code ETag} of the posts the client has read, if the change should only apply to that version.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)},
+     * or with status {@code 400 (Bad Request)} if the posts is not found,
+     * or with status {@code 412 (Precondition Failed)} if the posts has been modified in the meantime.
+     */
+    @PostMapping("/{id}/unpublish")
+    public ResponseEntity<Void> unpublishPosts(
+        @PathVariable("id") Long id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        LOG.debug("REST request to unpublish Posts : {}", id);
+        return updateStatus(id, ifMatch, PostStatus.DRAFT);
     }
 
     /**
-     * {@code GET  /posts} : get all the posts.
+     * {@code GET  /posts} : get a page of the posts visible to the current user.
+     * <p>
+     * Posts are ordered by {@code publishedAt} then {@code id}, newest first. The {@code next} and {@code prev} pages
+     * are advertised as opaque cursors in the {@code Link} header. Listed posts are summaries without their content,
+     * use {@code GET /posts/:id} to read a full post.
+     * <p>
+     * The page carries an {@code ETag}; a request whose {@code If-None-Match} still matches is answered with
+     * {@code 304 (Not Modified)} without running the feed queries. Otherwise the page is read through
+     * {@link PostsFeedCache}, in the transaction that read the revision of the ETag.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of posts in body.
+     * @param cursor the cursor of the page to read, or {@code null} for the first page.
+     * @param limit the maximum number of posts to return, capped at {@code application.posts.pagination.max-limit}.
+     * @param webRequest the request, to check its {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of post summaries in body,
+     * or with status {@code 304 (Not Modified)}.
      */
     @GetMapping("")
-    public List<Posts> getAllPosts() {
-        LOG.debug("REST request to get all Posts");
+    public ResponseEntity<List<PostSummaryDTO>> getAllPosts(
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "limit", required = false) Integer limit,
+        WebRequest webRequest
+    ) {
+        LOG.debug("REST request to get a page of Posts");
         String currentUserLogin = SecurityUtils.getCurrentUserLogin()
             .orElseThrow(() -> new RuntimeException("Current user login not found"));
-        return postsRepository.findPublishedAndOwnDrafts(currentUserLogin);
+        int pageSize = resolvePageSize(limit);
+        Pageable lookahead = PageRequest.ofSize(pageSize + 1);
+        PostsCursor position = cursor == null ? null : PostsCursor.decode(cursor);
+
+        PostsService.FeedPage feed = postsService.findFeedPage(
+            currentUserLogin,
+            revision -> webRequest.checkNotModified(feedETag(currentUserLogin, position, pageSize, revision)),
+            revision -> feedRows(currentUserLogin, revision, position, lookahead)
+        );
+        String eTag = feedETag(currentUserLogin, position, pageSize, feed.revision());
+        if (feed.rows() == null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        List<PostSummary> rows = feed.rows();
+        boolean hasPrev;
+        boolean hasNext;
+        if (position == null) {
+            hasPrev = false;
+            hasNext = rows.size() > pageSize;
+        } else if (position.direction() == PostsCursor.Direction.NEXT) {
+            hasPrev = true;
+            hasNext = rows.size() > pageSize;
+        } else {
+            hasPrev = rows.size() > pageSize;
+            hasNext = true;
+        }
+        List<PostSummaryDTO> page = rows
+            .stream()
+            .limit(pageSize)
+            .map(PostSummaryDTO::new)
+            .collect(Collectors.toCollection(ArrayList::new));
+        if (position != null && position.direction() == PostsCursor.Direction.PREV) {
+            // newer rows are read in ascending order, flip them back into feed order
+            Collections.reverse(page);
+        }
+
+        HttpHeaders headers = generateCursorHttpHeaders(page, pageSize, hasPrev, hasNext);
+        return ResponseEntity.ok().headers(headers).eTag(eTag).body(page);
+    }
+
+    /**
+     * {@code GET  /posts/latest} : get the newest posts visible to the current user.
+     * <p>
+     * The published posts are served from memory, the drafts of the current user are only read if they have any. There
+     * are no further pages, use {@code GET /posts} to page through the feed.
+     *
+     * @param limit the maximum number of posts to return, capped at {@code application.posts.pagination.max-limit}
+     * and {@code application.posts.latest.capacity}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of post summaries in body.
+     */
+    @GetMapping("/latest")
+    public ResponseEntity<List<PostSummaryDTO>> getLatestPosts(@RequestParam(name = "limit", required = false) Integer limit) {
+        LOG.debug("REST request to get the latest Posts");
+        String currentUserLogin = SecurityUtils.getCurrentUserLogin()
+            .orElseThrow(() -> new RuntimeException("Current user login not found"));
+        int pageSize = Math.min(resolvePageSize(limit), postsLatestFeed.getCapacity());
+        return ResponseEntity.ok().body(postsLatestFeed.latest(currentUserLogin, pageSize));
+    }
+
+    /**
+     * {@code GET  /posts/search?q=} : search the posts visible to the current user.
+     * <p>
+     * Every word of the query must appear in the title or the content of a post, words ending with {@code *} are
+     * matched as prefixes. Posts are returned best match first, as summaries without their content.
+     *
+     * @param query the words to search for.
+     * @param limit the maximum number of posts to return, capped at {@code application.posts.pagination.max-limit}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of post summaries in body.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<PostSummaryDTO>> searchPosts(
+        @RequestParam("q") String query,
+        @RequestParam(name = "limit", required = false) Integer limit
+    ) {
+        LOG.debug("REST request to search Posts : {}", query);
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BadRequestAlertException("The search query is too long", ENTITY_NAME, "querytoolong");
+        }
+        String currentUserLogin = SecurityUtils.getCurrentUserLogin()
+            .orElseThrow(() -> new RuntimeException("Current user login not found"));
+        List<PostSummaryDTO> hits = postsSearchService
+            .search(query, currentUserLogin, resolvePageSize(limit))
+            .stream()
+            .map(PostSummaryDTO::new)
+            .toList();
+        return ResponseEntity.ok().body(hits);
+    }
+
+    /**
+     * {@code GET  /posts/export} : stream all the posts as newline delimited JSON.
+     * <p>
+     * The body is gzip encoded when the client accepts it.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header of the request.
+     * @param response the response to stream the posts to.
+     * @throws IOException if the response can't be written.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public void exportPosts(
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        HttpServletResponse response
+    ) throws IOException {
+        LOG.debug("REST request to export all Posts");
+        boolean gzip = acceptsGzip(acceptEncoding);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        try (OutputStream out = gzip ? new GZIPOutputStream(response.getOutputStream()) : response.getOutputStream()) {
+            postsExportService.exportAll(out);
+        }
+    }
+
+    /**
+     * {@code GET  /posts/by-slug/:slug} : get the posts with the given slug.
+     * <p>
+     * The slug is resolved to an id in memory, and the posts read by id from the second-level cache. Its JSON is
+     * served from {@link PostsJsonCache}.
+     *
+     * @param slug the slug of the posts to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the posts, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/by-slug/{slug}")
+    public ResponseEntity<byte[]> getPostsBySlug(@PathVariable("slug") String slug) {
+        LOG.debug("REST request to get Posts by slug : {}", slug);
+        return postsSlugIndex
+            .findBySlug(slug)
+            .map(this::postsJson)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
     }
 
     /**
      * {@code GET  /posts/:id} : get the "id" posts.
+     * <p>
+     * When the request has an {@code If-None-Match} header, only the version of the post is read to check it, and a
+     * match is answered with {@code 304 (Not Modified)} without loading the content. Otherwise the JSON of the posts is
+     * served from {@link PostsJsonCache}. Concurrent requests for a post missing from the cache share one load, see
+     * {@link PostsLookup}. Ids the {@link NegativeLookups} know don't exist are answered without a query.
      *
      * @param id the id of the posts to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the posts, or with status {@code 404 (Not Found)}.
+     * @param webRequest the request, to check its {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the posts, with status
+     * {@code 304 (Not Modified)}, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Posts> getPosts(@PathVariable("id") Long id) {
+    public ResponseEntity<byte[]> getPosts(@PathVariable("id") Long id, WebRequest webRequest) {
         LOG.debug("REST request to get Posts : {}", id);
-        Optional<Posts> posts = postsRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(posts);
+        if (!negativeLookups.mightExist(NegativeLookups.Filter.POST_IDS, id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            // revalidation only reads the version, not the content
+            String eTag = versionETag(postsService.findVersion(id).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND)));
+            if (webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+        return postsLookup.findById(id).map(this::postsJson).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
     }
 
     /**
@@ -187,9 +473,151 @@ public class PostsResource {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePosts(@PathVariable("id") Long id) {
         LOG.debug("REST request to delete Posts : {}", id);
-        postsRepository.deleteById(id);
+        postsService.delete(id);
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    private ResponseEntity<Void> updateStatus(Long id, String ifMatch, PostStatus status) {
+        Long version = resolveExpectedVersion(ifMatch, null);
+        Long newVersion = postsService.updateStatus(id, status, version).orElseThrow(() -> updateFailure(id));
+        return ResponseEntity.noContent()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, id.toString()))
+            .eTag(versionETag(newVersion))
+            .build();
+    }
+
+    private int resolvePageSize(Integer limit) {
+        ApplicationProperties.Posts.Pagination pagination = applicationProperties.getPosts().getPagination();
+        if (limit == null) {
+            return pagination.getDefaultLimit();
+        }
+        if (limit < 1) {
+            throw new BadRequestAlertException("The limit must be positive", ENTITY_NAME, "limitinvalid");
+        }
+        return Math.min(limit, pagination.getMaxLimit());
+    }
+
+    /**
+     * The version the client expects to update: the {@code If-Match} header if given, the version of the body otherwise.
+     */
+    private static Long resolveExpectedVersion(String ifMatch, Long bodyVersion) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return bodyVersion;
+        }
+        String tag = ifMatch.trim();
+        // If-Match uses the strong comparison, a weak or malformed tag can't match
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedAlertException("The If-Match header doesn't match the posts", ENTITY_NAME);
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedAlertException("The If-Match header doesn't match the posts", ENTITY_NAME);
+        }
+    }
+
+    private static String versionETag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    private List<PostSummary> feedRows(
+        String currentUserLogin,
+        PostsRevisions.FeedRevision revision,
+        PostsCursor position,
+        Pageable lookahead
+    ) {
+        if (position == null) {
+            return postsFeedCache.findPublishedAndOwnDrafts(currentUserLogin, revision, lookahead);
+        } else if (position.direction() == PostsCursor.Direction.NEXT) {
+            return postsFeedCache.findPublishedAndOwnDraftsBefore(
+                currentUserLogin,
+                revision,
+                position.publishedAt(),
+                position.id(),
+                lookahead
+            );
+        }
+        return postsFeedCache.findPublishedAndOwnDraftsAfter(currentUserLogin, revision, position.publishedAt(), position.id(), lookahead);
+    }
+
+    /**
+     * Strong ETag of a page of the feed, derived from the revision of the feed rather than from the page itself, so it
+     * can be checked without running the feed query.
+     */
+    private static String feedETag(String currentUserLogin, PostsCursor position, int pageSize, PostsRevisions.FeedRevision revision) {
+        String validator = String.join(
+            "|",
+            currentUserLogin,
+            position == null ? "" : position.encode(),
+            String.valueOf(pageSize),
+            String.valueOf(revision.published()),
+            String.valueOf(revision.drafts())
+        );
+        return "\"" + DigestUtils.md5DigestAsHex(validator.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private ResponseEntity<byte[]> postsJson(Posts posts) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(versionETag(posts.getVersion()))
+            .body(postsJsonCache.toJson(posts));
+    }
+
+    private void checkSlugIsFree(String slug, Long id) {
+        if (slug != null && postsService.findIdBySlug(slug).filter(owner -> !owner.equals(id)).isPresent()) {
+            throw new BadRequestAlertException("A post with this slug already exists", ENTITY_NAME, "slugexists");
+        }
+    }
+
+    private RuntimeException updateFailure(Long id) {
+        if (!postsService.exists(id)) {
+            return new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        }
+        return new PreconditionFailedAlertException("The posts has been modified in the meantime", ENTITY_NAME);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private HttpHeaders generateCursorHttpHeaders(List<PostSummaryDTO> page, int pageSize, boolean hasPrev, boolean hasNext) {
+        HttpHeaders headers = new HttpHeaders();
+        if (page.isEmpty()) {
+            return headers;
+        }
+        UriComponentsBuilder uriBuilder = ServletUriComponentsBuilder.fromCurrentRequest();
+        List<String> links = new ArrayList<>(2);
+        if (hasNext) {
+            PostSummaryDTO last = page.get(page.size() - 1);
+            links.add(prepareCursorLink(uriBuilder, PostsCursor.next(last.getPublishedAt(), last.getId()), pageSize, "next"));
+        }
+        if (hasPrev) {
+            PostSummaryDTO first = page.get(0);
+            links.add(prepareCursorLink(uriBuilder, PostsCursor.prev(first.getPublishedAt(), first.getId()), pageSize, "prev"));
+        }
+        if (!links.isEmpty()) {
+            headers.add(HttpHeaders.LINK, String.join(",", links));
+        }
+        return headers;
+    }
+
+    private String prepareCursorLink(UriComponentsBuilder uriBuilder, PostsCursor cursor, int pageSize, String relType) {
+        String uri = uriBuilder
+            .cloneBuilder()
+            .replaceQueryParam("cursor", cursor.encode())
+            .replaceQueryParam("limit", pageSize)
+            .toUriString();
+        return "<" + uri + ">; rel=\"" + relType + "\"";
+    }
 }
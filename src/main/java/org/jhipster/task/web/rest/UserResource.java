@@ -9,7 +9,6 @@ import org.jhipster.task.config.Constants;
 import org.jhipster.task.domain.User;
 import org.jhipster.task.repository.UserRepository;
 import org.jhipster.task.security.AuthoritiesConstants;
-import org.jhipster.task.service.MailService;
 import org.jhipster.task.service.UserService;
 import org.jhipster.task.service.dto.AdminUserDTO;
 import org.jhipster.task.web.rest.errors.BadRequestAlertException;
@@ -84,12 +83,9 @@ public class UserResource {
 
     private final UserRepository userRepository;
 
-    private final MailService mailService;
-
-    public UserResource(UserService userService, UserRepository userRepository, MailService mailService) {
+    public UserResource(UserService userService, UserRepository userRepository) {
         this.userService = userService;
         this.userRepository = userRepository;
-        this.mailService = mailService;
     }
 
     /**
@@ -118,7 +114,6 @@ public class UserResource {
             throw new EmailAlreadyUsedException();
         } else {
             User newUser = userService.createUser(userDTO);
-            mailService.sendCreationEmail(newUser);
             return ResponseEntity.created(new URI("/api/admin/users/" + newUser.getLogin()))
                 .headers(
                     HeaderUtil.createAlert(applicationName, "A user is created with identifier " + newUser.getLogin(), newUser.getLogin())
@@ -0,0 +1,41 @@
+package org.jhipster.task.web.rest.errors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.ErrorResponseException;
+import tech.jhipster.web.rest.errors.ProblemDetailWithCause;
+import tech.jhipster.web.rest.errors.ProblemDetailWithCause.ProblemDetailWithCauseBuilder;
+
+/**
+ * Thrown when the {@code If-Match} precondition of a request doesn't hold, typically because the entity has been
+ * modified since the client read it.
+ */
+@SuppressWarnings("java:S110") // Inheritance tree of classes should not be too deep
+public class PreconditionFailedAlertException extends ErrorResponseException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String entityName;
+
+    public PreconditionFailedAlertException(String defaultMessage, String entityName) {
+        super(
+            HttpStatus.PRECONDITION_FAILED,
+            ProblemDetailWithCauseBuilder.instance()
+                .withStatus(HttpStatus.PRECONDITION_FAILED.value())
+                .withType(ErrorConstants.DEFAULT_TYPE)
+                .withTitle(defaultMessage)
+                .withProperty("message", ErrorConstants.ERR_CONCURRENCY_FAILURE)
+                .withProperty("params", entityName)
+                .build(),
+            null
+        );
+        this.entityName = entityName;
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public ProblemDetailWithCause getProblemDetailWithCause() {
+        return (ProblemDetailWithCause) this.getBody();
+    }
+}
@@ -8,13 +8,11 @@ import { sampleWithRequiredData } from '../posts.test-samples';
 import { PostsService } from '../service/posts.service';
 
 import { PostsComponent } from './posts.component';
-import SpyInstance = jest.SpyInstance;
 
 describe('Posts Management Component', () => {
   let comp: PostsComponent;
   let fixture: ComponentFixture<PostsComponent>;
   let service: PostsService;
-  let routerNavigateSpy: SpyInstance<Promise<boolean>>;
 
   beforeEach(() => {
     TestBed.configureTestingModule({
@@ -24,23 +22,11 @@ describe('Posts Management Component', () => {
         {
           provide: ActivatedRoute,
           useValue: {
-            data: of({
-              defaultSort: 'id,asc',
-            }),
-            queryParamMap: of(
-              jest.requireActual('@angular/router').convertToParamMap({
-                page: '1',
-                size: '1',
-                sort: 'id,desc',
-              }),
-            ),
+            data: of({}),
+            queryParamMap: of(jest.requireActual('@angular/router').convertToParamMap({})),
             snapshot: {
               queryParams: {},
-              queryParamMap: jest.requireActual('@angular/router').convertToParamMap({
-                page: '1',
-                size: '1',
-                sort: 'id,desc',
-              }),
+              queryParamMap: jest.requireActual('@angular/router').convertToParamMap({}),
             },
           },
         },
@@ -52,7 +38,6 @@ describe('Posts Management Component', () => {
     fixture = TestBed.createComponent(PostsComponent);
     comp = fixture.componentInstance;
     service = TestBed.inject(PostsService);
-    routerNavigateSpy = jest.spyOn(comp.router, 'navigate');
 
     jest
       .spyOn(service, 'query')
@@ -61,7 +46,7 @@ describe('Posts Management Component', () => {
           new HttpResponse({
             body: [{ id: 3050 }],
             headers: new HttpHeaders({
-              link: '<http://localhost/api/foo?page=1&size=20>; rel="next"',
+              link: '<http://localhost/api/foo?limit=20&cursor=Y3Vyc29yMQ>; rel="next"',
             }),
           }),
         ),
@@ -71,7 +56,7 @@ describe('Posts Management Component', () => {
           new HttpResponse({
             body: [{ id: 1350 }],
             headers: new HttpHeaders({
-              link: '<http://localhost/api/foo?page=0&size=20>; rel="prev",<http://localhost/api/foo?page=2&size=20>; rel="next"',
+              link: '<http://localhost/api/foo?limit=20&cursor=Y3Vyc29yMA>; rel="prev"',
             }),
           }),
         ),
@@ -87,37 +72,56 @@ describe('Posts Management Component', () => {
     expect(comp.posts()[0]).toEqual(expect.objectContaining({ id: 3050 }));
   });
 
-  describe('trackId', () => {
-    it('should forward to postsService', () => {
-      const entity = { id: 3050 };
-      jest.spyOn(service, 'getPostsIdentifier');
-      const id = comp.trackId(entity);
-      expect(service.getPostsIdentifier).toHaveBeenCalledWith(entity);
-      expect(id).toBe(entity.id);
-    });
+  it('should keep the next cursor from the link header', () => {
+    // WHEN
+    comp.ngOnInit();
+
+    // THEN
+    expect(comp.nextCursor).toEqual('Y3Vyc29yMQ');
   });
 
-  it('should calculate the sort attribute for a non-id attribute', () => {
+  it('should append the next page using the cursor', () => {
+    // GIVEN
+    comp.ngOnInit();
+
     // WHEN
-    comp.navigateToWithComponentValues({ predicate: 'non-existing-column', order: 'asc' });
+    comp.loadNextPage();
 
     // THEN
-    expect(routerNavigateSpy).toHaveBeenLastCalledWith(
-      expect.anything(),
-      expect.objectContaining({
-        queryParams: expect.objectContaining({
-          sort: ['non-existing-column,asc'],
-        }),
-      }),
-    );
+    expect(service.query).toHaveBeenLastCalledWith(expect.objectContaining({ cursor: 'Y3Vyc29yMQ' }));
+    expect(comp.posts().map(post => post.id)).toEqual([3050, 1350]);
+    expect(comp.nextCursor).toBeNull();
   });
 
-  it('should calculate the sort attribute for an id', () => {
+  it('should not query when there is no next page', () => {
     // WHEN
-    comp.ngOnInit();
+    comp.loadNextPage();
 
     // THEN
-    expect(service.query).toHaveBeenLastCalledWith(expect.objectContaining({ sort: ['id,desc'] }));
+    expect(service.query).not.toHaveBeenCalled();
+  });
+
+  it('should publish a draft and update its status', () => {
+    // GIVEN
+    jest.spyOn(service, 'publish').mockReturnValue(of(new HttpResponse({ status: 204 })));
+    comp.posts.set([{ id: 3050, status: 'DRAFT' }]);
+
+    // WHEN
+    comp.toggleStatus({ id: 3050, status: 'DRAFT' });
+
+    // THEN
+    expect(service.publish).toHaveBeenCalledWith(3050);
+    expect(comp.posts()[0].status).toEqual('PUBLISHED');
+  });
+
+  describe('trackId', () => {
+    it('should forward to postsService', () => {
+      const entity = { id: 3050 };
+      jest.spyOn(service, 'getPostsIdentifier');
+      const id = comp.trackId(entity);
+      expect(service.getPostsIdentifier).toHaveBeenCalledWith(entity);
+      expect(id).toBe(entity.id);
+    });
   });
 
   describe('delete', () => {
@@ -1,13 +1,12 @@
-import { Component, NgZone, OnInit, inject, signal } from '@angular/core';
-import { ActivatedRoute, Data, ParamMap, Router, RouterModule } from '@angular/router';
-import { Observable, Subscription, combineLatest, filter, tap } from 'rxjs';
+import { Component, OnInit, inject, signal } from '@angular/core';
+import { Router, RouterModule } from '@angular/router';
+import { Observable, filter, tap } from 'rxjs';
 import { NgbModal } from '@ng-bootstrap/ng-bootstrap';
 
 import SharedModule from 'app/shared/shared.module';
-import { SortService, type SortState, sortStateSignal } from 'app/shared/sort';
 import { FormatMediumDatetimePipe } from 'app/shared/date';
 import { FormsModule } from '@angular/forms';
-import { DEFAULT_SORT_DATA, ITEM_DELETED_EVENT, SORT } from 'app/config/navigation.constants';
+import { ITEM_DELETED_EVENT } from 'app/config/navigation.constants';
 import { DataUtils } from 'app/core/util/data-util.service';
 import { IPosts } from '../posts.model';
 import { EntityArrayResponseType, PostsService } from '../service/posts.service';
@@ -19,35 +18,19 @@ import { PostsDeleteDialogComponent } from '../delete/posts-delete-dialog.compon
   imports: [RouterModule, FormsModule, SharedModule, FormatMediumDatetimePipe],
 })
 export class PostsComponent implements OnInit {
-  subscription: Subscription | null = null;
   posts = signal<IPosts[]>([]);
   isLoading = false;
-
-  sortState = sortStateSignal({});
+  nextCursor: string | null = null;
 
   public readonly router = inject(Router);
   protected readonly postsService = inject(PostsService);
-  protected readonly activatedRoute = inject(ActivatedRoute);
-  protected readonly sortService = inject(SortService);
   protected dataUtils = inject(DataUtils);
   protected modalService = inject(NgbModal);
-  protected ngZone = inject(NgZone);
 
   trackId = (item: IPosts): number => this.postsService.getPostsIdentifier(item);
 
   ngOnInit(): void {
-    this.subscription = combineLatest([this.activatedRoute.queryParamMap, this.activatedRoute.data])
-      .pipe(
-        tap(([params, data]) => this.fillComponentAttributeFromRoute(params, data)),
-        tap(() => {
-          if (this.posts().length === 0) {
-            this.load();
-          } else {
-            this.posts.set(this.refineData(this.posts()));
-          }
-        }),
-      )
-      .subscribe();
+    this.load();
   }
 
   byteSize(base64String: string): string {
@@ -70,54 +53,55 @@ export class PostsComponent implements OnInit {
       .subscribe();
   }
 
+  /**
+   * Publish a draft, or turn a published post back into a draft.
+   */
+  toggleStatus(post: IPosts): void {
+    const status = post.status === 'PUBLISHED' ? 'DRAFT' : 'PUBLISHED';
+    const request = status === 'PUBLISHED' ? this.postsService.publish(post.id) : this.postsService.unpublish(post.id);
+    request.subscribe(() => {
+      this.posts.update(posts => posts.map(item => (item.id === post.id ? { ...item, status } : item)));
+    });
+  }
+
+  /**
+   * Reload the feed from its first page.
+   */
   load(): void {
+    this.nextCursor = null;
     this.queryBackend().subscribe({
       next: (res: EntityArrayResponseType) => {
-        this.onResponseSuccess(res);
+        this.onResponseSuccess(res, false);
       },
     });
   }
 
-  navigateToWithComponentValues(event: SortState): void {
-    this.handleNavigation(event);
-  }
-
-  protected fillComponentAttributeFromRoute(params: ParamMap, data: Data): void {
-    this.sortState.set(this.sortService.parseSortParam(params.get(SORT) ?? data[DEFAULT_SORT_DATA]));
+  /**
+   * Append the page following the last loaded one.
+   */
+  loadNextPage(): void {
+    if (this.isLoading || this.nextCursor === null) {
+      return;
+    }
+    this.queryBackend(this.nextCursor).subscribe({
+      next: (res: EntityArrayResponseType) => {
+        this.onResponseSuccess(res, true);
+      },
+    });
   }
 
-  protected onResponseSuccess(response: EntityArrayResponseType): void {
+  protected onResponseSuccess(response: EntityArrayResponseType, append: boolean): void {
+    this.nextCursor = this.postsService.getPageCursor(response, 'next');
     const dataFromBody = this.fillComponentAttributesFromResponseBody(response.body);
-    this.posts.set(this.refineData(dataFromBody));
-  }
-
-  protected refineData(data: IPosts[]): IPosts[] {
-    const { predicate, order } = this.sortState();
-    return predicate && order ? data.sort(this.sortService.startSort({ predicate, order })) : data;
+    this.posts.set(append ? this.postsService.addPostsToCollectionIfMissing(dataFromBody, ...this.posts()) : dataFromBody);
   }
 
   protected fillComponentAttributesFromResponseBody(data: IPosts[] | null): IPosts[] {
     return data ?? [];
   }
 
-  protected queryBackend(): Observable<EntityArrayResponseType> {
+  protected queryBackend(cursor?: string | null): Observable<EntityArrayResponseType> {
     this.isLoading = true;
-    const queryObject: any = {
-      sort: this.sortService.buildSortParam(this.sortState()),
-    };
-    return this.postsService.query(queryObject).pipe(tap(() => (this.isLoading = false)));
-  }
-
-  protected handleNavigation(sortState: SortState): void {
-    const queryParamsObj = {
-      sort: this.sortService.buildSortParam(sortState),
-    };
-
-    this.ngZone.run(() => {
-      this.router.navigate(['./'], {
-        relativeTo: this.activatedRoute,
-        queryParams: queryParamsObj,
-      });
-    });
+    return this.postsService.queryPage(cursor).pipe(tap(() => (this.isLoading = false)));
   }
 }
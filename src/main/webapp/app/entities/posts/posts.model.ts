@@ -9,6 +9,7 @@ export interface IPosts {
   publishedAt?: dayjs.Dayjs | null;
   status?: keyof typeof PostStatus | null;
   authorLogin?: string | null;
+  version?: number | null;
 }
 
 export type NewPosts = Omit<IPosts, 'id'> & { id: null };
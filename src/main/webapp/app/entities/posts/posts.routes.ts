@@ -1,16 +1,12 @@
 import { Routes } from '@angular/router';
 
 import { UserRouteAccessService } from 'app/core/auth/user-route-access.service';
-import { ASC } from 'app/config/navigation.constants';
 import PostsResolve from './route/posts-routing-resolve.service';
 
 const postsRoute: Routes = [
   {
     path: '',
     loadComponent: () => import('./list/posts.component').then(m => m.PostsComponent),
-    data: {
-      defaultSort: `id,${ASC}`,
-    },
     canActivate: [UserRouteAccessService],
   },
   {
@@ -1,6 +1,6 @@
 import { TestBed } from '@angular/core/testing';
 import { HttpTestingController, provideHttpClientTesting } from '@angular/common/http/testing';
-import { provideHttpClient } from '@angular/common/http';
+import { HttpHeaders, HttpResponse, provideHttpClient } from '@angular/common/http';
 
 import { IPosts } from '../posts.model';
 import { sampleWithFullData, sampleWithNewData, sampleWithPartialData, sampleWithRequiredData } from '../posts.test-samples';
@@ -38,6 +38,17 @@ describe('Posts Service', () => {
       expect(expectedResult).toMatchObject(expected);
     });
 
+    it('should find an element by slug', () => {
+      const returnedFromService = { ...requireRestSample };
+      const expected = { ...sampleWithRequiredData };
+
+      service.findBySlug('hello world').subscribe(resp => (expectedResult = resp.body));
+
+      const req = httpMock.expectOne({ method: 'GET', url: 'api/posts/by-slug/hello%20world' });
+      req.flush(returnedFromService);
+      expect(expectedResult).toMatchObject(expected);
+    });
+
     it('should create a Posts', () => {
       const posts = { ...sampleWithNewData };
       const returnedFromService = { ...requireRestSample };
@@ -87,6 +98,27 @@ describe('Posts Service', () => {
       expect(expectedResult).toMatchObject([expected]);
     });
 
+    it('should request a page with a cursor and a limit', () => {
+      service.queryPage('Y3Vyc29y', 5).subscribe();
+
+      const req = httpMock.expectOne(request => request.method === 'GET');
+      expect(req.request.params.get('cursor')).toEqual('Y3Vyc29y');
+      expect(req.request.params.get('limit')).toEqual('5');
+      req.flush([]);
+    });
+
+    it('should extract the page cursors from the link header', () => {
+      const res = new HttpResponse({
+        headers: new HttpHeaders({
+          link: '<http://localhost/api/posts?limit=20&cursor=bmV4dA>; rel="next",<http://localhost/api/posts?limit=20&cursor=cHJldg>; rel="prev"',
+        }),
+      });
+
+      expect(service.getPageCursor(res)).toEqual('bmV4dA');
+      expect(service.getPageCursor(res, 'prev')).toEqual('cHJldg');
+      expect(service.getPageCursor(new HttpResponse())).toBeNull();
+    });
+
     it('should delete a Posts', () => {
       const expected = true;
 
@@ -97,6 +129,35 @@ describe('Posts Service', () => {
       expect(expectedResult).toBe(expected);
     });
 
+    it('should search Posts', () => {
+      const returnedFromService = { ...requireRestSample };
+      const expected = { ...sampleWithRequiredData };
+
+      service.search('entsch*').subscribe(resp => (expectedResult = resp.body));
+
+      const req = httpMock.expectOne(request => request.method === 'GET' && request.url === 'api/posts/search');
+      expect(req.request.params.get('q')).toEqual('entsch*');
+      req.flush([returnedFromService]);
+      httpMock.verify();
+      expect(expectedResult).toMatchObject([expected]);
+    });
+
+    it('should publish a Posts', () => {
+      service.publish(123).subscribe(resp => (expectedResult = resp.ok));
+
+      const req = httpMock.expectOne({ method: 'POST', url: 'api/posts/123/publish' });
+      req.flush(null, { status: 204, statusText: 'No Content' });
+      expect(expectedResult).toBe(true);
+    });
+
+    it('should unpublish a Posts', () => {
+      service.unpublish(123).subscribe(resp => (expectedResult = resp.ok));
+
+      const req = httpMock.expectOne({ method: 'POST', url: 'api/posts/123/unpublish' });
+      req.flush(null, { status: 204, statusText: 'No Content' });
+      expect(expectedResult).toBe(true);
+    });
+
     describe('addPostsToCollectionIfMissing', () => {
       it('should add a Posts to an empty array', () => {
         const posts: IPosts = sampleWithRequiredData;
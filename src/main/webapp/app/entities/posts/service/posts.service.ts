@@ -7,6 +7,8 @@ import dayjs from 'dayjs/esm';
 import { isPresent } from 'app/core/util/operators';
 import { ApplicationConfigService } from 'app/core/config/application-config.service';
 import { createRequestOption } from 'app/core/request/request-util';
+import { ParseLinks } from 'app/core/util/parse-links.service';
+import { ITEMS_PER_PAGE } from 'app/config/pagination.constants';
 import { IPosts, NewPosts } from '../posts.model';
 
 export type PartialUpdatePosts = Partial<IPosts> & Pick<IPosts, 'id'>;
@@ -28,6 +30,7 @@ export type EntityArrayResponseType = HttpResponse<IPosts[]>;
 export class PostsService {
   protected readonly http = inject(HttpClient);
   protected readonly applicationConfigService = inject(ApplicationConfigService);
+  protected readonly parseLinks = inject(ParseLinks);
 
   protected resourceUrl = this.applicationConfigService.getEndpointFor('api/posts');
 
@@ -56,6 +59,15 @@ export class PostsService {
       .pipe(map(res => this.convertResponseFromServer(res)));
   }
 
+  /**
+   * Read a post by its slug, as used in public URLs.
+   */
+  findBySlug(slug: string): Observable<EntityResponseType> {
+    return this.http
+      .get<RestPosts>(`${this.resourceUrl}/by-slug/${encodeURIComponent(slug)}`, { observe: 'response' })
+      .pipe(map(res => this.convertResponseFromServer(res)));
+  }
+
   query(req?: any): Observable<EntityArrayResponseType> {
     const options = createRequestOption(req);
     return this.http
@@ -63,6 +75,48 @@ export class PostsService {
       .pipe(map(res => this.convertResponseArrayFromServer(res)));
   }
 
+  /**
+   * Read one page of the feed. Pass the cursor returned by {@link getPageCursor} to continue from a previous page.
+   */
+  queryPage(cursor?: string | null, limit: number = ITEMS_PER_PAGE): Observable<EntityArrayResponseType> {
+    return this.query({ cursor, limit });
+  }
+
+  /**
+   * Search the title and content of the posts. Words ending with `*` are matched as prefixes.
+   */
+  search(q: string, limit: number = ITEMS_PER_PAGE): Observable<EntityArrayResponseType> {
+    const options = createRequestOption({ q, limit });
+    return this.http
+      .get<RestPosts[]>(`${this.resourceUrl}/search`, { params: options, observe: 'response' })
+      .pipe(map(res => this.convertResponseArrayFromServer(res)));
+  }
+
+  /**
+   * Extract the opaque cursor of the `next` or `prev` page from the `Link` header of a page response.
+   */
+  getPageCursor(res: HttpResponse<unknown>, rel: 'next' | 'prev' = 'next'): string | null {
+    const linkHeader = res.headers.get('link');
+    if (!linkHeader) {
+      return null;
+    }
+    return this.parseLinks.parseAll(linkHeader)[rel]?.cursor ?? null;
+  }
+
+  /**
+   * Publish a post. Only its status changes, the post itself is not sent.
+   */
+  publish(id: number): Observable<HttpResponse<{}>> {
+    return this.http.post(`${this.resourceUrl}/${id}/publish`, null, { observe: 'response' });
+  }
+
+  /**
+   * Turn a published post back into a draft.
+   */
+  unpublish(id: number): Observable<HttpResponse<{}>> {
+    return this.http.post(`${this.resourceUrl}/${id}/unpublish`, null, { observe: 'response' });
+  }
+
   delete(id: number): Observable<HttpResponse<{}>> {
     return this.http.delete(`${this.resourceUrl}/${id}`, { observe: 'response' });
   }
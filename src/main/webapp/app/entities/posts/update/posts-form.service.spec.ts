@@ -26,6 +26,7 @@ describe('Posts Form Service', () => {
             publishedAt: expect.any(Object),
             status: expect.any(Object),
             authorLogin: expect.any(Object),
+            version: expect.any(Object),
           }),
         );
       });
@@ -42,6 +43,7 @@ describe('Posts Form Service', () => {
             publishedAt: expect.any(Object),
             status: expect.any(Object),
             authorLogin: expect.any(Object),
+            version: expect.any(Object),
           }),
         );
       });
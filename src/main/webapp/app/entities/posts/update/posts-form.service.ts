@@ -37,6 +37,7 @@ type PostsFormGroupContent = {
   publishedAt: FormControl<PostsFormRawValue['publishedAt']>;
   status: FormControl<PostsFormRawValue['status']>;
   authorLogin: FormControl<PostsFormRawValue['authorLogin']>;
+  version: FormControl<PostsFormRawValue['version']>;
 };
 
 export type PostsFormGroup = FormGroup<PostsFormGroupContent>;
@@ -74,6 +75,7 @@ export class PostsFormService {
       authorLogin: new FormControl(postsRawValue.authorLogin, {
         validators: [Validators.required],
       }),
+      version: new FormControl(postsRawValue.version),
     });
   }
 
@@ -0,0 +1,97 @@
+package org.jhipster.task.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.ehcache.Cache;
+import org.ehcache.CacheManager;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.jhipster.task.domain.Posts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Unit tests for the per-cache settings of the {@link CacheConfiguration} class.
+ */
+class CacheConfigurationTest {
+
+    private ApplicationProperties.Cache.Region region;
+
+    @BeforeEach
+    void setup() {
+        region = new ApplicationProperties.Cache.Region();
+        region.setHeap(DataSize.ofMegabytes(1));
+        region.setOffHeap(DataSize.ofMegabytes(4));
+    }
+
+    @Test
+    void acceptsGrowingTiers() {
+        region.setDisk(DataSize.ofMegabytes(8));
+        region.setTimeToIdle(Duration.ofMinutes(10));
+
+        assertThatNoException().isThrownBy(() -> CacheConfiguration.validate("posts", region, "cache"));
+    }
+
+    @Test
+    void rejectsTiersSmallerThanTheOneAbove() {
+        region.setOffHeap(DataSize.ofMegabytes(1));
+
+        assertThatIllegalStateException()
+            .isThrownBy(() -> CacheConfiguration.validate("posts", region, "cache"))
+            .withMessageContaining("application.cache.regions.posts.off-heap");
+    }
+
+    @Test
+    void rejectsDiskTiersWithoutADirectory() {
+        region.setDisk(DataSize.ofMegabytes(8));
+
+        assertThatIllegalStateException()
+            .isThrownBy(() -> CacheConfiguration.validate("posts", region, ""))
+            .withMessageContaining("application.cache.disk-path");
+    }
+
+    @Test
+    void rejectsTimeToLiveWithTimeToIdle() {
+        region.setTimeToLive(Duration.ofHours(1));
+        region.setTimeToIdle(Duration.ofMinutes(10));
+
+        assertThatIllegalStateException().isThrownBy(() -> CacheConfiguration.validate("posts", region, "cache"));
+    }
+
+    @Test
+    void storesEntriesOffHeap() {
+        try (
+            CacheManager cacheManager = CacheManagerBuilder.newCacheManagerBuilder()
+                .withCache("posts", CacheConfiguration.tieredConfiguration(region, Duration.ofHours(1)))
+                .build(true)
+        ) {
+            Cache<Object, Object> cache = cacheManager.getCache("posts", Object.class, Object.class);
+            cache.put(1L, new Posts().id(1L).title("Off heap"));
+
+            assertThat(cache.getRuntimeConfiguration().getResourcePools().getResourceTypeSet()).contains(ResourceType.Core.OFFHEAP);
+            assertThat(cache.get(1L)).isInstanceOfSatisfying(Posts.class, posts -> assertThat(posts.getTitle()).isEqualTo("Off heap"));
+        }
+    }
+
+    @Test
+    void keepsHeapOnlyEntriesAsTheyAre() {
+        region.setOffHeap(null);
+        byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
+        try (
+            CacheManager cacheManager = CacheManagerBuilder.newCacheManagerBuilder()
+                .withCache("postsJson", CacheConfiguration.tieredConfiguration(region, Duration.ofHours(1)))
+                .build(true)
+        ) {
+            Cache<Object, Object> cache = cacheManager.getCache("postsJson", Object.class, Object.class);
+            cache.put(1L, json);
+
+            assertThat(cache.getRuntimeConfiguration().getResourcePools().getResourceTypeSet()).containsExactly(ResourceType.Core.HEAP);
+            assertThat(cache.get(1L)).isSameAs(json);
+        }
+    }
+}
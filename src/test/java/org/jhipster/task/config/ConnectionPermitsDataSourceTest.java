@@ -0,0 +1,54 @@
+package org.jhipster.task.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.UUID;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ConnectionPermitsDataSource} class.
+ */
+class ConnectionPermitsDataSourceTest {
+
+    private ConnectionPermitsDataSource dataSource;
+
+    @BeforeEach
+    void setup() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:connection-permits-" + UUID.randomUUID());
+        dataSource = new ConnectionPermitsDataSource(h2, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void boundsTheOpenConnections() throws Exception {
+        Connection first = dataSource.getConnection();
+        try (Connection second = dataSource.getConnection()) {
+            assertThat(dataSource.getActiveConnections()).isEqualTo(2);
+            assertThatExceptionOfType(SQLTransientConnectionException.class).isThrownBy(dataSource::getConnection);
+        }
+
+        try (Connection third = dataSource.getConnection()) {
+            assertThat(third.isValid(1)).isTrue();
+        }
+        first.close();
+        assertThat(dataSource.getActiveConnections()).isZero();
+    }
+
+    @Test
+    void releasesAPermitOncePerConnection() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getActiveConnections()).isZero();
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            assertThatExceptionOfType(SQLTransientConnectionException.class).isThrownBy(dataSource::getConnection);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.jhipster.task.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link EhcacheTierMetrics} class.
+ */
+class EhcacheTierMetricsTest {
+
+    private EhcacheStatistics ehcacheStatistics;
+
+    private CacheManager cacheManager;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        ehcacheStatistics = new EhcacheStatistics();
+        cacheManager = provider.getCacheManager(
+            URI.create("urn:task:ehcache-tier-metrics-test"),
+            new DefaultConfiguration(provider.getDefaultClassLoader(), ehcacheStatistics.configuration())
+        );
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void bindsTheSizeOfEachTier() {
+        Cache<String, String> cache = cacheManager.createCache(
+            "tiered",
+            Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                    String.class,
+                    String.class,
+                    ResourcePoolsBuilder.heap(10).offheap(1, MemoryUnit.MB)
+                ).build()
+            )
+        );
+
+        new EhcacheTierMetrics(cacheManager, ehcacheStatistics).bindTo(registry);
+        cache.put("first", "value");
+        cache.put("second", "value");
+
+        assertThat(registry.get("cache.tier.size").tag("cache", "tiered").tag("tier", "OffHeap").gauge().value()).isEqualTo(2);
+        assertThat(registry.find("cache.tier.size").tag("cache", "tiered").tag("tier", "OnHeap").gauge()).isNotNull();
+    }
+
+    @Test
+    void stopsReportingOnceTheCacheManagerIsClosed() {
+        cacheManager.createCache(
+            "closed",
+            Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(String.class, String.class, ResourcePoolsBuilder.heap(10)).build()
+            )
+        );
+        new EhcacheTierMetrics(cacheManager, ehcacheStatistics).bindTo(registry);
+
+        cacheManager.close();
+
+        assertThat(registry.get("cache.tier.size").tag("cache", "closed").tag("tier", "OnHeap").gauge().value()).isNaN();
+    }
+}
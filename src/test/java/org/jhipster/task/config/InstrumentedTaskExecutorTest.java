@@ -0,0 +1,150 @@
+package org.jhipster.task.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.jhipster.task.config.InstrumentedTaskExecutor.Lane;
+import org.jhipster.task.config.InstrumentedTaskExecutor.RejectionPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Unit tests for the {@link InstrumentedTaskExecutor} class, with a single thread and a single queued task per lane.
+ */
+class InstrumentedTaskExecutorTest {
+
+    private MeterRegistry meterRegistry;
+
+    private InstrumentedTaskExecutor executor;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final List<String> ran = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void runsThePriorityTasksFirst() throws InterruptedException {
+        executor = executor(RejectionPolicy.FAIL_FAST);
+        block();
+        executor.lane(Lane.DEFAULT).execute(() -> ran.add("default"));
+        executor.lane(Lane.PRIORITY).execute(() -> ran.add("priority"));
+
+        assertThat(meterRegistry.get(InstrumentedTaskExecutor.QUEUED_METER_NAME).tag("lane", "default").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get(InstrumentedTaskExecutor.QUEUED_METER_NAME).tag("lane", "priority").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get(InstrumentedTaskExecutor.ACTIVE_METER_NAME).tag("lane", "default").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        executor.destroy();
+
+        assertThat(ran).containsExactly("blocking", "priority", "default");
+    }
+
+    @Test
+    void keepsRoomForThePriorityTasks() throws InterruptedException {
+        executor = executor(RejectionPolicy.FAIL_FAST);
+        block();
+        executor.lane(Lane.DEFAULT).execute(() -> ran.add("default"));
+
+        assertThatThrownBy(() -> executor.lane(Lane.DEFAULT).execute(() -> ran.add("rejected"))).isInstanceOf(
+            TaskRejectedException.class
+        );
+        executor.lane(Lane.PRIORITY).execute(() -> ran.add("priority"));
+
+        release.countDown();
+        executor.destroy();
+
+        assertThat(ran).containsExactly("blocking", "priority", "default");
+        assertThat(meterRegistry.get(InstrumentedTaskExecutor.REJECTED_METER_NAME).tag("lane", "default").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void runsTheRejectedTasksInTheCallerThread() throws InterruptedException {
+        executor = executor(RejectionPolicy.CALLER_RUNS);
+        block();
+        executor.lane(Lane.DEFAULT).execute(() -> ran.add("queued"));
+        executor.lane(Lane.DEFAULT).execute(() -> ran.add(Thread.currentThread().getName()));
+
+        assertThat(ran).containsExactly(Thread.currentThread().getName());
+
+        release.countDown();
+        executor.destroy();
+
+        assertThat(ran).containsExactly(Thread.currentThread().getName(), "blocking", "queued");
+    }
+
+    @Test
+    void timesTheTasksPerType() throws InterruptedException {
+        executor = executor(RejectionPolicy.FAIL_FAST);
+        executor.lane(Lane.PRIORITY).execute(() -> InstrumentedTaskExecutor.nameCurrentTask("MailService.sendPasswordResetMail"));
+        executor.lane(Lane.DEFAULT).execute(() -> {});
+        executor.destroy();
+
+        assertThat(
+            meterRegistry
+                .get(InstrumentedTaskExecutor.RUN_METER_NAME)
+                .tag("lane", "priority")
+                .tag("type", "MailService.sendPasswordResetMail")
+                .timer()
+                .count()
+        ).isEqualTo(1);
+        assertThat(
+            meterRegistry
+                .get(InstrumentedTaskExecutor.WAIT_METER_NAME)
+                .tag("lane", "default")
+                .tag("type", "InstrumentedTaskExecutorTest")
+                .timer()
+                .count()
+        ).isEqualTo(1);
+    }
+
+    private InstrumentedTaskExecutor executor(RejectionPolicy rejectionPolicy) {
+        return new InstrumentedTaskExecutor(
+            "test-",
+            1,
+            1,
+            Map.of(Lane.PRIORITY, 1, Lane.DEFAULT, 1),
+            rejectionPolicy,
+            Duration.ofSeconds(5),
+            meterRegistry
+        );
+    }
+
+    /**
+     * Keep the only thread busy until released.
+     */
+    private void block() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor
+            .lane(Lane.DEFAULT)
+            .execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                ran.add("blocking");
+            });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,173 @@
+package org.jhipster.task.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.h2.jdbcx.JdbcDataSource;
+import org.jhipster.task.repository.PrimaryReads;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for the {@link ReadReplicas} class, with an H2 database as the primary and another one as the replica.
+ */
+class ReadReplicasTest {
+
+    private JdbcDataSource primary;
+
+    private JdbcDataSource replica;
+
+    private ReadReplicas readReplicas;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        primary = database("primary");
+        replica = database("replica");
+        new JdbcTemplate(replica).execute("create table replica_lag (seconds int)");
+        new JdbcTemplate(replica).execute("insert into replica_lag values (0)");
+        ApplicationProperties.Datasource properties = new ApplicationProperties.Datasource();
+        properties.setLagQuery("select seconds from replica_lag");
+        properties.setReadYourWrites(Duration.ofMinutes(1));
+        readReplicas = new ReadReplicas(primary, List.of(replica), properties);
+        jdbcTemplate = new JdbcTemplate(readReplicas.getDataSource());
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(readReplicas.getDataSource()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(primary).execute("shutdown");
+        new JdbcTemplate(replica).execute("shutdown");
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToTheReplica() {
+        assertThat(database(true)).as("before the first check").isEqualTo("primary");
+
+        readReplicas.check();
+
+        assertThat(database(true)).isEqualTo("replica");
+        assertThat(database(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void skipsReplicasTooFarBehind() {
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 60");
+        readReplicas.check();
+
+        assertThat(database(true)).isEqualTo("primary");
+
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 1");
+        readReplicas.check();
+
+        assertThat(database(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void skipsReplicasThatCannotBeReached() {
+        JdbcDataSource missing = new JdbcDataSource();
+        missing.setURL("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        ApplicationProperties.Datasource properties = new ApplicationProperties.Datasource();
+        properties.setLagQuery("select seconds from replica_lag");
+        readReplicas = new ReadReplicas(primary, List.of(missing, replica), properties);
+        jdbcTemplate = new JdbcTemplate(readReplicas.getDataSource());
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(readReplicas.getDataSource()));
+
+        readReplicas.check();
+
+        assertThat(database(true)).isEqualTo("replica");
+        assertThat(database(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void routesTheReadsOfAUserToThePrimaryAfterTheirWrites() {
+        readReplicas.check();
+        authenticate("writer");
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("update database_name set name = name"));
+
+        assertThat(database(true)).isEqualTo("primary");
+
+        authenticate("reader");
+
+        assertThat(database(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void routesReadOnlyJpaTransactionsToTheReplica() {
+        readReplicas.check();
+        LocalContainerEntityManagerFactoryBean factory = entityManagerFactory();
+        try {
+            EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(factory.getObject());
+            TransactionTemplate jpaTransactionTemplate = new TransactionTemplate(new JpaTransactionManager(factory.getObject()));
+
+            assertThat(database(jpaTransactionTemplate, entityManager, true)).isEqualTo("replica");
+            assertThat(database(jpaTransactionTemplate, entityManager, false)).isEqualTo("primary");
+            assertThat(PrimaryReads.call(() -> database(jpaTransactionTemplate, entityManager, true))).isEqualTo("primary");
+            assertThat(database(jpaTransactionTemplate, entityManager, true)).isEqualTo("replica");
+        } finally {
+            factory.destroy();
+        }
+    }
+
+    @Test
+    void routesPrimaryReadsToThePrimary() {
+        readReplicas.check();
+
+        assertThat(PrimaryReads.call(() -> database(true))).isEqualTo("primary");
+    }
+
+    /**
+     * A JPA entity manager factory on the data source, configured like Spring Boot's, without entities.
+     */
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(readReplicas.getDataSource());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPersistenceUnitName("read-replicas");
+        factory.setPackagesToScan(ReadReplicasTest.class.getPackageName() + ".none");
+        factory.afterPropertiesSet();
+        return factory;
+    }
+
+    private static String database(TransactionTemplate transactionTemplate, EntityManager entityManager, boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+            (String) entityManager.createNativeQuery("select name from database_name").getSingleResult()
+        );
+    }
+
+    private String database(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from database_name", String.class));
+    }
+
+    private static void authenticate(String login) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(login, login));
+    }
+
+    private static JdbcDataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table database_name (name varchar(16))");
+        jdbcTemplate.update("insert into database_name values (?)", name);
+        return dataSource;
+    }
+}
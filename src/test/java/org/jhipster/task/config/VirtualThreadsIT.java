@@ -0,0 +1,140 @@
+package org.jhipster.task.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestTemplate;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Integration tests for {@code spring.threads.virtual.enabled}: requests, {@code @Async} methods and scheduled tasks
+ * run on virtual threads, with the {@link WebConfigurer} and the {@link AsyncConfiguration} of the application.
+ * <p>
+ * The test profiles replace the task executors with synchronous ones, so this starts its own web application with
+ * those two configurations only.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsIT {
+
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void start() {
+        context = new SpringApplicationBuilder(VirtualThreadsApp.class).run(
+            "--spring.profiles.active=virtual-threads",
+            "--spring.threads.virtual.enabled=true",
+            "--server.port=0"
+        );
+    }
+
+    @AfterEach
+    void stop() {
+        context.close();
+    }
+
+    @Test
+    void runsTheRequestsOnVirtualThreads() {
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+        String virtual = new RestTemplate().getForObject("http://localhost:" + port + "/thread", String.class);
+
+        assertThat(virtual).isEqualTo("true");
+    }
+
+    @Test
+    void runsTheAsyncMethodsOnVirtualThreads() throws Exception {
+        Thread thread = context.getBean(AsyncProbe.class).thread().get(5, TimeUnit.SECONDS);
+
+        assertThat(isVirtual(thread)).isTrue();
+    }
+
+    @Test
+    void runsTheScheduledTasksOnVirtualThreads() throws Exception {
+        Thread thread = context.getBean(ScheduledProbe.class).thread.get(5, TimeUnit.SECONDS);
+
+        assertThat(isVirtual(thread)).isTrue();
+    }
+
+    /**
+     * {@code Thread.isVirtual()}, the tests being compiled for Java 17.
+     */
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration(
+        {
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            TaskExecutionAutoConfiguration.class,
+            TaskSchedulingAutoConfiguration.class,
+        }
+    )
+    @EnableConfigurationProperties({ ApplicationProperties.class, JHipsterProperties.class })
+    @Import({ WebConfigurer.class, AsyncConfiguration.class, RequestProbe.class, AsyncProbe.class, ScheduledProbe.class })
+    static class VirtualThreadsApp {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @RestController
+    static class RequestProbe {
+
+        @GetMapping("/thread")
+        String thread() {
+            return String.valueOf(isVirtual(Thread.currentThread()));
+        }
+    }
+
+    static class AsyncProbe {
+
+        @Async
+        public CompletableFuture<Thread> thread() {
+            return CompletableFuture.completedFuture(Thread.currentThread());
+        }
+    }
+
+    static class ScheduledProbe {
+
+        private final CompletableFuture<Thread> thread = new CompletableFuture<>();
+
+        @Scheduled(fixedDelay = 100)
+        void run() {
+            thread.complete(Thread.currentThread());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.jhipster.task.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Compares the throughput of blocking work on platform and on virtual threads, as run in each mode of
+ * {@code spring.threads.virtual.enabled}: requests on the Undertow worker pool or on a virtual thread each, and
+ * {@code @Async} tasks on the {@code spring.task.execution.pool} or on a virtual thread each.
+ * <p>
+ * Each request runs a query on a small connection pool, behind a {@link ConnectionPermitsDataSource}, then blocks as a
+ * call to the mail server would. The permits, not the number of threads, bound the connections in use: however many
+ * virtual threads are started, no more than the pool size ever hold a connection.
+ * <p>
+ * {@link VirtualThreadsIT} checks that the application actually runs its work on virtual threads.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsLoadIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadsLoadIT.class);
+
+    private static final int REQUESTS = 2_000;
+
+    private static final int POOL_SIZE = 10;
+
+    private static final Duration BLOCKING = Duration.ofMillis(20);
+
+    private HikariDataSource pool;
+
+    private ConnectionPermitsDataSource dataSource;
+
+    private final AtomicInteger maxActiveConnections = new AtomicInteger();
+
+    @BeforeEach
+    void setup() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:virtual-threads-load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        pool = new HikariDataSource(config);
+        dataSource = new ConnectionPermitsDataSource(pool, POOL_SIZE, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void requestsOnVirtualThreads() throws Exception {
+        // Undertow's default worker pool
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(Runtime.getRuntime().availableProcessors(), 2) * 8);
+        double platform = throughput(workers);
+        workers.shutdown();
+        double virtual = throughput(new VirtualThreadTaskExecutor("load-"));
+
+        LOG.info("{} requests: {} per second on the worker pool, {} on virtual threads", REQUESTS, (int) platform, (int) virtual);
+        assertThat(virtual).isGreaterThan(platform);
+        assertThat(maxActiveConnections).hasValueLessThanOrEqualTo(POOL_SIZE);
+    }
+
+    @Test
+    void asyncTasksOnVirtualThreads() throws Exception {
+        // spring.task.execution.pool
+        ThreadPoolTaskExecutor taskPool = new ThreadPoolTaskExecutor();
+        taskPool.setCorePoolSize(2);
+        taskPool.setMaxPoolSize(50);
+        taskPool.setQueueCapacity(10000);
+        taskPool.initialize();
+        double platform = throughput(taskPool);
+        taskPool.shutdown();
+        double virtual = throughput(new VirtualThreadTaskExecutor("load-"));
+
+        LOG.info("{} async tasks: {} per second on the task pool, {} on virtual threads", REQUESTS, (int) platform, (int) virtual);
+        assertThat(virtual).isGreaterThan(platform);
+        assertThat(maxActiveConnections).hasValueLessThanOrEqualTo(POOL_SIZE);
+    }
+
+    /**
+     * @return the requests served per second.
+     */
+    private double throughput(Executor executor) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        AtomicInteger failures = new AtomicInteger();
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.execute(() -> {
+                try {
+                    serve();
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        assertThat(failures).hasValue(0);
+        return REQUESTS / seconds;
+    }
+
+    private void serve() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            maxActiveConnections.accumulateAndGet(dataSource.getActiveConnections(), Math::max);
+            try (ResultSet resultSet = statement.executeQuery("select 1")) {
+                resultSet.next();
+            }
+        }
+        Thread.sleep(BLOCKING.toMillis());
+    }
+}
@@ -0,0 +1,63 @@
+package org.jhipster.task.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class OrderedMergeTest {
+
+    @Test
+    void mergesInOrder() {
+        List<Integer> merged = OrderedMerge.merge(
+            List.of(9, 6, 5, 1).iterator(),
+            List.of(8, 7, 2).iterator(),
+            Comparator.<Integer>reverseOrder(),
+            10
+        );
+
+        assertThat(merged).containsExactly(9, 8, 7, 6, 5, 2, 1);
+    }
+
+    @Test
+    void mergesWithAnEmptySource() {
+        List<Integer> merged = OrderedMerge.merge(List.<Integer>of().iterator(), List.of(1, 2).iterator(), Comparator.naturalOrder(), 10);
+
+        assertThat(merged).containsExactly(1, 2);
+    }
+
+    @Test
+    void readsNoMoreThanTheLimit() {
+        AtomicInteger leftReads = new AtomicInteger();
+        AtomicInteger rightReads = new AtomicInteger();
+
+        List<Integer> merged = OrderedMerge.merge(
+            counting(List.of(1, 2, 3, 4, 5).iterator(), leftReads),
+            counting(List.of(10, 11, 12).iterator(), rightReads),
+            Comparator.naturalOrder(),
+            3
+        );
+
+        assertThat(merged).containsExactly(1, 2, 3);
+        assertThat(leftReads).hasValue(4);
+        assertThat(rightReads).hasValue(1);
+    }
+
+    private static <T> Iterator<T> counting(Iterator<T> delegate, AtomicInteger reads) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public T next() {
+                reads.incrementAndGet();
+                return delegate.next();
+            }
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package org.jhipster.task.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.jhipster.task.IntegrationTest;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests checking that the two streams of the posts feed are served by their indexes on H2. The plans are
+ * those of the SQL Hibernate generates for the repository queries, recorded by a {@link StatementInspector}.
+ */
+@IntegrationTest
+@Transactional
+@TestPropertySource(
+    properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+    "org.jhipster.task.repository.PostsRepositoryQueryPlanIT$RecordingStatementInspector"
+)
+class PostsRepositoryQueryPlanIT {
+
+    private static final String AUTHOR_LOGIN = "plan-author";
+
+    private static final Instant FEED_HEAD = Instant.parse("2999-01-01T00:00:00Z");
+
+    private static final Instant CURSOR_PUBLISHED_AT = Instant.parse("3000-01-01T00:00:00Z");
+
+    private static final long CURSOR_ID = 1_000_000L;
+
+    private static final int PAGE_SIZE = 21;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() throws Exception {
+        String databaseProductName = JdbcUtils.extractDatabaseMetaData(
+            Objects.requireNonNull(jdbcTemplate.getDataSource()),
+            DatabaseMetaData::getDatabaseProductName
+        );
+        assumeTrue("H2".equals(databaseProductName), "query plans are only checked on H2");
+
+        for (int i = 0; i < 100; i++) {
+            // mostly drafts of other authors, so neither stream matches a large part of the table
+            PostStatus status = i % 10 == 0 ? PostStatus.PUBLISHED : PostStatus.DRAFT;
+            String authorLogin = i % 20 == 1 ? AUTHOR_LOGIN : "author-" + i;
+            postsRepository.save(
+                new Posts()
+                    .title("Plan post " + i)
+                    .slug("plan-post-" + i)
+                    .content("Plan content")
+                    .publishedAt(FEED_HEAD.plusSeconds(i))
+                    .status(status)
+                    .authorLogin(authorLogin)
+            );
+        }
+        postsRepository.flush();
+    }
+
+    @Test
+    void publishedStreamUsesStatusIndex() {
+        String sql = recordSql(() -> postsRepository.streamPublishedBefore(CURSOR_PUBLISHED_AT, CURSOR_ID, PageRequest.ofSize(PAGE_SIZE)));
+
+        String plan = explain(sql, cursorTimestamp(), cursorTimestamp(), CURSOR_ID, PAGE_SIZE);
+
+        assertThat(plan).containsIgnoringCase("idx_posts_status_published_at_id");
+    }
+
+    @Test
+    void ownDraftsStreamUsesAuthorIndex() {
+        String sql = recordSql(() ->
+            postsRepository.streamOwnDraftsBefore(AUTHOR_LOGIN, CURSOR_PUBLISHED_AT, CURSOR_ID, PageRequest.ofSize(PAGE_SIZE))
+        );
+
+        String plan = explain(sql, AUTHOR_LOGIN, cursorTimestamp(), cursorTimestamp(), CURSOR_ID, PAGE_SIZE);
+
+        assertThat(plan).containsIgnoringCase("idx_posts_author_status_published_at");
+    }
+
+    /**
+     * Run a feed query and return the SQL Hibernate sent for it.
+     */
+    private static String recordSql(Supplier<Stream<PostSummary>> query) {
+        RecordingStatementInspector.STATEMENTS.clear();
+        try (Stream<PostSummary> rows = query.get()) {
+            rows.forEach(row -> {});
+        }
+        return RecordingStatementInspector.STATEMENTS.stream()
+            .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(" from posts "))
+            .reduce((first, second) -> second)
+            .orElseThrow(() -> new AssertionError("No query of the posts was recorded"));
+    }
+
+    /**
+     * Explain a recorded statement, binding its parameters in order. The page size is only bound if Hibernate didn't
+     * render it as a literal.
+     */
+    private String explain(String sql, Object... parameters) {
+        int placeholders = (int) sql.chars().filter(c -> c == '?').count();
+        assertThat(placeholders).isBetween(parameters.length - 1, parameters.length);
+        return jdbcTemplate.queryForObject("explain " + sql, String.class, Arrays.copyOf(parameters, placeholders));
+    }
+
+    private static Timestamp cursorTimestamp() {
+        return Timestamp.from(CURSOR_PUBLISHED_AT);
+    }
+
+    /**
+     * Keeps the statements prepared by Hibernate, set as {@code hibernate.session_factory.statement_inspector}.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
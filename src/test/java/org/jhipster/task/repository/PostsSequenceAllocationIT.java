@@ -0,0 +1,75 @@
+package org.jhipster.task.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.DatabaseMetaData;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.jhipster.task.IntegrationTest;
+import org.jhipster.task.config.ApplicationProperties;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the pooled allocation of the {@link Posts} ids.
+ */
+@IntegrationTest
+@Transactional
+class PostsSequenceAllocationIT {
+
+    private static final int POST_COUNT = 1_000;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void insertingPostsCallsTheSequenceOncePerAllocation() throws Exception {
+        int allocationSize = applicationProperties.getPosts().getIdGeneration().getAllocationSize();
+        long sequenceBefore = currentSequenceValue();
+
+        List<Posts> posts = new ArrayList<>(POST_COUNT);
+        for (int i = 0; i < POST_COUNT; i++) {
+            posts.add(
+                new Posts()
+                    .title("Sequence post " + i)
+                    .slug("sequence-post-" + i)
+                    .content("Sequence content")
+                    .publishedAt(Instant.parse("2025-01-01T00:00:00Z").plusSeconds(i))
+                    .status(PostStatus.DRAFT)
+                    .authorLogin("sequence")
+            );
+        }
+        postsRepository.saveAll(posts);
+        postsRepository.flush();
+
+        long sequenceCalls = (currentSequenceValue() - sequenceBefore) / allocationSize;
+        long expectedCalls = (POST_COUNT + allocationSize - 1) / allocationSize;
+        // the ids left over by previous tests of this context can save or cost a call
+        assertThat(sequenceCalls).isBetween(expectedCalls - 1, expectedCalls + 1);
+        assertThat(posts).extracting(Posts::getId).doesNotHaveDuplicates();
+    }
+
+    private long currentSequenceValue() throws Exception {
+        String databaseProductName = JdbcUtils.extractDatabaseMetaData(
+            Objects.requireNonNull(jdbcTemplate.getDataSource()),
+            DatabaseMetaData::getDatabaseProductName
+        );
+        String query = "H2".equals(databaseProductName)
+            ? "select base_value from information_schema.sequences where lower(sequence_name) = '" + Posts.SEQUENCE_NAME + "'"
+            : "select last_value from " + Posts.SEQUENCE_NAME;
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(query, Long.class));
+    }
+}
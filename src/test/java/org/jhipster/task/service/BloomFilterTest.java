@@ -0,0 +1,48 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link BloomFilter} class.
+ */
+class BloomFilterTest {
+
+    @Test
+    void containsEveryKeyAdded() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("key-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("key-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void keepsFalsePositivesNearTheProbability() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(Integer.toString(i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (filter.mightContain(Integer.toString(i))) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void isEmptyWhenCreated() {
+        BloomFilter filter = new BloomFilter(0, 0.01);
+
+        assertThat(filter.mightContain("")).isFalse();
+        assertThat(filter.mightContain("key")).isFalse();
+        assertThat(filter.sizeInBytes()).isPositive();
+    }
+}
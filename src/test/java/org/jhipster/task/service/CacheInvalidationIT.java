@@ -0,0 +1,148 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.Objects;
+import org.jhipster.task.IntegrationTest;
+import org.jhipster.task.TaskApp;
+import org.jhipster.task.config.AsyncSyncConfiguration;
+import org.jhipster.task.config.JacksonConfiguration;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.UserRepository;
+import org.jhipster.task.service.dto.AdminUserDTO;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link CacheInvalidationBus}, with a second instance of the application running next to the
+ * one of the tests and sharing its database, connected through the in-memory transport.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=true")
+class CacheInvalidationIT {
+
+    private static ConfigurableApplicationContext peer;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private PostsService postsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void startPeer() {
+        if (peer == null) {
+            peer = new SpringApplicationBuilder(TaskApp.class, JacksonConfiguration.class, AsyncSyncConfiguration.class)
+                .profiles(environment.getActiveProfiles())
+                .properties(
+                    "server.port=0",
+                    "spring.liquibase.enabled=false",
+                    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+                    "spring.datasource.url=" + environment.getProperty("spring.datasource.url"),
+                    "spring.datasource.username=" + environment.getProperty("spring.datasource.username", ""),
+                    "spring.datasource.password=" + environment.getProperty("spring.datasource.password", "")
+                )
+                .run();
+        }
+    }
+
+    @AfterAll
+    static void stopPeer() {
+        if (peer != null) {
+            peer.close();
+            peer = null;
+        }
+    }
+
+    @Test
+    void updatingAPostEvictsItOnThePeer() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Posts saved = transaction.execute(status -> postsRepository.save(newPosts()));
+        Long id = saved.getId();
+        EntityManagerFactory peerEntityManagerFactory = peer.getBean(EntityManagerFactory.class);
+        try {
+            readOnPeer(id);
+            assertThat(peerEntityManagerFactory.getCache().contains(Posts.class, id)).isTrue();
+
+            Posts edited = newPosts().id(id).slug(saved.getSlug()).title("Edited elsewhere");
+            assertThat(postsService.update(edited, saved.getVersion())).isTrue();
+
+            assertThat(peerEntityManagerFactory.getCache().contains(Posts.class, id)).isFalse();
+            assertThat(readOnPeer(id).getTitle()).isEqualTo("Edited elsewhere");
+        } finally {
+            transaction.executeWithoutResult(status -> postsRepository.deleteById(id));
+        }
+    }
+
+    @Test
+    void deletingAPostEvictsItOnThePeer() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long id = transaction.execute(status -> postsRepository.save(newPosts()).getId());
+        EntityManagerFactory peerEntityManagerFactory = peer.getBean(EntityManagerFactory.class);
+        readOnPeer(id);
+
+        transaction.executeWithoutResult(status -> postsRepository.deleteById(id));
+
+        assertThat(peerEntityManagerFactory.getCache().contains(Posts.class, id)).isFalse();
+    }
+
+    @Test
+    void clearingTheUserCachesEvictsThemOnThePeer() {
+        AdminUserDTO userDTO = new AdminUserDTO();
+        userDTO.setLogin("invalidated_elsewhere");
+        userDTO.setEmail("invalidated_elsewhere@localhost");
+        userService.createUser(userDTO);
+        CacheManager peerCacheManager = peer.getBean(CacheManager.class);
+        peer.getBean(UserRepository.class).findOneWithAuthoritiesByLogin("invalidated_elsewhere");
+        assertThat(Objects.requireNonNull(peerCacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE)).get("invalidated_elsewhere"))
+            .isNotNull();
+
+        userService.deleteUser("invalidated_elsewhere");
+
+        assertThat(
+            Objects.requireNonNull(peerCacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE)).get("invalidated_elsewhere")
+        ).isNull();
+    }
+
+    private Posts readOnPeer(Long id) {
+        EntityManager entityManager = peer.getBean(EntityManagerFactory.class).createEntityManager();
+        try {
+            return entityManager.find(Posts.class, id);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static Posts newPosts() {
+        return new Posts()
+            .title("Cached elsewhere")
+            .slug("cache-invalidation-" + System.nanoTime())
+            .content("Cached on every instance")
+            .publishedAt(Instant.parse("2025-09-18T08:00:00Z"))
+            .status(PostStatus.PUBLISHED)
+            .authorLogin("someone-else");
+    }
+}
@@ -0,0 +1,56 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.jhipster.task.IntegrationTest;
+import org.jhipster.task.domain.User;
+import org.jhipster.task.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Integration tests for the {@link CacheWarmup}.
+ */
+@IntegrationTest
+class CacheWarmupIT {
+
+    @Autowired
+    private CacheWarmup cacheWarmup;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void loadsTheUsersWithTheirAuthorities() {
+        Cache usersByLogin = Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE));
+        usersByLogin.clear();
+
+        CacheWarmup.Result result = cacheWarmup.warmUp();
+
+        assertThat(result.users()).isPositive();
+        assertThat(result.authorities()).isPositive();
+        User admin = usersByLogin.get("admin", User.class);
+        assertThat(admin).isNotNull();
+        assertThat(admin.getAuthorities()).isNotEmpty();
+    }
+
+    @Test
+    void reportsProgressAndDuration() {
+        CacheWarmup.Result result = cacheWarmup.warmUp();
+
+        assertThat(meterRegistry.get(CacheWarmup.PROGRESS_METER_NAME).gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(CacheWarmup.DURATION_METER_NAME).timeGauge().value(TimeUnit.MILLISECONDS)).isEqualTo(
+            result.duration().toMillis()
+        );
+        assertThat(meterRegistry.get(CacheWarmup.ENTRIES_METER_NAME).tag("cache", UserRepository.USERS_BY_LOGIN_CACHE).gauge().value())
+            .isEqualTo(result.users());
+    }
+}
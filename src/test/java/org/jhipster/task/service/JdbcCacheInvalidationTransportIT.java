@@ -0,0 +1,89 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jhipster.task.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for the {@link JdbcCacheInvalidationTransport}, with two instances of the transport on one database.
+ */
+@IntegrationTest
+class JdbcCacheInvalidationTransportIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcCacheInvalidationTransport sender;
+
+    private JdbcCacheInvalidationTransport receiver;
+
+    private final List<CacheInvalidation> sent = new ArrayList<>();
+
+    private final List<CacheInvalidation> received = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        sender = new JdbcCacheInvalidationTransport(jdbcTemplate, Duration.ofMinutes(1), Duration.ofHours(1));
+        receiver = new JdbcCacheInvalidationTransport(jdbcTemplate, Duration.ofMinutes(1), Duration.ofHours(1));
+        sender.subscribe("sender", sent::add);
+        receiver.subscribe("receiver", received::add);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("delete from cache_invalidation");
+    }
+
+    @Test
+    void deliversToTheOtherInstancesOnce() {
+        CacheInvalidation invalidation = CacheInvalidation.cache("usersByLogin", "someone");
+        sender.send("sender", invalidation);
+
+        receiver.poll();
+        receiver.poll();
+        sender.poll();
+
+        assertThat(received).containsExactly(invalidation);
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    void deliversTheKeysOfARowInOneInvalidation() {
+        Map<String, String> keys = new LinkedHashMap<>();
+        keys.put("POST_IDS", "42");
+        keys.put("POST_SLUGS", "komma,und prozent%");
+        sender.send("sender", CacheInvalidation.exists(keys));
+
+        receiver.poll();
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from cache_invalidation", Long.class)).isEqualTo(1);
+        assertThat(received).singleElement().satisfies(invalidation -> assertThat(invalidation.existingKeys()).isEqualTo(keys));
+    }
+
+    @Test
+    void purgesInvalidationsPastTheRetention() {
+        jdbcTemplate.update(
+            "insert into cache_invalidation (origin, target, name, cache_key, created_at) values (?, ?, ?, ?, ?)",
+            "sender",
+            "ENTITY",
+            "org.jhipster.task.domain.Posts",
+            "1",
+            System.currentTimeMillis() - Duration.ofHours(2).toMillis()
+        );
+        sender.send("sender", CacheInvalidation.entity("org.jhipster.task.domain.Posts", 2L));
+
+        sender.purge();
+
+        assertThat(jdbcTemplate.queryForList("select cache_key from cache_invalidation", String.class)).containsExactly("2");
+    }
+}
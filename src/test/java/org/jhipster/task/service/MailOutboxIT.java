@@ -0,0 +1,224 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.jhipster.task.IntegrationTest;
+import org.jhipster.task.config.ApplicationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Integration tests for the {@link MailOutbox} class, sending to a {@link LocalSmtpServer}.
+ */
+@IntegrationTest
+class MailOutboxIT {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JHipsterProperties jHipsterProperties;
+
+    private LocalSmtpServer smtpServer;
+
+    private ApplicationProperties applicationProperties;
+
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+
+    private MailOutbox mailOutbox;
+
+    @BeforeEach
+    void setup() throws IOException {
+        jdbcTemplate.update("delete from mail_outbox");
+        smtpServer = new LocalSmtpServer();
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getMailOutbox().setBatchSize(10);
+        applicationProperties.getMailOutbox().setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // drained by the tests
+        mailOutbox = mailOutbox(smtpServer, task -> {});
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        smtpServer.close();
+        jdbcTemplate.update("delete from mail_outbox");
+    }
+
+    @Test
+    void sendsABatchOverOneConnection() {
+        for (int i = 0; i < 3; i++) {
+            add("john" + i + "@example.com", "email " + i, false);
+        }
+
+        mailOutbox.drain();
+
+        assertThat(smtpServer.getMessages()).hasSize(3);
+        assertThat(smtpServer.getConnections()).isEqualTo(1);
+        assertThat(rows()).isZero();
+        assertThat(meterRegistry.get(MailOutbox.DELIVERIES_METER_NAME).tag("outcome", "sent").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(MailOutbox.LATENCY_METER_NAME).timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(MailOutbox.DEPTH_METER_NAME).tag("state", "pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void sendsThePriorityEmailsFirst() {
+        add("john@example.com", "bulk", false);
+        add("jane@example.com", "password reset", true);
+
+        mailOutbox.drain();
+
+        assertThat(smtpServer.getMessages()).hasSize(2);
+        assertThat(smtpServer.getMessages().get(0)).contains("Subject: password reset");
+        assertThat(smtpServer.getMessages().get(1)).contains("Subject: bulk");
+    }
+
+    @Test
+    void sendsTheEmailsOnceTheirTransactionCommits() {
+        mailOutbox = mailOutbox(smtpServer, new SyncTaskExecutor());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            mailOutbox.add("john@example.com", "committed", "content", false, false, false);
+            assertThat(smtpServer.getMessages()).isEmpty();
+        });
+
+        assertThat(smtpServer.getMessages()).hasSize(1);
+        assertThat(rows()).isZero();
+    }
+
+    @Test
+    void doesNotSendTheEmailsOfRolledBackTransactions() {
+        transactionTemplate.executeWithoutResult(status -> {
+            mailOutbox.add("john@example.com", "rolled back", "content", false, false, false);
+            status.setRollbackOnly();
+        });
+
+        mailOutbox.drain();
+
+        assertThat(smtpServer.getMessages()).isEmpty();
+        assertThat(rows()).isZero();
+    }
+
+    @Test
+    void retriesAfterABackoff() throws IOException {
+        add("john@example.com", "retried", false);
+        smtpServer.close();
+        long before = System.currentTimeMillis();
+
+        mailOutbox.drain();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("select attempts, next_attempt_at, last_error, claimed_by from mail_outbox");
+        assertThat(row.get("attempts")).isEqualTo(1);
+        assertThat((Long) row.get("next_attempt_at")).isGreaterThanOrEqualTo(
+            before + applicationProperties.getMailOutbox().getInitialBackoff().toMillis()
+        );
+        assertThat(row.get("last_error")).isNotNull();
+        assertThat(row.get("claimed_by")).isNull();
+        assertThat(meterRegistry.get(MailOutbox.DELIVERIES_METER_NAME).tag("outcome", "retried").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MailOutbox.DEPTH_METER_NAME).tag("state", "pending").gauge().value()).isEqualTo(1);
+
+        smtpServer = new LocalSmtpServer();
+        mailOutbox = mailOutbox(smtpServer, task -> {});
+        mailOutbox.drain();
+
+        assertThat(smtpServer.getMessages()).as("before the backoff").isEmpty();
+
+        jdbcTemplate.update("update mail_outbox set next_attempt_at = 0");
+        mailOutbox.drain();
+
+        assertThat(smtpServer.getMessages()).hasSize(1);
+        assertThat(rows()).isZero();
+    }
+
+    @Test
+    void retriesOnlyTheRefusedEmailsOfABatch() {
+        add("john@example.com", "sent", false);
+        add("reject@example.com", "refused", false);
+
+        mailOutbox.drain();
+
+        assertThat(smtpServer.getMessages()).hasSize(1);
+        assertThat(smtpServer.getMessages().get(0)).contains("Subject: sent");
+        assertThat(jdbcTemplate.queryForObject("select recipient from mail_outbox where attempts = 1", String.class)).isEqualTo(
+            "reject@example.com"
+        );
+    }
+
+    @Test
+    void givesUpAfterTheMaxAttempts() {
+        applicationProperties.getMailOutbox().setMaxAttempts(1);
+        add("reject@example.com", "refused", false);
+
+        mailOutbox.drain();
+        jdbcTemplate.update("update mail_outbox set next_attempt_at = 0");
+        mailOutbox.drain();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("select attempts, failed_at from mail_outbox");
+        assertThat(row.get("attempts")).isEqualTo(1);
+        assertThat(row.get("failed_at")).isNotNull();
+        assertThat(jdbcTemplate.queryForObject("select content from mail_outbox", String.class)).as("may hold keys").isEmpty();
+        assertThat(meterRegistry.get(MailOutbox.DELIVERIES_METER_NAME).tag("outcome", "failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MailOutbox.DEPTH_METER_NAME).tag("state", "failed").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void deletesTheFailedEmailsAfterTheirRetention() {
+        applicationProperties.getMailOutbox().setMaxAttempts(1);
+        add("reject@example.com", "refused", false);
+        add("reject@example.com", "refused long ago", false);
+
+        mailOutbox.drain();
+
+        assertThat(rows()).as("within the retention").isEqualTo(2);
+
+        jdbcTemplate.update(
+            "update mail_outbox set failed_at = ? where subject = 'refused long ago'",
+            System.currentTimeMillis() - applicationProperties.getMailOutbox().getFailedRetention().toMillis() - 1
+        );
+        mailOutbox.drain();
+
+        assertThat(jdbcTemplate.queryForObject("select subject from mail_outbox", String.class)).isEqualTo("refused");
+    }
+
+    private MailOutbox mailOutbox(LocalSmtpServer smtpServer, Executor executor) {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost(smtpServer.getHost());
+        javaMailSender.setPort(smtpServer.getPort());
+        return new MailOutbox(
+            jdbcTemplate,
+            javaMailSender,
+            jHipsterProperties,
+            applicationProperties,
+            executor,
+            transactionManager,
+            meterRegistry
+        );
+    }
+
+    private void add(String to, String subject, boolean priority) {
+        transactionTemplate.executeWithoutResult(status -> mailOutbox.add(to, subject, "content", false, false, priority));
+    }
+
+    private long rows() {
+        return jdbcTemplate.queryForObject("select count(*) from mail_outbox", Long.class);
+    }
+}
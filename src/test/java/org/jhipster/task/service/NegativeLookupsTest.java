@@ -0,0 +1,83 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.jhipster.task.config.ApplicationProperties;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.PostsSlug;
+import org.jhipster.task.repository.PrimaryReads;
+import org.jhipster.task.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link NegativeLookups} class, with a read replica missing the rows inserted last.
+ */
+class NegativeLookupsTest {
+
+    private PostsRepository postsRepository;
+
+    private UserRepository userRepository;
+
+    private NegativeLookups negativeLookups;
+
+    @BeforeEach
+    void setup() {
+        postsRepository = mock(PostsRepository.class);
+        userRepository = mock(UserRepository.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(mock(SessionFactoryImplementor.class));
+        negativeLookups = new NegativeLookups(
+            new ApplicationProperties(),
+            postsRepository,
+            userRepository,
+            mock(CacheInvalidationBus.class),
+            entityManagerFactory,
+            new SimpleMeterRegistry()
+        );
+
+        // the replica hasn't caught up with the last post and user yet
+        when(postsRepository.count()).thenAnswer(invocation -> PrimaryReads.isRequired() ? 2L : 1L);
+        when(postsRepository.findAllSlugs()).thenAnswer(invocation ->
+            PrimaryReads.isRequired() ? List.of(slug(1L, "first"), slug(2L, "second")) : List.of(slug(1L, "first"))
+        );
+        when(userRepository.count()).thenAnswer(invocation -> PrimaryReads.isRequired() ? 2L : 1L);
+        when(userRepository.findAllLogins()).thenAnswer(invocation ->
+            PrimaryReads.isRequired() ? List.of("john", "jane") : List.of("john")
+        );
+        when(userRepository.findAllEmails()).thenAnswer(invocation ->
+            PrimaryReads.isRequired() ? List.of("john@example.com", "jane@example.com") : List.of("john@example.com")
+        );
+    }
+
+    @Test
+    void rebuildsFromThePrimary() {
+        negativeLookups.rebuild();
+
+        assertThat(negativeLookups.mightExist(NegativeLookups.Filter.POST_IDS, 2L)).isTrue();
+        assertThat(negativeLookups.mightExist(NegativeLookups.Filter.POST_SLUGS, "second")).isTrue();
+        assertThat(negativeLookups.mightExist(NegativeLookups.Filter.USER_LOGINS, "jane")).isTrue();
+        assertThat(negativeLookups.mightExist(NegativeLookups.Filter.USER_EMAILS, "Jane@Example.com")).isTrue();
+        assertThat(negativeLookups.mightExist(NegativeLookups.Filter.POST_SLUGS, "missing")).isFalse();
+        assertThat(PrimaryReads.isRequired()).isFalse();
+    }
+
+    private static PostsSlug slug(Long id, String slug) {
+        return new PostsSlug() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getSlug() {
+                return slug;
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Instant;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Unit tests for the {@link PostsJsonCache} class.
+ */
+class PostsJsonCacheTest {
+
+    private ObjectMapper om;
+
+    private PostsJsonCache postsJsonCache;
+
+    @BeforeEach
+    void setup() {
+        om = new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        postsJsonCache = new PostsJsonCache(new ConcurrentMapCacheManager(PostsJsonCache.POSTS_JSON_CACHE), om);
+    }
+
+    @Test
+    void servesTheSameBytesForTheSameVersion() throws Exception {
+        Posts posts = posts(1L);
+
+        byte[] json = postsJsonCache.toJson(posts);
+
+        assertThat(json).isEqualTo(om.writeValueAsBytes(posts));
+        assertThat(postsJsonCache.toJson(posts(1L))).isSameAs(json);
+        assertThat(postsJsonCache.getIfCached(posts(1L))).isSameAs(json);
+    }
+
+    @Test
+    void serializesAgainForAnotherVersion() throws Exception {
+        byte[] json = postsJsonCache.toJson(posts(1L));
+        Posts updated = posts(2L).title("Updated");
+
+        assertThat(postsJsonCache.getIfCached(updated)).isNull();
+        assertThat(postsJsonCache.toJson(updated)).isNotSameAs(json).isEqualTo(om.writeValueAsBytes(updated));
+    }
+
+    @Test
+    void evictsChangedPosts() {
+        postsJsonCache.toJson(posts(1L));
+
+        postsJsonCache.onPostsChanged(PostsChangedEvent.updated(42L, null));
+
+        assertThat(postsJsonCache.getIfCached(posts(1L))).isNull();
+    }
+
+    private static Posts posts(Long version) {
+        return new Posts()
+            .id(42L)
+            .version(version)
+            .title("Title")
+            .slug("title")
+            .content("Content")
+            .publishedAt(Instant.parse("2025-09-18T08:00:00Z"))
+            .status(PostStatus.PUBLISHED)
+            .authorLogin("user");
+    }
+}
@@ -0,0 +1,150 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.jhipster.task.config.ApplicationProperties;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.repository.PostSummary;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.service.dto.PostSummaryDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Unit tests for the {@link PostsLatestFeed} class.
+ */
+class PostsLatestFeedTest {
+
+    private PostsRepository postsRepository;
+
+    private PostsLatestFeed postsLatestFeed;
+
+    @BeforeEach
+    void setup() {
+        postsRepository = mock(PostsRepository.class);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getPosts().getLatest().setCapacity(3);
+        postsLatestFeed = new PostsLatestFeed(postsRepository, applicationProperties);
+    }
+
+    @Test
+    void servesPublishedPostsWithoutQueryingThem() {
+        when(postsRepository.findLatestPublished(any(Pageable.class))).thenReturn(List.of(published(3L)));
+        postsLatestFeed.warm();
+
+        postsLatestFeed.onPostsChanged(PostsChangedEvent.created(posts(4L, PostStatus.PUBLISHED)));
+
+        assertThat(postsLatestFeed.latest("user", 10)).extracting(PostSummaryDTO::getId).containsExactly(4L, 3L);
+        verify(postsRepository, times(1)).findLatestPublished(any(Pageable.class));
+        verify(postsRepository, never()).findOwnDrafts(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void refillsWhenAPostLeavesAFullFeed() {
+        when(postsRepository.findLatestPublished(any(Pageable.class)))
+            .thenReturn(List.of(published(4L), published(3L), published(2L), published(1L)))
+            .thenReturn(List.of(published(4L), published(2L), published(1L)));
+        postsLatestFeed.warm();
+        assertThat(postsLatestFeed.latest("user", 10)).extracting(PostSummaryDTO::getId).containsExactly(4L, 3L, 2L);
+
+        when(postsRepository.findSummaryById(3L)).thenReturn(Optional.of(summary(3L, PostStatus.DRAFT)));
+        postsLatestFeed.onPostsChanged(PostsChangedEvent.updated(3L, null));
+
+        assertThat(postsLatestFeed.latest("someone-else", 10)).extracting(PostSummaryDTO::getId).containsExactly(4L, 2L, 1L);
+        verify(postsRepository, times(2)).findLatestPublished(any(Pageable.class));
+    }
+
+    @Test
+    void mergesTheDraftsOfTheirAuthorsOnly() {
+        when(postsRepository.findLatestPublished(any(Pageable.class))).thenReturn(List.of(published(2L)));
+        when(postsRepository.findDraftAuthors()).thenReturn(List.of("user"));
+        when(postsRepository.findOwnDrafts(eq("user"), any(Pageable.class))).thenReturn(List.of(summary(3L, PostStatus.DRAFT)));
+        postsLatestFeed.warm();
+
+        assertThat(postsLatestFeed.latest("user", 10)).extracting(PostSummaryDTO::getId).containsExactly(3L, 2L);
+        assertThat(postsLatestFeed.latest("someone-else", 10)).extracting(PostSummaryDTO::getId).containsExactly(2L);
+        verify(postsRepository, never()).findOwnDrafts(eq("someone-else"), any(Pageable.class));
+    }
+
+    @Test
+    void forgetsAuthorsWithoutDrafts() {
+        when(postsRepository.findLatestPublished(any(Pageable.class))).thenReturn(List.of());
+        when(postsRepository.findDraftAuthors()).thenReturn(List.of("user"));
+        when(postsRepository.findOwnDrafts(eq("user"), any(Pageable.class))).thenReturn(List.of());
+        postsLatestFeed.warm();
+
+        postsLatestFeed.latest("user", 10);
+        postsLatestFeed.latest("user", 10);
+
+        verify(postsRepository, times(1)).findOwnDrafts(eq("user"), any(Pageable.class));
+    }
+
+    @Test
+    void ignoresChangesOlderThanTheFeed() {
+        PostSummary held = new PostSummaryDTO(posts(3L, PostStatus.PUBLISHED, 2L));
+        when(postsRepository.findLatestPublished(any(Pageable.class))).thenReturn(List.of(held));
+        postsLatestFeed.warm();
+
+        // committed before the version loaded, delivered after it
+        postsLatestFeed.onPostsChanged(PostsChangedEvent.updated(posts(3L, PostStatus.DRAFT, 1L)));
+        postsLatestFeed.onPostsChanged(PostsChangedEvent.created(posts(4L, PostStatus.PUBLISHED, 0L)));
+        postsLatestFeed.onPostsChanged(PostsChangedEvent.deleted(4L));
+        postsLatestFeed.onPostsChanged(PostsChangedEvent.updated(posts(4L, PostStatus.PUBLISHED, 1L)));
+
+        assertThat(postsLatestFeed.latest("user", 10)).extracting(PostSummaryDTO::getId).containsExactly(3L);
+    }
+
+    @Test
+    void keepsUnpublishedPostsOutOfTheFeed() {
+        PostSummary held = new PostSummaryDTO(posts(3L, PostStatus.PUBLISHED, 0L));
+        when(postsRepository.findLatestPublished(any(Pageable.class))).thenReturn(List.of(held));
+        postsLatestFeed.warm();
+
+        postsLatestFeed.onPostsChanged(PostsChangedEvent.updated(posts(3L, PostStatus.DRAFT, 2L)));
+        postsLatestFeed.onPostsChanged(PostsChangedEvent.updated(posts(3L, PostStatus.PUBLISHED, 1L)));
+
+        assertThat(postsLatestFeed.latest("someone-else", 10)).isEmpty();
+    }
+
+    @Test
+    void stopsReloadingWhileChangesKeepBeingCommitted() {
+        when(postsRepository.findLatestPublished(any(Pageable.class))).thenAnswer(invocation -> {
+            postsLatestFeed.onPostsChanged(PostsChangedEvent.deleted(1L));
+            return List.of(published(3L));
+        });
+
+        assertThat(postsLatestFeed.latest("someone-else", 10)).extracting(PostSummaryDTO::getId).containsExactly(3L);
+        verify(postsRepository, times(PostsLatestFeed.MAX_RELOAD_ATTEMPTS)).findLatestPublished(any(Pageable.class));
+
+        postsLatestFeed.latest("someone-else", 10);
+        verify(postsRepository, times(2 * PostsLatestFeed.MAX_RELOAD_ATTEMPTS)).findLatestPublished(any(Pageable.class));
+    }
+
+    private static Posts posts(Long id, PostStatus status, Long version) {
+        return posts(id, status).version(version);
+    }
+
+    private static Posts posts(Long id, PostStatus status) {
+        return new Posts()
+            .id(id)
+            .title("Post " + id)
+            .slug("post-" + id)
+            .publishedAt(Instant.parse("2025-09-18T08:00:00Z").plusSeconds(id))
+            .status(status)
+            .authorLogin("user");
+    }
+
+    private static PostSummary summary(Long id, PostStatus status) {
+        return new PostSummaryDTO(posts(id, status));
+    }
+
+    private static PostSummary published(Long id) {
+        return summary(id, PostStatus.PUBLISHED);
+    }
+}
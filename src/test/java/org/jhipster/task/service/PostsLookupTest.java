@@ -0,0 +1,100 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import org.jhipster.task.config.ApplicationProperties;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.PrimaryReads;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Unit tests for the {@link PostsLookup} class, with a read replica that hasn't caught up with the last change of a post.
+ */
+class PostsLookupTest {
+
+    private static final Long ID = 1L;
+
+    private PostsRepository postsRepository;
+
+    private Cache cache;
+
+    private BiConsumer<String, Object> entityEvicted;
+
+    private PostsLookup postsLookup;
+
+    @BeforeEach
+    void setup() {
+        postsRepository = mock(PostsRepository.class);
+        cache = mock(Cache.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        CacheInvalidationBus cacheInvalidationBus = mock(CacheInvalidationBus.class);
+        postsLookup = new PostsLookup(
+            postsRepository,
+            entityManager,
+            mock(PlatformTransactionManager.class),
+            Runnable::run,
+            new ApplicationProperties(),
+            new JHipsterProperties(),
+            cacheInvalidationBus,
+            new SimpleMeterRegistry()
+        );
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<BiConsumer<String, Object>> receiver = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(cacheInvalidationBus).onEntityEvicted(receiver.capture());
+        entityEvicted = receiver.getValue();
+
+        // the replica still has the first version of the post
+        when(postsRepository.findById(ID)).thenAnswer(invocation -> Optional.of(posts(PrimaryReads.isRequired() ? 2L : 1L)));
+    }
+
+    @Test
+    void readsFromTheReplica() {
+        assertThat(postsLookup.findById(ID)).map(Posts::getVersion).hasValue(1L);
+        verify(cache, never()).evict(any(), any());
+    }
+
+    @Test
+    void readsAgainFromThePrimaryAfterAChange() {
+        postsLookup.onPostsChanged(PostsChangedEvent.updated(posts(2L)));
+
+        assertThat(postsLookup.findById(ID)).map(Posts::getVersion).hasValue(2L);
+        verify(cache).evict(Posts.class, ID);
+        assertThat(PrimaryReads.isRequired()).isFalse();
+    }
+
+    @Test
+    void readsFromTheReplicaOnceItCaughtUp() {
+        postsLookup.onPostsChanged(PostsChangedEvent.updated(posts(1L)));
+
+        assertThat(postsLookup.findById(ID)).map(Posts::getVersion).hasValue(1L);
+        verify(cache, never()).evict(any(), any());
+    }
+
+    @Test
+    void readsFromThePrimaryAfterAChangeOfAnotherInstance() {
+        entityEvicted.accept(Posts.class.getName(), ID);
+
+        assertThat(postsLookup.findById(ID)).map(Posts::getVersion).hasValue(2L);
+        verify(cache).evict(Posts.class, ID);
+    }
+
+    private static Posts posts(Long version) {
+        return new Posts().id(ID).version(version);
+    }
+}
@@ -0,0 +1,144 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.jhipster.task.IntegrationTest;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.repository.PostSummary;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.service.dto.PostSummaryDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares the memory allocated per request reading posts, between a read-write transaction, as {@code PostsResource}
+ * used for every request, and a read-only one, as {@link PostsService} uses for its queries.
+ * <p>
+ * Listing the posts reads the {@link PostSummary} projection of the feed, which Hibernate doesn't keep snapshots of in
+ * either transaction, so it allocates about the same. Loading the posts as entities, as reading a post does, keeps a
+ * snapshot of each of them in a read-write transaction only.
+ */
+@IntegrationTest
+class PostsReadOnlyBenchmarkIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostsReadOnlyBenchmarkIT.class);
+
+    private static final int POST_COUNT = 200;
+
+    private static final int CONTENT_LENGTH = 1024;
+
+    private static final int WARMUP_REQUESTS = 20;
+
+    private static final int REQUESTS = 50;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < POST_COUNT; i++) {
+                Posts posts = new Posts()
+                    .title("Read-only benchmark post " + i)
+                    .slug("read-only-benchmark-post-" + i)
+                    .content("x".repeat(CONTENT_LENGTH))
+                    .publishedAt(Instant.now())
+                    .status(PostStatus.PUBLISHED)
+                    .authorLogin("benchmark");
+                ids.add(postsRepository.save(posts).getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        postsRepository.deleteAllById(ids);
+    }
+
+    @Test
+    void readOnlyTransactionsAllocateLessLoadingEntities() {
+        long readWriteBytes = allocatedPerRequest(readWrite(), this::load);
+        long readOnlyBytes = allocatedPerRequest(readOnly(), this::load);
+
+        LOG.info(
+            "Loading {} posts of {} chars: {} bytes allocated per request in a read-write transaction, {} in a read-only one",
+            POST_COUNT,
+            CONTENT_LENGTH,
+            readWriteBytes,
+            readOnlyBytes
+        );
+        assertThat(readOnlyBytes).isLessThan(readWriteBytes);
+    }
+
+    @Test
+    void readOnlyTransactionsAllocateNoMoreListingTheFeed() {
+        long readWriteBytes = allocatedPerRequest(readWrite(), this::list);
+        long readOnlyBytes = allocatedPerRequest(readOnly(), this::list);
+
+        LOG.info(
+            "Listing {} posts of {} chars: {} bytes allocated per request in a read-write transaction, {} in a read-only one",
+            POST_COUNT,
+            CONTENT_LENGTH,
+            readWriteBytes,
+            readOnlyBytes
+        );
+        // no snapshots either way, allow for the noise of the measure
+        assertThat(readOnlyBytes).isLessThanOrEqualTo(readWriteBytes + readWriteBytes / 10);
+    }
+
+    private TransactionTemplate readWrite() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly;
+    }
+
+    private long allocatedPerRequest(TransactionTemplate transactionTemplate, Consumer<TransactionTemplate> request) {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            request.accept(transactionTemplate);
+        }
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < REQUESTS; i++) {
+            request.accept(transactionTemplate);
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / REQUESTS;
+    }
+
+    private void load(TransactionTemplate transactionTemplate) {
+        int loaded = transactionTemplate.execute(status -> postsRepository.findAllById(ids).size());
+        assertThat(loaded).isEqualTo(POST_COUNT);
+    }
+
+    private void list(TransactionTemplate transactionTemplate) {
+        int listed = transactionTemplate.execute(status -> {
+            try (Stream<PostSummary> rows = postsRepository.streamPublished(PageRequest.ofSize(POST_COUNT))) {
+                return rows.map(PostSummaryDTO::new).toList().size();
+            }
+        });
+        assertThat(listed).isEqualTo(POST_COUNT);
+    }
+}
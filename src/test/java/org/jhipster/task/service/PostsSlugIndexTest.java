@@ -0,0 +1,97 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.repository.PostsSlug;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link PostsSlugIndex} class.
+ */
+class PostsSlugIndexTest {
+
+    private PostsRepository postsRepository;
+
+    private NegativeLookups negativeLookups;
+
+    private PostsSlugIndex postsSlugIndex;
+
+    @BeforeEach
+    void setup() {
+        postsRepository = mock(PostsRepository.class);
+        negativeLookups = mock(NegativeLookups.class);
+        when(negativeLookups.mightExist(eq(NegativeLookups.Filter.POST_SLUGS), any())).thenReturn(true);
+        postsSlugIndex = new PostsSlugIndex(postsRepository, negativeLookups);
+    }
+
+    @Test
+    void resolvesLoadedSlugsWithoutQueryingThem() {
+        when(postsRepository.findAllSlugs()).thenReturn(List.of(slug(1L, "first"), slug(2L, "second")));
+        when(postsRepository.findById(2L)).thenReturn(Optional.of(new Posts().id(2L).slug("second")));
+
+        postsSlugIndex.load();
+
+        assertThat(postsSlugIndex.findBySlug("second")).map(Posts::getId).contains(2L);
+        verify(postsRepository, never()).findIdBySlug(anyString());
+    }
+
+    @Test
+    void followsRenamesAndDeletions() {
+        when(postsRepository.findById(1L)).thenReturn(Optional.of(new Posts().id(1L).slug("after")));
+
+        postsSlugIndex.onPostsChanged(PostsChangedEvent.created(new Posts().id(1L).slug("before")));
+        postsSlugIndex.onPostsChanged(PostsChangedEvent.updated(1L, "after"));
+        postsSlugIndex.onPostsChanged(PostsChangedEvent.updated(1L, null));
+
+        assertThat(postsSlugIndex.findBySlug("after")).map(Posts::getId).contains(1L);
+        verify(postsRepository, never()).findIdBySlug("after");
+        assertThat(postsSlugIndex.findBySlug("before")).isEmpty();
+        verify(postsRepository).findIdBySlug("before");
+
+        postsSlugIndex.onPostsChanged(PostsChangedEvent.deleted(1L));
+
+        assertThat(postsSlugIndex.findBySlug("after")).isEmpty();
+        verify(postsRepository).findIdBySlug("after");
+    }
+
+    @Test
+    void dropsStaleSlugs() {
+        // the slug moved to another post without an event reaching this instance
+        when(postsRepository.findById(1L)).thenReturn(Optional.of(new Posts().id(1L).slug("renamed")));
+        when(postsRepository.findIdBySlug("moved")).thenReturn(Optional.of(2L));
+        when(postsRepository.findById(2L)).thenReturn(Optional.of(new Posts().id(2L).slug("moved")));
+        postsSlugIndex.onPostsChanged(PostsChangedEvent.created(new Posts().id(1L).slug("moved")));
+
+        assertThat(postsSlugIndex.findBySlug("moved")).map(Posts::getId).contains(2L);
+        assertThat(postsSlugIndex.findBySlug("moved")).map(Posts::getId).contains(2L);
+        verify(postsRepository, times(1)).findIdBySlug("moved");
+    }
+
+    @Test
+    void doesNotQuerySlugsKnownMissing() {
+        when(negativeLookups.mightExist(NegativeLookups.Filter.POST_SLUGS, "missing")).thenReturn(false);
+
+        assertThat(postsSlugIndex.findBySlug("missing")).isEmpty();
+        verify(postsRepository, never()).findIdBySlug(anyString());
+    }
+
+    private static PostsSlug slug(Long id, String slug) {
+        return new PostsSlug() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getSlug() {
+                return slug;
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link RefreshAhead} class.
+ */
+class RefreshAheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final List<Long> refreshed = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        refreshed.clear();
+    }
+
+    @Test
+    void refreshesEntriesReadShortlyBeforeTheyExpire() throws InterruptedException {
+        RefreshAhead<Long> refreshAhead = refreshAhead(Duration.ofHours(1), Duration.ofHours(1).minusMillis(1), 10);
+        refreshAhead.accessed(1L);
+        Thread.sleep(5);
+
+        refreshAhead.accessed(1L);
+
+        assertThat(refreshed).containsExactly(1L);
+        assertThat(meterRegistry.get(RefreshAhead.REFRESHES_METER_NAME).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void leavesFreshEntries() {
+        RefreshAhead<Long> refreshAhead = refreshAhead(Duration.ofHours(1), Duration.ofMinutes(5), 10);
+        refreshAhead.accessed(1L);
+
+        refreshAhead.accessed(1L);
+
+        assertThat(refreshed).isEmpty();
+    }
+
+    @Test
+    void forgottenEntriesCountAsLoadedOnTheirNextRead() throws InterruptedException {
+        RefreshAhead<Long> refreshAhead = refreshAhead(Duration.ofHours(1), Duration.ofHours(1).minusMillis(1), 10);
+        refreshAhead.accessed(1L);
+        Thread.sleep(5);
+
+        refreshAhead.forget(1L);
+        refreshAhead.accessed(1L);
+
+        assertThat(refreshed).isEmpty();
+    }
+
+    @Test
+    void onlyTracksUpToTheLimit() throws InterruptedException {
+        RefreshAhead<Long> refreshAhead = refreshAhead(Duration.ofHours(1), Duration.ofHours(1).minusMillis(1), 1);
+        refreshAhead.accessed(1L);
+        refreshAhead.accessed(2L);
+        Thread.sleep(5);
+
+        refreshAhead.accessed(1L);
+        refreshAhead.accessed(2L);
+
+        assertThat(refreshed).containsExactly(1L);
+    }
+
+    @Test
+    void isDisabledWithoutATimeToLive() throws InterruptedException {
+        RefreshAhead<Long> refreshAhead = refreshAhead(null, Duration.ofMinutes(5), 10);
+        refreshAhead.accessed(1L);
+        Thread.sleep(5);
+
+        refreshAhead.accessed(1L);
+
+        assertThat(refreshed).isEmpty();
+    }
+
+    private RefreshAhead<Long> refreshAhead(Duration timeToLive, Duration window, int maxTracked) {
+        return new RefreshAhead<>("posts", timeToLive, window, maxTracked, Runnable::run, refreshed::add, meterRegistry);
+    }
+}
@@ -0,0 +1,97 @@
+package org.jhipster.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link SingleFlight} class.
+ */
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SingleFlight<Long, String> singleFlight;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("posts", Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @Test
+    void concurrentLoadsOfAKeyShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+            singleFlight.load(1L, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "loaded";
+            })
+        );
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> second.complete(singleFlight.load(1L, () -> "loaded again")));
+        waiter.start();
+        while (waiter.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get(SingleFlight.COALESCED_METER_NAME).counter().count()).isEqualTo(1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void waitersLoadThemselvesAfterTheTimeout() throws Exception {
+        SingleFlight<Long, String> impatient = new SingleFlight<>("posts", Duration.ofMillis(10), meterRegistry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+            impatient.load(1L, () -> {
+                loading.countDown();
+                await(release);
+                return "slow";
+            })
+        );
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(impatient.load(1L, () -> "own")).isEqualTo("own");
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        assertThatIllegalStateException().isThrownBy(() ->
+            singleFlight.load(1L, () -> {
+                throw new IllegalStateException("down");
+            })
+        );
+
+        assertThat(singleFlight.load(1L, () -> "up")).isEqualTo("up");
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.jhipster.task.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jhipster.task.IntegrationTest;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.security.AuthoritiesConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@code POST /api/posts/bulk} endpoint of the {@link PostsResource} REST controller.
+ * <p>
+ * Imports are committed chunk by chunk, so these tests are not transactional and delete what they created.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class PostsBulkImportIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostsBulkImportIT.class);
+
+    private static final String BULK_API_URL = "/api/posts/bulk";
+
+    private static final String FAKE_DATA = "config/liquibase/fake-data/posts.csv";
+
+    private static final String AUTHOR_LOGIN = "bulk-import";
+
+    private static final int SINGLE_POST_COUNT = 200;
+
+    private static final int BULK_POST_COUNT = 5_000;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private MockMvc restPostsMockMvc;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() {
+        postsRepository.deleteAllByIdInBatch(createdIds);
+        createdIds.clear();
+    }
+
+    @Test
+    void bulkImportReportsEveryRecord() throws Exception {
+        Map<String, Object> valid = fakePost("report-valid", PostStatus.PUBLISHED.name());
+        Map<String, Object> missingTitle = fakePost("report-missing-title", PostStatus.PUBLISHED.name());
+        missingTitle.remove("title");
+        Map<String, Object> unknownStatus = fakePost("report-unknown-status", "ARCHIVED");
+        Map<String, Object> withId = fakePost("report-with-id", PostStatus.PUBLISHED.name());
+        withId.put("id", 1L);
+        Map<String, Object> missingContent = fakePost("report-missing-content", PostStatus.PUBLISHED.name());
+        missingContent.remove("content");
+
+        String body = restPostsMockMvc
+            .perform(
+                post(BULK_API_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(List.of(valid, missingTitle, unknownStatus, withId, missingContent)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1))
+            .andExpect(jsonPath("$.rejected").value(4))
+            .andExpect(jsonPath("$.records[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.records[1].status").value("INVALID"))
+            .andExpect(jsonPath("$.records[1].errors[0]").value(startsWith("title: ")))
+            .andExpect(jsonPath("$.records[2].status").value("INVALID"))
+            .andExpect(jsonPath("$.records[3].status").value("INVALID"))
+            .andExpect(jsonPath("$.records[4].status").value("INVALID"))
+            .andExpect(jsonPath("$.records[4].errors[0]").value(startsWith("content: ")))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        collectCreatedIds(body);
+
+        assertThat(createdIds).hasSize(1);
+        Posts imported = postsRepository.findById(createdIds.get(0)).orElseThrow();
+        assertThat(imported.getSlug()).isEqualTo("report-valid");
+    }
+
+    @Test
+    void bulkImportRetriesARejectedChunkOneByOne() throws Exception {
+        // the duplicate slug fails the whole chunk, whose posts are then inserted one by one
+        Map<String, Object> first = fakePost("retry-first", PostStatus.PUBLISHED.name());
+        Map<String, Object> duplicate = fakePost("retry-first", PostStatus.PUBLISHED.name());
+        Map<String, Object> last = fakePost("retry-last", PostStatus.DRAFT.name());
+
+        String body = restPostsMockMvc
+            .perform(
+                post(BULK_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(List.of(first, duplicate, last)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.records[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.records[0].id").isNumber())
+            .andExpect(jsonPath("$.records[1].status").value("FAILED"))
+            .andExpect(jsonPath("$.records[1].id").doesNotExist())
+            .andExpect(jsonPath("$.records[2].status").value("CREATED"))
+            .andExpect(jsonPath("$.records[2].id").isNumber())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        collectCreatedIds(body);
+
+        assertThat(createdIds).hasSize(2);
+        assertThat(postsRepository.findAllById(createdIds))
+            .extracting(Posts::getSlug)
+            .containsExactlyInAnyOrder("retry-first", "retry-last");
+    }
+
+    @Test
+    void bulkImportThroughput() throws Exception {
+        List<Map<String, Object>> fakeData = readFakeData();
+
+        // Baseline: one request, one transaction and one insert per post
+        long start = System.nanoTime();
+        for (int i = 0; i < SINGLE_POST_COUNT; i++) {
+            String body = restPostsMockMvc
+                .perform(post("/api/posts").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(scaled(fakeData, i))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+            createdIds.add(om.readTree(body).get("id").asLong());
+        }
+        double singleRate = SINGLE_POST_COUNT / seconds(System.nanoTime() - start);
+
+        // Bulk: the fake data scaled up, streamed as NDJSON
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = SINGLE_POST_COUNT; i < SINGLE_POST_COUNT + BULK_POST_COUNT; i++) {
+            ndjson.append(om.writeValueAsString(scaled(fakeData, i))).append('\n');
+        }
+        start = System.nanoTime();
+        String body = restPostsMockMvc
+            .perform(post(BULK_API_URL).contentType(MediaType.APPLICATION_NDJSON).content(ndjson.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(BULK_POST_COUNT))
+            .andExpect(jsonPath("$.rejected").value(0))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        double bulkRate = BULK_POST_COUNT / seconds(System.nanoTime() - start);
+        collectCreatedIds(body);
+
+        LOG.info("Posts import throughput: {} posts/s one by one, {} posts/s in bulk", (long) singleRate, (long) bulkRate);
+        assertThat(createdIds).hasSize(SINGLE_POST_COUNT + BULK_POST_COUNT);
+        assertThat(bulkRate).isGreaterThan(singleRate);
+    }
+
+    private void collectCreatedIds(String report) throws Exception {
+        for (JsonNode record : om.readTree(report).get("records")) {
+            if (record.hasNonNull("id")) {
+                createdIds.add(record.get("id").asLong());
+            }
+        }
+    }
+
+    private static Map<String, Object> fakePost(String slug, String status) {
+        Map<String, Object> posts = new LinkedHashMap<>();
+        posts.put("title", "Bulk import report");
+        posts.put("slug", slug);
+        posts.put("content", "Imported in bulk");
+        posts.put("publishedAt", Instant.parse("2025-09-18T08:00:00Z").toString());
+        posts.put("status", status);
+        posts.put("authorLogin", AUTHOR_LOGIN);
+        return posts;
+    }
+
+    private static Map<String, Object> scaled(List<Map<String, Object>> fakeData, int i) {
+        Map<String, Object> posts = new LinkedHashMap<>(fakeData.get(i % fakeData.size()));
+        posts.put("slug", posts.get("slug") + "-" + i);
+        posts.put("publishedAt", Instant.parse((String) posts.get("publishedAt")).plusSeconds(i).toString());
+        posts.put("authorLogin", AUTHOR_LOGIN);
+        return posts;
+    }
+
+    private static List<Map<String, Object>> readFakeData() throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        try (
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(FAKE_DATA).getInputStream(), StandardCharsets.UTF_8)
+            )
+        ) {
+            String[] header = reader.readLine().split(";");
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] values = line.split(";");
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (int i = 1; i < header.length; i++) {
+                    row.put(toCamelCase(header[i]), unquote(values[i]));
+                }
+                rows.add(row);
+            }
+        }
+        assertThat(rows).isNotEmpty();
+        return rows;
+    }
+
+    private static String toCamelCase(String column) {
+        int underscore = column.indexOf('_');
+        return underscore < 0
+            ? column
+            : column.substring(0, underscore) + Character.toUpperCase(column.charAt(underscore + 1)) + column.substring(underscore + 2);
+    }
+
+    private static String unquote(String value) {
+        return value.replaceAll("^[\"']|[\"']$", "");
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000d;
+    }
+}
@@ -0,0 +1,160 @@
+package org.jhipster.task.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.jhipster.task.IntegrationTest;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.service.PostsFeedCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@link PostsFeedCache}, counting the statements {@code GET /api/posts} sends to the database.
+ * <p>
+ * Posts are changed through the API, as the cache follows committed changes only.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class PostsFeedCacheIT {
+
+    private static final String ENTITY_API_URL = "/api/posts";
+
+    /**
+     * The revisions of the published posts and of the drafts of the user, read by every request for the {@code ETag}.
+     */
+    private static final long REVISION_STATEMENTS = 2;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private MockMvc restPostsMockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void cleanup() throws Exception {
+        statistics.setStatisticsEnabled(false);
+        for (Long id : createdIds) {
+            restPostsMockMvc.perform(delete(ENTITY_API_URL + "/{id}", id));
+        }
+        createdIds.clear();
+    }
+
+    @Test
+    void repeatedReadsOnlyQueryTheRevision() throws Exception {
+        create(PostStatus.PUBLISHED, "someone-else");
+        create(PostStatus.DRAFT, "user");
+        double hitsBefore = hits(PostsFeedCache.PUBLISHED_PAGES_CACHE);
+
+        long first = statementsToGetTheFeed();
+        long second = statementsToGetTheFeed();
+
+        assertThat(first).isEqualTo(REVISION_STATEMENTS + 2);
+        assertThat(second).isEqualTo(REVISION_STATEMENTS);
+        assertThat(hits(PostsFeedCache.PUBLISHED_PAGES_CACHE)).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    void draftsOfOtherUsersDontInvalidateThePage() throws Exception {
+        create(PostStatus.PUBLISHED, "someone-else");
+        Long otherDraft = create(PostStatus.DRAFT, "someone-else");
+        statementsToGetTheFeed();
+
+        rename(otherDraft);
+
+        assertThat(statementsToGetTheFeed()).isEqualTo(REVISION_STATEMENTS);
+    }
+
+    @Test
+    void ownDraftsOnlyInvalidateTheDrafts() throws Exception {
+        create(PostStatus.PUBLISHED, "someone-else");
+        Long ownDraft = create(PostStatus.DRAFT, "user");
+        statementsToGetTheFeed();
+
+        rename(ownDraft);
+
+        assertThat(statementsToGetTheFeed()).isEqualTo(REVISION_STATEMENTS + 1);
+    }
+
+    @Test
+    void publishingInvalidatesThePublishedPosts() throws Exception {
+        Long otherDraft = create(PostStatus.DRAFT, "someone-else");
+        statementsToGetTheFeed();
+
+        restPostsMockMvc.perform(post(ENTITY_API_URL + "/{id}/publish", otherDraft)).andExpect(status().isNoContent());
+
+        assertThat(statementsToGetTheFeed()).isEqualTo(REVISION_STATEMENTS + 1);
+    }
+
+    private long statementsToGetTheFeed() throws Exception {
+        statistics.clear();
+        restPostsMockMvc.perform(get(ENTITY_API_URL)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private double hits(String cache) {
+        return meterRegistry.get(PostsFeedCache.GETS_METER_NAME).tag("cache", cache).tag("result", "hit").counter().count();
+    }
+
+    private void rename(Long id) throws Exception {
+        Posts posts = new Posts().id(id).title("Renamed " + id);
+        restPostsMockMvc
+            .perform(patch(ENTITY_API_URL + "/{id}", id).contentType("application/merge-patch+json").content(om.writeValueAsBytes(posts)))
+            .andExpect(status().isOk());
+    }
+
+    private Long create(PostStatus status, String authorLogin) throws Exception {
+        Posts posts = new Posts()
+            .title("Cached")
+            .slug("feed-cache-" + System.nanoTime())
+            .content("Cached feed")
+            .publishedAt(Instant.parse("2025-09-18T08:00:00Z"))
+            .status(status)
+            .authorLogin(authorLogin);
+        String body = restPostsMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(posts)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        Long id = om.readTree(body).get("id").asLong();
+        createdIds.add(id);
+        return id;
+    }
+}
@@ -0,0 +1,113 @@
+package org.jhipster.task.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.jhipster.task.IntegrationTest;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.service.dto.PostSummaryDTO;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Compares the size of a {@code GET /api/posts} page serialized by the application's {@link ObjectMapper}, between full
+ * {@link Posts} entities (content included) and the {@link org.jhipster.task.repository.PostSummary} projection it is
+ * served from.
+ * <p>
+ * Only the payload is measured: the time the database takes to read the rows depends on the database and its data, and
+ * isn't compared here.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class PostsListPayloadSizeIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostsListPayloadSizeIT.class);
+
+    private static final int POST_COUNT = 50;
+
+    private static final int CONTENT_LENGTH = 8 * 1024;
+
+    private static final Instant FEED_HEAD = Instant.parse("2999-01-01T00:00:00Z");
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restPostsMockMvc;
+
+    @Test
+    @Transactional
+    void listPayloadSizeWithAndWithoutContent() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Posts posts = new Posts()
+                .title("Benchmark post " + i)
+                .slug("benchmark-post-" + i)
+                .content("x".repeat(CONTENT_LENGTH))
+                .publishedAt(FEED_HEAD.plusSeconds(i))
+                .status(PostStatus.PUBLISHED)
+                .authorLogin("benchmark");
+            ids.add(postsRepository.save(posts).getId());
+        }
+        postsRepository.flush();
+        em.clear();
+
+        // Before: full entities, as the list endpoint used to return them
+        List<Posts> entities = em
+            .createQuery("select p from Posts p where p.id in :ids order by p.publishedAt desc, p.id desc", Posts.class)
+            .setParameter("ids", ids)
+            .getResultList();
+        int entityBytes = om.writeValueAsBytes(entities).length;
+        em.clear();
+
+        // After: the summaries served by the list endpoint
+        byte[] response = restPostsMockMvc
+            .perform(get("/api/posts?limit=" + POST_COUNT))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(POST_COUNT))
+            .andExpect(jsonPath("$.[*].content").doesNotExist())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+        List<PostSummaryDTO> summaries = postsRepository
+            .findPublishedAndOwnDrafts("user", PageRequest.ofSize(POST_COUNT))
+            .stream()
+            .map(PostSummaryDTO::new)
+            .toList();
+        int summaryBytes = om.writeValueAsBytes(summaries).length;
+
+        LOG.info(
+            "GET /api/posts with {} posts of {} chars: {} bytes as entities, {} bytes as summaries",
+            POST_COUNT,
+            CONTENT_LENGTH,
+            entityBytes,
+            summaryBytes
+        );
+        assertThat(response).hasSize(summaryBytes);
+        assertThat(entityBytes).isGreaterThan(POST_COUNT * CONTENT_LENGTH);
+        assertThat(summaryBytes).isLessThan(entityBytes / 10);
+    }
+}
@@ -1,7 +1,9 @@
 package org.jhipster.task.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.jhipster.task.domain.PostsAsserts.*;
 import static org.jhipster.task.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -9,19 +11,30 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
 import org.jhipster.task.IntegrationTest;
 import org.jhipster.task.domain.Posts;
 import org.jhipster.task.domain.enumeration.PostStatus;
 import org.jhipster.task.repository.PostsRepository;
+import org.jhipster.task.security.AuthoritiesConstants;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -53,6 +66,8 @@ class PostsResourceIT {
     private static final String DEFAULT_AUTHOR_LOGIN = "AAAAAAAAAA";
     private static final String UPDATED_AUTHOR_LOGIN = "BBBBBBBBBB";
 
+    private static final Instant FEED_HEAD = Instant.parse("2999-01-01T00:00:00Z");
+
     private static final String ENTITY_API_URL = "/api/posts";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
@@ -75,6 +90,11 @@ class PostsResourceIT {
 
     private Posts insertedPosts;
 
+    /**
+     * Ids of the other posts committed by the tests that aren't transactional.
+     */
+    private final List<Long> committedIds = new ArrayList<>();
+
     /**
      * Create an entity for this test.
      *
@@ -115,9 +135,12 @@ class PostsResourceIT {
     @AfterEach
     void cleanup() {
         if (insertedPosts != null) {
-            postsRepository.delete(insertedPosts);
+            // the inserted entity may have been changed through the API since
+            postsRepository.deleteById(insertedPosts.getId());
             insertedPosts = null;
         }
+        postsRepository.deleteAllByIdInBatch(committedIds);
+        committedIds.clear();
     }
 
     @Test
@@ -159,6 +182,24 @@ class PostsResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    void createPostsWithExistingSlug() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(createEntity());
+
+        long databaseSizeBeforeCreate = getRepositoryCount();
+
+        // A slug belongs to a single post, so this API call must fail
+        restPostsMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(posts)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.slugexists"));
+
+        // Validate the Posts in the database
+        assertSameRepositoryCount(databaseSizeBeforeCreate);
+    }
+
     @Test
     @Transactional
     void checkTitleIsRequired() throws Exception {
@@ -191,6 +232,22 @@ class PostsResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeTest);
     }
 
+    @Test
+    @Transactional
+    void checkContentIsRequired() throws Exception {
+        long databaseSizeBeforeTest = getRepositoryCount();
+        // set the field null
+        posts.setContent(null);
+
+        // Create the Posts, which fails.
+
+        restPostsMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(posts)))
+            .andExpect(status().isBadRequest());
+
+        assertSameRepositoryCount(databaseSizeBeforeTest);
+    }
+
     @Test
     @Transactional
     void checkPublishedAtIsRequired() throws Exception {
@@ -241,6 +298,7 @@ class PostsResourceIT {
 
     @Test
     @Transactional
+    @WithMockUser(DEFAULT_AUTHOR_LOGIN)
     void getAllPosts() throws Exception {
         // Initialize the database
         insertedPosts = postsRepository.saveAndFlush(posts);
@@ -253,12 +311,239 @@ class PostsResourceIT {
             .andExpect(jsonPath("$.[*].id").value(hasItem(posts.getId().intValue())))
             .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)))
             .andExpect(jsonPath("$.[*].slug").value(hasItem(DEFAULT_SLUG)))
-            .andExpect(jsonPath("$.[*].content").value(hasItem(DEFAULT_CONTENT)))
+            .andExpect(jsonPath("$.[*].content").doesNotExist())
             .andExpect(jsonPath("$.[*].publishedAt").value(hasItem(DEFAULT_PUBLISHED_AT.toString())))
             .andExpect(jsonPath("$.[*].status").value(hasItem(DEFAULT_STATUS.toString())))
             .andExpect(jsonPath("$.[*].authorLogin").value(hasItem(DEFAULT_AUTHOR_LOGIN)));
     }
 
+    @Test
+    @Transactional
+    void getAllPostsFollowsCursorLinks() throws Exception {
+        // Initialize the database with posts newer than anything else in the feed
+        Posts newest = postsRepository.saveAndFlush(
+            createEntity().slug("cursor-newest").status(PostStatus.PUBLISHED).publishedAt(FEED_HEAD.plusSeconds(3))
+        );
+        Posts middle = postsRepository.saveAndFlush(
+            createEntity().slug("cursor-middle").status(PostStatus.PUBLISHED).publishedAt(FEED_HEAD.plusSeconds(2))
+        );
+        Posts oldest = postsRepository.saveAndFlush(
+            createEntity().slug("cursor-oldest").status(PostStatus.PUBLISHED).publishedAt(FEED_HEAD.plusSeconds(1))
+        );
+
+        // Get the first page
+        String firstPageLinks = restPostsMockMvc
+            .perform(get(ENTITY_API_URL + "?limit=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$.[0].id").value(newest.getId().intValue()))
+            .andExpect(jsonPath("$.[1].id").value(middle.getId().intValue()))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(header().string(HttpHeaders.LINK, not(containsString("rel=\"prev\""))))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.LINK);
+
+        // Follow the next link
+        String secondPageLinks = restPostsMockMvc
+            .perform(get(ENTITY_API_URL + "?limit=2&cursor=" + extractCursor(firstPageLinks, "next")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(oldest.getId().intValue()))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"prev\"")))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.LINK);
+
+        // Go back with the prev link
+        restPostsMockMvc
+            .perform(get(ENTITY_API_URL + "?limit=2&cursor=" + extractCursor(secondPageLinks, "prev")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$.[0].id").value(newest.getId().intValue()))
+            .andExpect(jsonPath("$.[1].id").value(middle.getId().intValue()))
+            .andExpect(header().string(HttpHeaders.LINK, not(containsString("rel=\"prev\""))));
+    }
+
+    /**
+     * The revisions of the feed are incremented once a change commits, so the tests of its ETag aren't transactional.
+     */
+    @Test
+    void getAllPostsIsNotModifiedUntilTheFeedChanges() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts.status(PostStatus.PUBLISHED));
+
+        String eTag = restPostsMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // Revalidate the unchanged feed
+        restPostsMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""));
+
+        // Change a published post
+        restPostsMockMvc.perform(post(ENTITY_API_URL_ID + "/unpublish", posts.getId())).andExpect(status().isNoContent());
+
+        restPostsMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    void getAllPostsIsModifiedWhenPostsSwapTheirStatus() throws Exception {
+        // Initialize the database
+        Posts otherDraft = postsRepository.saveAndFlush(createEntity().slug("other-draft").authorLogin(UPDATED_AUTHOR_LOGIN));
+        committedIds.add(otherDraft.getId());
+        insertedPosts = postsRepository.saveAndFlush(posts.status(PostStatus.PUBLISHED));
+        committedIds.add(postsRepository.saveAndFlush(createEntity().slug("newest-published").status(PostStatus.PUBLISHED)).getId());
+        restPostsMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, posts.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(new Posts().id(posts.getId()).title(UPDATED_TITLE)))
+            )
+            .andExpect(status().isOk());
+
+        String eTag = restPostsMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // Same number of published posts, with the same versions and the same newest id
+        restPostsMockMvc.perform(post(ENTITY_API_URL_ID + "/unpublish", posts.getId())).andExpect(status().isNoContent());
+        restPostsMockMvc.perform(post(ENTITY_API_URL_ID + "/publish", otherDraft.getId())).andExpect(status().isNoContent());
+
+        restPostsMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    void getAllPostsIsNotModifiedByTheDraftsOfOtherUsers() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts.status(PostStatus.PUBLISHED));
+
+        String eTag = restPostsMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // Create and edit a draft of another user
+        String body = restPostsMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(createEntity().slug("draft-of-another-user").authorLogin(UPDATED_AUTHOR_LOGIN)))
+            )
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        Long draftId = om.readTree(body).get("id").asLong();
+        committedIds.add(draftId);
+        restPostsMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, draftId)
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(new Posts().id(draftId).title(UPDATED_TITLE)))
+            )
+            .andExpect(status().isOk());
+
+        restPostsMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        // Publishing it changes the feed of everyone
+        restPostsMockMvc.perform(post(ENTITY_API_URL_ID + "/publish", draftId)).andExpect(status().isNoContent());
+
+        restPostsMockMvc
+            .perform(get(ENTITY_API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    @Transactional
+    void getAllPostsWithInvalidCursor() throws Exception {
+        restPostsMockMvc.perform(get(ENTITY_API_URL + "?cursor=not-a-cursor")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllPostsWithInvalidLimit() throws Exception {
+        restPostsMockMvc.perform(get(ENTITY_API_URL + "?limit=0")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void exportPosts() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts);
+
+        // Export all the posts
+        String export = restPostsMockMvc
+            .perform(get(ENTITY_API_URL + "/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lines = export.lines().toList();
+        assertThat(lines).hasSize((int) getRepositoryCount());
+        Posts exportedPosts = lines
+            .stream()
+            .map(this::readPosts)
+            .filter(exported -> exported.getId().equals(insertedPosts.getId()))
+            .findFirst()
+            .orElseThrow();
+        assertPostsAllPropertiesEquals(insertedPosts, exportedPosts);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void exportPostsWithGzip() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts);
+
+        // Export all the posts, gzip encoded
+        byte[] export = restPostsMockMvc
+            .perform(get(ENTITY_API_URL + "/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(export))) {
+            String lines = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(lines.lines()).hasSize((int) getRepositoryCount());
+            assertThat(lines).contains("\"id\":" + insertedPosts.getId() + ",");
+        }
+    }
+
+    @Test
+    @Transactional
+    void exportPostsIsForbiddenForUsers() throws Exception {
+        restPostsMockMvc.perform(get(ENTITY_API_URL + "/export")).andExpect(status().isForbidden());
+    }
+
     @Test
     @Transactional
     void getPosts() throws Exception {
@@ -276,7 +561,62 @@ class PostsResourceIT {
             .andExpect(jsonPath("$.content").value(DEFAULT_CONTENT))
             .andExpect(jsonPath("$.publishedAt").value(DEFAULT_PUBLISHED_AT.toString()))
             .andExpect(jsonPath("$.status").value(DEFAULT_STATUS.toString()))
-            .andExpect(jsonPath("$.authorLogin").value(DEFAULT_AUTHOR_LOGIN));
+            .andExpect(jsonPath("$.authorLogin").value(DEFAULT_AUTHOR_LOGIN))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + posts.getVersion() + "\""));
+    }
+
+    @Test
+    @Transactional
+    void getPostsIsNotModifiedUntilItChanges() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts);
+        long version = posts.getVersion();
+        String eTag = "\"" + version + "\"";
+
+        restPostsMockMvc
+            .perform(get(ENTITY_API_URL_ID, posts.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""));
+
+        // Change the post
+        restPostsMockMvc.perform(post(ENTITY_API_URL_ID + "/publish", posts.getId())).andExpect(status().isNoContent());
+
+        restPostsMockMvc
+            .perform(get(ENTITY_API_URL_ID, posts.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+            .andExpect(jsonPath("$.content").value(DEFAULT_CONTENT));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingPostsWithIfNoneMatch() throws Exception {
+        restPostsMockMvc
+            .perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getPostsBySlug() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts);
+
+        // Get the posts
+        restPostsMockMvc
+            .perform(get(ENTITY_API_URL + "/by-slug/{slug}", DEFAULT_SLUG))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(posts.getId().intValue()))
+            .andExpect(jsonPath("$.slug").value(DEFAULT_SLUG))
+            .andExpect(jsonPath("$.content").value(DEFAULT_CONTENT))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + posts.getVersion() + "\""));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingPostsBySlug() throws Exception {
+        restPostsMockMvc.perform(get(ENTITY_API_URL + "/by-slug/{slug}", "no-such-slug")).andExpect(status().isNotFound());
     }
 
     @Test
@@ -319,6 +659,85 @@ class PostsResourceIT {
         assertPersistedPostsToMatchAllProperties(updatedPosts);
     }
 
+    @Test
+    @Transactional
+    void putExistingPostsWithIfMatch() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts);
+        long version = posts.getVersion();
+
+        String eTag = restPostsMockMvc
+            .perform(get(ENTITY_API_URL_ID, posts.getId()))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // Update the posts, the If-Match header takes precedence over the version of the body
+        Posts updatedPosts = createUpdatedEntity().id(posts.getId()).version(null);
+        String newETag = restPostsMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedPosts.getId())
+                    .header(HttpHeaders.IF_MATCH, eTag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedPosts))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.version").value(version + 1))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        assertThat(newETag).isNotEqualTo(eTag);
+        assertPersistedPostsToMatchAllProperties(updatedPosts);
+        assertThat(getPersistedPosts(updatedPosts).getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @Transactional
+    void putStalePosts() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts);
+        String staleETag = "\"" + posts.getVersion() + "\"";
+
+        // A first update bumps the version
+        Posts updatedPosts = createUpdatedEntity().id(posts.getId()).version(posts.getVersion());
+        restPostsMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedPosts.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedPosts))
+            )
+            .andExpect(status().isOk());
+
+        // A second update from the same read is rejected
+        restPostsMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, posts.getId())
+                    .header(HttpHeaders.IF_MATCH, staleETag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(createEntity().id(posts.getId())))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertPersistedPostsToMatchAllProperties(updatedPosts);
+    }
+
+    @Test
+    @Transactional
+    void putWithoutVersionPosts() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts);
+
+        restPostsMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, posts.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(createUpdatedEntity().id(posts.getId())))
+            )
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void putNonExistingPosts() throws Exception {
@@ -382,13 +801,19 @@ class PostsResourceIT {
 
         partialUpdatedPosts.content(UPDATED_CONTENT).publishedAt(UPDATED_PUBLISHED_AT).authorLogin(UPDATED_AUTHOR_LOGIN);
 
+        // The response has the whole posts after the update, not only the patched fields
         restPostsMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedPosts.getId())
                     .contentType("application/merge-patch+json")
                     .content(om.writeValueAsBytes(partialUpdatedPosts))
             )
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value(DEFAULT_TITLE))
+            .andExpect(jsonPath("$.slug").value(DEFAULT_SLUG))
+            .andExpect(jsonPath("$.content").value(UPDATED_CONTENT))
+            .andExpect(jsonPath("$.authorLogin").value(UPDATED_AUTHOR_LOGIN))
+            .andExpect(jsonPath("$.version").value(posts.getVersion() + 1));
 
         // Validate the Posts in the database
 
@@ -430,6 +855,84 @@ class PostsResourceIT {
         assertPostsUpdatableFieldsEquals(partialUpdatedPosts, getPersistedPosts(partialUpdatedPosts));
     }
 
+    @Test
+    @Transactional
+    void patchStalePosts() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts);
+
+        Posts partialUpdatedPosts = new Posts().id(posts.getId()).title(UPDATED_TITLE);
+
+        restPostsMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedPosts.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + (posts.getVersion() + 1) + "\"")
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(partialUpdatedPosts))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(getPersistedPosts(posts).getTitle()).isEqualTo(DEFAULT_TITLE);
+    }
+
+    @Test
+    @Transactional
+    void patchStatusOnlyKeepsContent() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts);
+
+        long version = posts.getVersion();
+        Posts partialUpdatedPosts = new Posts().id(posts.getId()).status(UPDATED_STATUS).version(version);
+
+        restPostsMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedPosts.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(partialUpdatedPosts))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+            .andExpect(jsonPath("$.status").value(UPDATED_STATUS.toString()))
+            .andExpect(jsonPath("$.content").doesNotExist());
+
+        Posts persistedPosts = getPersistedPosts(posts);
+        assertThat(persistedPosts.getStatus()).isEqualTo(UPDATED_STATUS);
+        assertThat(persistedPosts.getContent()).isEqualTo(DEFAULT_CONTENT);
+        assertThat(persistedPosts.getTitle()).isEqualTo(DEFAULT_TITLE);
+    }
+
+    @Test
+    @Transactional
+    void publishAndUnpublishPosts() throws Exception {
+        // Initialize the database
+        insertedPosts = postsRepository.saveAndFlush(posts.status(PostStatus.DRAFT));
+        long version = posts.getVersion();
+
+        restPostsMockMvc
+            .perform(post(ENTITY_API_URL_ID + "/publish", posts.getId()).header(HttpHeaders.IF_MATCH, "\"" + version + "\""))
+            .andExpect(status().isNoContent())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""));
+
+        Posts publishedPosts = getPersistedPosts(posts);
+        assertThat(publishedPosts.getStatus()).isEqualTo(PostStatus.PUBLISHED);
+        assertThat(publishedPosts.getContent()).isEqualTo(DEFAULT_CONTENT);
+        assertThat(publishedPosts.getVersion()).isEqualTo(version + 1);
+
+        // The first version is stale now
+        restPostsMockMvc
+            .perform(post(ENTITY_API_URL_ID + "/unpublish", posts.getId()).header(HttpHeaders.IF_MATCH, "\"" + version + "\""))
+            .andExpect(status().isPreconditionFailed());
+
+        restPostsMockMvc.perform(post(ENTITY_API_URL_ID + "/unpublish", posts.getId())).andExpect(status().isNoContent());
+        assertThat(getPersistedPosts(posts).getStatus()).isEqualTo(PostStatus.DRAFT);
+    }
+
+    @Test
+    @Transactional
+    void publishNonExistingPosts() throws Exception {
+        restPostsMockMvc.perform(post(ENTITY_API_URL_ID + "/publish", Long.MAX_VALUE)).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void patchNonExistingPosts() throws Exception {
@@ -498,10 +1001,24 @@ class PostsResourceIT {
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
     }
 
+    private static String extractCursor(String linkHeader, String relType) {
+        Matcher matcher = Pattern.compile("cursor=([^&>]+)[^,]*rel=\"" + relType + "\"").matcher(linkHeader);
+        assertThat(matcher.find()).as("Link header contains rel=%s", relType).isTrue();
+        return matcher.group(1);
+    }
+
     protected long getRepositoryCount() {
         return postsRepository.count();
     }
 
+    private Posts readPosts(String json) {
+        try {
+            return om.readValue(json, Posts.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     protected void assertIncrementedRepositoryCount(long countBefore) {
         assertThat(countBefore + 1).isEqualTo(getRepositoryCount());
     }
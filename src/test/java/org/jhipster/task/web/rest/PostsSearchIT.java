@@ -0,0 +1,141 @@
+package org.jhipster.task.web.rest;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.jhipster.task.IntegrationTest;
+import org.jhipster.task.domain.Posts;
+import org.jhipster.task.domain.enumeration.PostStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@code GET /api/posts/search} endpoint of {@link PostsResource}.
+ * <p>
+ * Posts are created and deleted through the API, as the index follows committed changes only.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class PostsSearchIT {
+
+    private static final String ENTITY_API_URL = "/api/posts";
+
+    private static final String SEARCH_API_URL = ENTITY_API_URL + "/search";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private MockMvc restPostsMockMvc;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() throws Exception {
+        for (Long id : createdIds) {
+            restPostsMockMvc.perform(delete(ENTITY_API_URL + "/{id}", id));
+        }
+        createdIds.clear();
+    }
+
+    @Test
+    void searchMatchesInflectedGermanWords() throws Exception {
+        Long id = create("Unsere Datenbanken", "Wir migrieren alle Dienste auf Postgres.", PostStatus.PUBLISHED, "search");
+
+        restPostsMockMvc
+            .perform(get(SEARCH_API_URL).param("q", "datenbank"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(id.intValue())))
+            .andExpect(jsonPath("$.[*].content").doesNotExist());
+        restPostsMockMvc
+            .perform(get(SEARCH_API_URL).param("q", "Dienst"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(id.intValue())));
+    }
+
+    @Test
+    void searchRanksTitleMatchesFirst() throws Exception {
+        Long inContent = create("Rückblick", "Die Umstellung auf Kubernetes war aufwendig.", PostStatus.PUBLISHED, "search");
+        Long inTitle = create("Kubernetes im Betrieb", "Erfahrungen aus dem ersten Jahr.", PostStatus.PUBLISHED, "search");
+
+        restPostsMockMvc
+            .perform(get(SEARCH_API_URL).param("q", "kubernetes"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(inTitle.intValue()))
+            .andExpect(jsonPath("$.[1].id").value(inContent.intValue()));
+    }
+
+    @Test
+    void searchMatchesPrefixes() throws Exception {
+        Long id = create("Tech Stack Entscheidung", "Backend mit Spring Boot.", PostStatus.PUBLISHED, "search");
+
+        restPostsMockMvc
+            .perform(get(SEARCH_API_URL).param("q", "entsch*"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(id.intValue())));
+    }
+
+    @Test
+    void searchOnlyFindsPublishedPostsAndOwnDrafts() throws Exception {
+        Long published = create("Sichtbarkeit veröffentlicht", "Zeppelinhangar", PostStatus.PUBLISHED, "someone-else");
+        Long ownDraft = create("Sichtbarkeit eigener Entwurf", "Zeppelinhangar", PostStatus.DRAFT, "user");
+        Long otherDraft = create("Sichtbarkeit fremder Entwurf", "Zeppelinhangar", PostStatus.DRAFT, "someone-else");
+
+        restPostsMockMvc
+            .perform(get(SEARCH_API_URL).param("q", "zeppelinhangar"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(published.intValue())))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(ownDraft.intValue())))
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(otherDraft.intValue()))));
+    }
+
+    @Test
+    void searchFollowsDeletions() throws Exception {
+        Long id = create("Vergänglich", "Luftschlösser", PostStatus.PUBLISHED, "search");
+        restPostsMockMvc
+            .perform(get(SEARCH_API_URL).param("q", "luftschlösser"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(id.intValue())));
+
+        restPostsMockMvc.perform(delete(ENTITY_API_URL + "/{id}", id)).andExpect(status().isNoContent());
+        createdIds.remove(id);
+
+        restPostsMockMvc
+            .perform(get(SEARCH_API_URL).param("q", "luftschlösser"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(id.intValue()))));
+    }
+
+    private Long create(String title, String content, PostStatus status, String authorLogin) throws Exception {
+        Posts posts = new Posts()
+            .title(title)
+            .slug("search-" + System.nanoTime())
+            .content(content)
+            .publishedAt(Instant.parse("2025-09-18T08:00:00Z"))
+            .status(status)
+            .authorLogin(authorLogin);
+        String body = restPostsMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(posts)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        Long id = om.readTree(body).get("id").asLong();
+        createdIds.add(id);
+        return id;
+    }
+}